@@ -0,0 +1,20 @@
+package org.fermented.dairy.caches.annotations;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the annotated method loads several cached values at once, taking a collection or array of keys and returning
+ * a Map of the values by key. The keys found in the cache are served from it and the method is invoked with only the missing
+ * keys, each value it returns is cached under the same cache name used by {@link CacheLoad} for the single key method.
+ * Must be used with the {@link CachedType} annotation to give the cached type of the Map values.
+ */
+@InterceptorBinding
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheLoadAll {
+
+}
@@ -0,0 +1,17 @@
+package org.fermented.dairy.caches.annotations;
+
+import jakarta.interceptor.InterceptorBinding;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Indicates that the value returned by the annotated method should replace the entry mapped by the key in the cache.
+ * This should be used when creating or updating the entity in the underlying source, so that the next load is a cache hit.
+ */
+@InterceptorBinding
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CachePut {
+}
@@ -17,6 +17,41 @@ public @interface Cached {
      */
     long DEFAULT_TTL = -1L;
 
+    /**
+     * Default maximum number of entries to indicate an unset value.
+     */
+    long DEFAULT_MAX_ENTRIES = -1L;
+
+    /**
+     * Default maximum weight to indicate an unset value.
+     */
+    long DEFAULT_MAX_WEIGHT = -1L;
+
+    /**
+     * Default refresh time to indicate an unset value.
+     */
+    long DEFAULT_REFRESH_AFTER = -1L;
+
+    /**
+     * Default stale-if-error window to indicate an unset value.
+     */
+    long DEFAULT_STALE_IF_ERROR = -1L;
+
+    /**
+     * Default negative TTL to indicate an unset value.
+     */
+    long DEFAULT_NEGATIVE_TTL = -1L;
+
+    /**
+     * Default batch window to indicate an unset value.
+     */
+    long DEFAULT_BATCH_WINDOW = -1L;
+
+    /**
+     * Default maximum batch size to indicate an unset value.
+     */
+    int DEFAULT_MAX_BATCH_SIZE = -1;
+
     /**
      * The cache provider name to use as the default for this type.
      * If set to empty String, then the interceptor should use either the value from the config or the default.
@@ -40,4 +75,92 @@ public @interface Cached {
      * @return the time to live for the cached objects of this type (in milliseconds).
      */
     long ttlMilliSeconds() default DEFAULT_TTL;
+
+    /**
+     * The maximum number of entries held in the cache for this type, when exceeded entries are evicted by the cache provider.
+     * If set to the default, then the interceptor should use either the value from the config or leave the cache unbounded.
+     *
+     * @return the maximum number of entries for the cache of this type.
+     */
+    long maxEntries() default DEFAULT_MAX_ENTRIES;
+
+    /**
+     * The maximum total weight of the entries held in the cache for this type, when exceeded entries are evicted by the cache provider.
+     * Takes precedence over {@link #maxEntries()}.
+     * If set to the default, then the interceptor should use either the value from the config or leave the cache unbounded by weight.
+     *
+     * @return the maximum total weight for the cache of this type.
+     */
+    long maxWeight() default DEFAULT_MAX_WEIGHT;
+
+    /**
+     * The class of the weigher calculating the weight of each entry, it must implement
+     * {@code org.fermented.dairy.caches.api.functions.Weigher} and have a public no argument constructor.
+     * If set to the default ({@code Void.class}), then the interceptor should use either the value from the config or weigh every entry as 1.
+     *
+     * @return the weigher class for the cache of this type.
+     */
+    Class<?> weigher() default Void.class;
+
+    /**
+     * How strongly the cache holds on to values of this type: "strong", "soft" or "weak".
+     * If set to the default (empty String), then the interceptor should use either the value from the config or "strong".
+     *
+     * @return the reference strength for the values of this type.
+     */
+    String valueStrength() default "";
+
+    /**
+     * Whether the cache for this type records hit, miss, load and eviction statistics.
+     * The config value, if set, takes precedence over the annotation.
+     *
+     * @return true if the cache of this type records statistics.
+     */
+    boolean recordStats() default false;
+
+    /**
+     * The time (in milliseconds) after a value of this type is written that the first read reloads it in the background.
+     * Readers keep getting the current value until the reload completes, values still expire at the time to live.
+     * If set to the default, then the interceptor should use either the value from the config or not refresh values.
+     *
+     * @return the refresh time for the cached objects of this type (in milliseconds).
+     */
+    long refreshAfterMilliSeconds() default DEFAULT_REFRESH_AFTER;
+
+    /**
+     * The time (in milliseconds) after a value of this type expires that it is still returned if reloading it fails.
+     * Reloads are backed off after a failure, the stale value is returned in the meantime.
+     * If set to the default, then the interceptor should use either the value from the config or propagate the failure.
+     *
+     * @return the stale-if-error window for the cached objects of this type (in milliseconds).
+     */
+    long staleIfErrorMilliSeconds() default DEFAULT_STALE_IF_ERROR;
+
+    /**
+     * The time to live (in milliseconds) of an absent result for this type, a load returning null or an empty Optional.
+     * Lookups of the key return the absent result without invoking the method until it expires, it is usually shorter than
+     * the time to live of values.
+     * If set to the default, then the interceptor should use either the value from the config or not cache absent results.
+     *
+     * @return the time to live for absent results of this type (in milliseconds).
+     */
+    long negativeTtlMilliSeconds() default DEFAULT_NEGATIVE_TTL;
+
+    /**
+     * The time (in milliseconds) misses for this type are collected for before they are loaded together, with a single call to
+     * the bulk loader registered with the cache provider for the cache. Misses are loaded on their own if no bulk loader is
+     * registered.
+     * If set to the default, then the interceptor should use either the value from the config or not collect misses.
+     *
+     * @return the batch window for the cached objects of this type (in milliseconds).
+     */
+    long batchWindowMilliSeconds() default DEFAULT_BATCH_WINDOW;
+
+    /**
+     * The number of collected misses for this type that loads the batch without waiting for the end of the batch window.
+     * If set to the default, then the interceptor should use either the value from the config or the provider default.
+     *
+     * @return the maximum batch size for the cached objects of this type.
+     */
+    int maxBatchSize() default DEFAULT_MAX_BATCH_SIZE;
 }
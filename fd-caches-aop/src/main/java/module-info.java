@@ -6,6 +6,8 @@ module fd.caches.aop {
     requires fd.caches.api;
     requires spring.context;
     requires fd.caches.annotations;
+    requires static micrometer.core;
     exports org.fermented.dairy.caches.aspects;
+    exports org.fermented.dairy.caches.aspects.metrics;
     opens org.fermented.dairy.caches.aspects to spring.core;
 }
\ No newline at end of file
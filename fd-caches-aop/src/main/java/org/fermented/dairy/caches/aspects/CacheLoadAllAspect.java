@@ -0,0 +1,60 @@
+package org.fermented.dairy.caches.aspects;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.fermented.dairy.caches.api.functions.ArgumentsProceeder;
+import org.fermented.dairy.caches.api.functions.Proceeder;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.handlers.AbstractCacheHandler;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+public class CacheLoadAllAspect extends AbstractCacheHandler {
+
+    /**
+     * Constructor without metrics.
+     *
+     * @param environment the {@link Environment Environment} to use when querying key-value pairs
+     * @param cacheProviders all {@link CacheProvider CacheProviders} to use
+     */
+    public CacheLoadAllAspect(final Environment environment,
+                              final List<CacheProvider> cacheProviders) {
+        super(SpringConfig.using(environment), cacheProviders);
+    }
+
+    /**
+     * DI friendly Constructor.
+     *
+     * @param environment the {@link Environment Environment} to use when querying key-value pairs
+     * @param cacheProviders all {@link CacheProvider CacheProviders} to use
+     * @param metrics the {@link CacheMetrics} bean, metrics are not recorded if there is none
+     */
+    @Autowired
+    public CacheLoadAllAspect(final Environment environment,
+                              final List<CacheProvider> cacheProviders,
+                              final ObjectProvider<CacheMetrics> metrics) {
+        super(SpringConfig.using(environment), cacheProviders, metrics.getIfAvailable());
+    }
+
+    @Around("@annotation(org.fermented.dairy.caches.annotations.CacheLoadAll)")
+    public Object loadAllIntoCache(final ProceedingJoinPoint jp) throws Throwable {
+
+        final MethodSignature methodSignature = (MethodSignature) jp.getSignature();
+        final Method method = methodSignature.getMethod();
+        final Object[] params = jp.getArgs();
+        final Proceeder<Object> proceeder = jp::proceed;
+        final ArgumentsProceeder<Object> argumentsProceeder = jp::proceed;
+
+        return getAllFromCacheOrLoad(method, jp.getThis(), proceeder, params, argumentsProceeder);
+
+    }
+}
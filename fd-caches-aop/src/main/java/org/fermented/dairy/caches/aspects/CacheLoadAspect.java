@@ -10,6 +10,8 @@ import org.fermented.dairy.caches.api.functions.Loader;
 import org.fermented.dairy.caches.api.functions.Proceeder;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
 import org.fermented.dairy.caches.handlers.AbstractCacheHandler;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
@@ -19,17 +21,30 @@ import org.springframework.stereotype.Component;
 public class CacheLoadAspect extends AbstractCacheHandler {
 
     /**
-     * DI friendly Constructor.
+     * Constructor without metrics.
      *
      * @param environment the {@link Environment Environment} to use when querying key-value pairs
      * @param cacheProviders all {@link CacheProvider CacheProviders} to use
      */
-    @Autowired
     public CacheLoadAspect(final Environment environment,
                            final List<CacheProvider> cacheProviders) {
         super(SpringConfig.using(environment), cacheProviders);
     }
 
+    /**
+     * DI friendly Constructor.
+     *
+     * @param environment the {@link Environment Environment} to use when querying key-value pairs
+     * @param cacheProviders all {@link CacheProvider CacheProviders} to use
+     * @param metrics the {@link CacheMetrics} bean, metrics are not recorded if there is none
+     */
+    @Autowired
+    public CacheLoadAspect(final Environment environment,
+                           final List<CacheProvider> cacheProviders,
+                           final ObjectProvider<CacheMetrics> metrics) {
+        super(SpringConfig.using(environment), cacheProviders, metrics.getIfAvailable());
+    }
+
     @Around("@annotation(org.fermented.dairy.caches.annotations.CacheLoad)")
     public Object loadIntoCache(final ProceedingJoinPoint jp) throws Throwable {
 
@@ -40,7 +55,7 @@ public class CacheLoadAspect extends AbstractCacheHandler {
         final Loader<Object, Object> loader = param -> jp.proceed();
         final Proceeder<Object> proceeder = jp::proceed;
 
-        return getFromCacheOrLoad(returnedClass, method, proceeder, params, loader);
+        return getFromCacheOrLoad(returnedClass, method, jp.getThis(), proceeder, params, loader);
 
     }
 }
@@ -0,0 +1,134 @@
+package org.fermented.dairy.caches.aspects.metrics;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.records.EvictionCause;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.CacheStatsSampler;
+import org.fermented.dairy.caches.handlers.InvocationTimer;
+
+/**
+ * Registers Micrometer meters for the caches and intercepted methods used by the cache aspects.
+ * Caches recording statistics get function counters, a function timer and gauges tagged with the provider and cache name,
+ * which read the provider's statistics when scraped.
+ * Each intercepted method gets two timers, tagged with the class, method and cache name, separating the time spent in the
+ * cache from the time spent in the intercepted method.
+ * Not a Spring component so that the aspects can be used without Micrometer, enable it with a bean:
+ * <pre>{@code
+ * @Bean
+ * public CacheMetrics cacheMetrics(final MeterRegistry registry) {
+ *     return new MicrometerCacheMetrics(registry);
+ * }
+ * }</pre>
+ */
+public class MicrometerCacheMetrics implements CacheMetrics {
+
+    private static final String PREFIX = "fd.caches.";
+
+    private final MeterRegistry registry;
+
+    /**
+     * The samplers read by the registered meters, held here as function meters only hold weak references to them.
+     */
+    private final Map<CacheId, CacheStatsSampler> samplers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param registry the registry to register the meters with
+     */
+    public MicrometerCacheMetrics(final MeterRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public void registerCache(final CacheProvider provider, final String cacheName, final CacheSettings settings) {
+        final CacheStatsSampler sampler = new CacheStatsSampler(provider, cacheName);
+        if (!settings.recordStats() || samplers.putIfAbsent(new CacheId(provider.getProviderName(), cacheName), sampler) != null) {
+            return;
+        }
+        final Tags tags = Tags.of("provider", provider.getProviderName(), "cache", cacheName);
+
+        counter("gets", "The number of cache lookups", sampler, CacheStats::hitCount, tags.and("result", "hit"));
+        counter("gets", "The number of cache lookups", sampler, CacheStats::missCount, tags.and("result", "miss"));
+        counter("negative.hits", "The number of cache lookups that returned a cached absent result", sampler,
+                CacheStats::negativeHitCount, tags);
+        counter("loads", "The number of values loaded", sampler, CacheStats::loadSuccessCount, tags.and("result", "success"));
+        counter("loads", "The number of values loaded", sampler, CacheStats::loadFailureCount, tags.and("result", "failure"));
+        FunctionTimer.builder(PREFIX + "load.duration",
+                        sampler,
+                        s -> s.stats().loadSuccessCount() + s.stats().loadFailureCount(),
+                        s -> s.stats().totalLoadTimeNanos(),
+                        TimeUnit.NANOSECONDS)
+                .description("The time spent loading values")
+                .tags(tags)
+                .register(registry);
+        for (final EvictionCause cause : EvictionCause.values()) {
+            counter("evictions", "The number of entries removed by the cache", sampler, stats -> stats.evictionCount(cause),
+                    tags.and("cause", cause.name().toLowerCase(Locale.ROOT)));
+        }
+        Gauge.builder(PREFIX + "size", sampler, s -> s.stats().size())
+                .description("The number of entries in the cache")
+                .tags(tags)
+                .register(registry);
+        Gauge.builder(PREFIX + "weight", sampler, CacheStatsSampler::weight)
+                .description("The total weight of the entries in the cache")
+                .tags(tags)
+                .register(registry);
+    }
+
+    @Override
+    public InvocationTimer registerMethod(final Method method, final CacheProvider provider, final String cacheName) {
+        final Tags tags = Tags.of(
+                "class", method.getDeclaringClass().getCanonicalName(),
+                "method", method.getName(),
+                "cache", cacheName);
+        final Timer cacheTimer = Timer.builder(PREFIX + "method.cache")
+                .description("Time spent in the cache by intercepted methods")
+                .tags(tags)
+                .register(registry);
+        final Timer invocationTimer = Timer.builder(PREFIX + "method.invocation")
+                .description("Time spent in intercepted methods on cache misses")
+                .tags(tags)
+                .register(registry);
+        return new InvocationTimer() {
+            @Override
+            public void recordCached(final long cacheNanos) {
+                cacheTimer.record(cacheNanos, TimeUnit.NANOSECONDS);
+            }
+
+            @Override
+            public void recordInvoked(final long cacheNanos, final long methodNanos) {
+                cacheTimer.record(cacheNanos, TimeUnit.NANOSECONDS);
+                invocationTimer.record(methodNanos, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    private void counter(final String name,
+                         final String description,
+                         final CacheStatsSampler sampler,
+                         final ToDoubleFunction<CacheStats> metric,
+                         final Tags tags) {
+        FunctionCounter.builder(PREFIX + name, sampler, s -> metric.applyAsDouble(s.stats()))
+                .description(description)
+                .tags(tags)
+                .register(registry);
+    }
+
+    private record CacheId(String providerName, String cacheName) {}
+}
@@ -5,7 +5,9 @@ import org.fermented.dairy.caches.api.interfaces.CacheProvider;
 import org.fermented.dairy.caches.aspects.utils.AspectUtils;
 import org.fermented.dairy.caches.interceptors.beans.CacheBean;
 import org.fermented.dairy.caches.interceptors.entities.CacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.CompositeKeyRecord;
 import org.fermented.dairy.caches.interceptors.entities.DefaultCacheEntityClass;
+import org.fermented.dairy.caches.interceptors.entities.GetterCachedBean;
 import org.fermented.dairy.caches.interceptors.entities.NamedCachedBean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,11 +19,14 @@ import org.springframework.core.env.Environment;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Collection;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -358,4 +363,100 @@ class CacheDeleteAspectTest {
         verify(defaultCacheProvider).removeValue(CacheRecord.class.getCanonicalName(), 1L);
     }
 
-}
\ No newline at end of file
+    @DisplayName("""
+            The intercepted method has a single parameter that is a cached bean with a key getter, delete in default cacheProvider
+             Method: GetterCachedBean deleteGetter(GetterCachedBean toDelete)\s
+            """)
+    @Test
+    void defaultDeleteSingleParamCachedBeanWithGetter() throws Throwable {
+
+        final Method interceptedMethod = CacheBean.class.getMethod("deleteGetter", GetterCachedBean.class);
+        final GetterCachedBean expectedObject = new GetterCachedBean(1L);
+        final Object actual = cacheDeleteAspect.deleteFromCache(
+                AspectUtils.getProceedingJoinPoint(
+                        interceptedMethod,
+                        expectedObject,
+                        expectedObject)
+        );
+        assertSame(actual, expectedObject, "Incorrect object returned");
+        verify(defaultCacheProvider).removeValue(GetterCachedBean.class.getCanonicalName(), 1L);
+    }
+
+    @DisplayName("""
+            The intercepted method has a single parameter that is a collection of keys, delete in default cacheProvider
+             with one provider call for all keys
+             Method: DefaultCacheEntityClass deleteAllDefault(Collection<Long> keys)\s
+            """)
+    @Test
+    void defaultDeleteCollectionOfKeys() throws Throwable {
+
+        final Method interceptedMethod = CacheBean.class.getMethod("deleteAllDefault", Collection.class);
+        final Object actual = cacheDeleteAspect.deleteFromCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, null, List.of(1L, 2L, 3L)));
+        assertNull(actual, "Incorrect object returned");
+        verify(defaultCacheProvider).removeValues(DefaultCacheEntityClass.class.getCanonicalName(), List.of(1L, 2L, 3L));
+        verify(defaultCacheProvider, never()).removeValue(any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method has 2 parameters, one is an array of keys annotated as the key, delete in named cacheProvider
+             Method: NamedCachedBean deleteAllNamed(Object ignoredDummy, @CacheKey Long[] keys)\s
+            """)
+    @Test
+    void namedDeleteArrayOfKeysWithAnnotation() throws Throwable {
+
+        final Method interceptedMethod = CacheBean.class.getMethod("deleteAllNamed", Object.class, Long[].class);
+        cacheDeleteAspect.deleteFromCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, null, new Object(), new Long[] {1L, 2L}));
+        verify(cacheProvider1).removeValues("overriddenCacheName", List.of(1L, 2L));
+    }
+
+    @DisplayName("""
+            The intercepted method has a single parameter that is a list of cached records, delete in default cacheProvider
+             using the key of each record
+             Method: DefaultCacheEntityClass deleteAllRecords(List<CacheRecord> toDelete)\s
+            """)
+    @Test
+    void defaultDeleteListOfCachedRecords() throws Throwable {
+
+        final Method interceptedMethod = CacheBean.class.getMethod("deleteAllRecords", List.class);
+        cacheDeleteAspect.deleteFromCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, null, List.of(new CacheRecord(1L), new CacheRecord(2L))));
+        verify(defaultCacheProvider).removeValues(CacheRecord.class.getCanonicalName(), List.of(1L, 2L));
+    }
+
+    @DisplayName("""
+            The intercepted method has multiple parameters, one is an array of cached records, delete in default cacheProvider
+             Method: DefaultCacheEntityClass deleteAllRecords(Long ignoredDummy, CacheRecord[] toDelete)\s
+            """)
+    @Test
+    void defaultDeleteArrayOfCachedRecords() throws Throwable {
+
+        final Method interceptedMethod = CacheBean.class.getMethod("deleteAllRecords", Long.class, CacheRecord[].class);
+        cacheDeleteAspect.deleteFromCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, null, 5L, new CacheRecord[] {new CacheRecord(1L), new CacheRecord(2L)}));
+        verify(defaultCacheProvider).removeValues(CacheRecord.class.getCanonicalName(), List.of(1L, 2L));
+    }
+
+    @DisplayName("""
+            The intercepted method has a single parameter that is an empty collection of keys, the provider is not called
+             Method: DefaultCacheEntityClass deleteAllDefault(Collection<Long> keys)\s
+            """)
+    @Test
+    void defaultDeleteEmptyCollectionOfKeys() throws Throwable {
+
+        final Method interceptedMethod = CacheBean.class.getMethod("deleteAllDefault", Collection.class);
+        cacheDeleteAspect.deleteFromCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, null, List.of()));
+        verify(defaultCacheProvider, never()).removeValues(any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method has a single parameter that is a List key of a cache keyed by Lists, the List should be
+             removed as a single key rather than as a collection of keys
+             Method: CompositeKeyRecord deleteComposite(List<String> key)\s
+            """)
+    @Test
+    void deleteCollectionTypedSingleKey() throws Throwable {
+
+        final Method interceptedMethod = CacheBean.class.getMethod("deleteComposite", List.class);
+        cacheDeleteAspect.deleteFromCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, null, List.of("a", "b")));
+        verify(defaultCacheProvider).removeValue(CompositeKeyRecord.class.getCanonicalName(), List.of("a", "b"));
+        verify(defaultCacheProvider, never()).removeValues(any(), any());
+    }
+}
@@ -0,0 +1,142 @@
+package org.fermented.dairy.caches.aspects;
+
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.aspects.utils.AspectUtils;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.InvocationTimer;
+import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.fermented.dairy.caches.interceptors.entities.StatsCacheRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.env.Environment;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheLoadAspectMetricsTest {
+
+    private static final String CACHE_NAME = StatsCacheRecord.class.getCanonicalName();
+
+    CacheLoadAspect cacheLoadAspect;
+
+    @Mock
+    CacheProvider defaultCacheProvider;
+
+    @Mock
+    ObjectProvider<CacheMetrics> metricsProvider;
+
+    @Mock
+    CacheMetrics metrics;
+
+    @Mock
+    InvocationTimer timer;
+
+    @Mock
+    Environment environment;
+
+    Method interceptedMethod;
+
+    @BeforeEach
+    void init() throws NoSuchMethodException {
+        interceptedMethod = CacheBean.class.getMethod("statsLoad", Long.class);
+        lenient().when(defaultCacheProvider.getProviderName()).thenReturn("default");
+        lenient().when(environment.getProperty("fd.config.cache.provider.default", String.class))
+                .thenReturn("default");
+        lenient().when(metricsProvider.getIfAvailable()).thenReturn(metrics);
+        lenient().when(metrics.registerMethod(interceptedMethod, defaultCacheProvider, CACHE_NAME)).thenReturn(timer);
+        cacheLoadAspect = new CacheLoadAspect(environment, List.of(defaultCacheProvider), metricsProvider);
+    }
+
+    @DisplayName("""
+            A CacheMetrics bean is available and the intercepted method is invoked on a cache miss.
+             The cache and method should be registered once
+             and the time spent in the cache and in the method should be recorded for each invocation.
+             Method: StatsCacheRecord statsLoad(Long param)
+            """)
+    @Test
+    void cacheMissRecordsCacheAndMethodTime() throws Throwable {
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object first = cacheLoadAspect.loadIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, new StatsCacheRecord(1L), 1L));
+        cacheLoadAspect.loadIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, new StatsCacheRecord(2L), 2L));
+
+        assertEquals(new StatsCacheRecord(1L), first);
+        verify(metrics).registerCache(eq(defaultCacheProvider), eq(CACHE_NAME), any(CacheSettings.class));
+        verify(metrics).registerMethod(interceptedMethod, defaultCacheProvider, CACHE_NAME);
+        verify(timer, times(2)).recordInvoked(anyLong(), anyLong());
+        verify(timer, never()).recordCached(anyLong());
+    }
+
+    @DisplayName("""
+            A CacheMetrics bean is available and the value is served from the cache.
+             Only the time spent in the cache should be recorded.
+             Method: StatsCacheRecord statsLoad(Long param)
+            """)
+    @Test
+    void cacheHitRecordsCacheTime() throws Throwable {
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenReturn(new StatsCacheRecord(5L));
+
+        final Object actual = cacheLoadAspect.loadIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, new StatsCacheRecord(1L), 1L));
+
+        assertEquals(new StatsCacheRecord(5L), actual);
+        verify(timer).recordCached(anyLong());
+        verify(timer, never()).recordInvoked(anyLong(), anyLong());
+    }
+
+    @DisplayName("""
+            No CacheMetrics bean is available.
+             The value should be loaded without registering any metrics.
+             Method: StatsCacheRecord statsLoad(Long param)
+            """)
+    @Test
+    void noMetricsBean() throws Throwable {
+        when(metricsProvider.getIfAvailable()).thenReturn(null);
+        cacheLoadAspect = new CacheLoadAspect(environment, List.of(defaultCacheProvider), metricsProvider);
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadAspect.loadIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod, new StatsCacheRecord(1L), 1L));
+
+        assertEquals(new StatsCacheRecord(1L), actual);
+        verify(metrics, never()).registerCache(any(), any(), any());
+        verify(metrics, never()).registerMethod(any(), any(), any());
+    }
+}
@@ -0,0 +1,197 @@
+package org.fermented.dairy.caches.aspects;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.fermented.dairy.caches.api.exceptions.CacheException;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.aspects.utils.AspectUtils;
+import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.fermented.dairy.caches.interceptors.entities.CacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.DefaultCacheEntityClass;
+import org.fermented.dairy.caches.interceptors.entities.NamedCachedBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachePutAspectTest {
+
+    private static final String CACHE_NAME = DefaultCacheEntityClass.class.getCanonicalName();
+
+    CachePutAspect cachePutAspect;
+
+    @Mock
+    CacheProvider defaultCacheProvider;
+
+    @Mock
+    CacheProvider cacheProvider1;
+
+    @Mock
+    Environment environment;
+
+    @BeforeEach
+    void init() {
+        lenient().when(defaultCacheProvider.getProviderName()).thenReturn("default");
+        lenient().when(cacheProvider1.getProviderName()).thenReturn("cache1");
+        lenient().when(environment.getProperty("fd.config.cache.provider.default", String.class))
+                .thenReturn("default");
+        lenient().when(environment.getProperty("fd.config.cache.ttl.default", Long.class))
+                .thenReturn(3000L);
+        cachePutAspect = new CachePutAspect(environment, List.of(cacheProvider1, defaultCacheProvider));
+    }
+
+    @DisplayName("""
+            The intercepted method takes the key as its only parameter.
+             The returned value should replace the value cached for the key, after the cache is configured.
+             Method: DefaultCacheEntityClass putDefault(Long key)
+            """)
+    @Test
+    void onlyParameterIsKey() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putDefault", Long.class);
+
+        final Object actual = cachePutAspect.putIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod,
+                new DefaultCacheEntityClass(1L), 1L));
+
+        assertEquals(new DefaultCacheEntityClass(1L), actual);
+        verify(defaultCacheProvider).configureCache(CACHE_NAME, CacheSettings.defaults());
+        verify(defaultCacheProvider).put(1L, new DefaultCacheEntityClass(1L), CACHE_NAME, 3000L, Long.class, DefaultCacheEntityClass.class);
+    }
+
+    @DisplayName("""
+            The intercepted method has a parameter annotated with CacheKey.
+             The returned value should be put with the cache name, provider and ttl of the returned type.
+             Method: NamedCachedBean putNamed(Object ignoredDummy, @CacheKey Long key)
+            """)
+    @Test
+    void annotatedParameterIsKey() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putNamed", Object.class, Long.class);
+
+        cachePutAspect.putIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod,
+                new NamedCachedBean(2L), new Object(), 2L));
+
+        verify(cacheProvider1).put(2L, new NamedCachedBean(2L), "overriddenCacheName", 10L, Long.class, NamedCachedBean.class);
+        verify(defaultCacheProvider, never()).put(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method takes a cached bean.
+             The returned value should be put under the key of the bean passed in.
+             Method: CacheRecord putRecord(CacheRecord toSave)
+            """)
+    @Test
+    void cachedBeanParameterIsKey() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putRecord", CacheRecord.class);
+
+        cachePutAspect.putIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod,
+                new CacheRecord(5L), new CacheRecord(5L)));
+
+        verify(defaultCacheProvider).put(5L, new CacheRecord(5L), CacheRecord.class.getCanonicalName(), 3000L, Long.class, CacheRecord.class);
+    }
+
+    @DisplayName("""
+            The intercepted method has no key parameter and returns a cached bean.
+             The returned value should be put under its own key.
+             Method: DefaultCacheEntityClass createDefault(String ignoredPayload, Long ignoredOwner)
+            """)
+    @Test
+    void returnedBeanIsKey() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("createDefault", String.class, Long.class);
+
+        cachePutAspect.putIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod,
+                new DefaultCacheEntityClass(7L), "payload", 3L));
+
+        verify(defaultCacheProvider).put(7L, new DefaultCacheEntityClass(7L), CACHE_NAME, 3000L, Long.class, DefaultCacheEntityClass.class);
+    }
+
+    @DisplayName("""
+            The intercepted method returns an Optional and is annotated with CachedType.
+             A present value should be unwrapped and put, an empty Optional should remove the value cached for the key.
+             Method: Optional<DefaultCacheEntityClass> putOptional(Long key)
+            """)
+    @Test
+    void optionalIsUnwrapped() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putOptional", Long.class);
+
+        final Object present = cachePutAspect.putIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod,
+                Optional.of(new DefaultCacheEntityClass(1L)), 1L));
+        final Object empty = cachePutAspect.putIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod,
+                Optional.empty(), 2L));
+
+        assertAll("assert the Optionals are returned",
+                () -> assertEquals(Optional.of(new DefaultCacheEntityClass(1L)), present),
+                () -> assertEquals(Optional.empty(), empty));
+        verify(defaultCacheProvider).put(1L, new DefaultCacheEntityClass(1L), CACHE_NAME, 3000L, Long.class, DefaultCacheEntityClass.class);
+        verify(defaultCacheProvider).removeValue(CACHE_NAME, 2L);
+    }
+
+    @DisplayName("""
+            The intercepted method throws an exception.
+             The exception should be propagated and nothing put in the cache.
+             Method: DefaultCacheEntityClass putDefault(Long key)
+            """)
+    @Test
+    void failedMethodIsNotPut() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putDefault", Long.class);
+        final ProceedingJoinPoint jp = AspectUtils.getProceedingJoinPoint(interceptedMethod, null, 1L);
+        doThrow(new IOException("write failed")).when(jp).proceed();
+
+        assertThrows(IOException.class, () -> cachePutAspect.putIntoCache(jp));
+        verify(defaultCacheProvider, never()).put(any(), any(), any(), anyLong(), any(), any());
+        verify(defaultCacheProvider, never()).removeValue(any(), any());
+    }
+
+    @DisplayName("""
+            Caching is disabled in config for the returned type.
+             The method should be invoked without using the cache.
+             Method: DefaultCacheEntityClass putDefault(Long key)
+            """)
+    @Test
+    void disabledCacheInvokesMethod() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putDefault", Long.class);
+        when(environment.getProperty("fd.config.cache." + CACHE_NAME + ".disabled", Boolean.class))
+                .thenReturn(true);
+
+        final Object actual = cachePutAspect.putIntoCache(AspectUtils.getProceedingJoinPoint(interceptedMethod,
+                new DefaultCacheEntityClass(1L), 1L));
+
+        assertEquals(new DefaultCacheEntityClass(1L), actual);
+        verify(defaultCacheProvider, never()).configureCache(any(), any());
+        verify(defaultCacheProvider, never()).put(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method returns a CompletableFuture.
+             A CacheException should be thrown before the method is invoked.
+             Method: CompletableFuture<DefaultCacheEntityClass> putAsync(Long key)
+            """)
+    @Test
+    void completableFutureIsNotSupported() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putAsync", Long.class);
+        final ProceedingJoinPoint jp = AspectUtils.getProceedingJoinPoint(interceptedMethod, null, 1L);
+
+        final CacheException exception = assertThrows(CacheException.class, () -> cachePutAspect.putIntoCache(jp));
+        assertEquals("putAsync returns a java.util.concurrent.CompletableFuture, only values and Optionals are supported when putting",
+                exception.getMessage());
+        verify(jp, never()).proceed();
+    }
+}
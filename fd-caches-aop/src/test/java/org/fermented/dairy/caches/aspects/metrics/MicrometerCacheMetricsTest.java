@@ -0,0 +1,112 @@
+package org.fermented.dairy.caches.aspects.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.records.EvictionCause;
+import org.fermented.dairy.caches.handlers.InvocationTimer;
+import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MicrometerCacheMetricsTest {
+
+    private static final CacheStats STATS = new CacheStats(7L, 2L, 3L, 2L, 1L, 900L,
+            Map.of(EvictionCause.SIZE, 4L, EvictionCause.EXPIRED, 5L), 6L, 40L);
+
+    @Mock
+    CacheProvider provider;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private MicrometerCacheMetrics metrics;
+
+    @BeforeEach
+    void init() {
+        lenient().when(provider.getProviderName()).thenReturn("default");
+        lenient().when(provider.getStats("StatsCache")).thenReturn(Optional.of(STATS));
+        metrics = new MicrometerCacheMetrics(registry);
+    }
+
+    @DisplayName("""
+            A cache recording statistics is registered twice.
+             Meters reading the provider's statistics should be registered once, tagged with the provider and cache name,
+             and a scrape should take a single snapshot of the statistics.
+            """)
+    @Test
+    void registersStatsMeters() {
+        metrics.registerCache(provider, "StatsCache", CacheSettings.defaults().withRecordStats(true));
+        metrics.registerCache(provider, "StatsCache", CacheSettings.defaults().withRecordStats(true));
+
+        final FunctionTimer loadDuration = registry.get("fd.caches.load.duration").tags("provider", "default", "cache", "StatsCache").functionTimer();
+        assertAll("Validate meters",
+                () -> assertEquals(7d, registry.get("fd.caches.gets").tags("cache", "StatsCache", "result", "hit").functionCounter().count()),
+                () -> assertEquals(3d, registry.get("fd.caches.gets").tags("cache", "StatsCache", "result", "miss").functionCounter().count()),
+                () -> assertEquals(2d, registry.get("fd.caches.negative.hits").tags("cache", "StatsCache").functionCounter().count()),
+                () -> assertEquals(2d, registry.get("fd.caches.loads").tags("cache", "StatsCache", "result", "success").functionCounter().count()),
+                () -> assertEquals(1d, registry.get("fd.caches.loads").tags("cache", "StatsCache", "result", "failure").functionCounter().count()),
+                () -> assertEquals(3d, loadDuration.count()),
+                () -> assertEquals(900d, loadDuration.totalTime(TimeUnit.NANOSECONDS)),
+                () -> assertEquals(4d, registry.get("fd.caches.evictions").tags("cache", "StatsCache", "cause", "size").functionCounter().count()),
+                () -> assertEquals(5d, registry.get("fd.caches.evictions").tags("cache", "StatsCache", "cause", "expired").functionCounter().count()),
+                () -> assertEquals(0d, registry.get("fd.caches.evictions").tags("cache", "StatsCache", "cause", "collected").functionCounter().count()),
+                () -> assertEquals(6d, registry.get("fd.caches.size").tags("cache", "StatsCache").gauge().value()),
+                () -> assertEquals(40d, registry.get("fd.caches.weight").tags("cache", "StatsCache").gauge().value()),
+                () -> assertEquals(11, registry.getMeters().size()));
+        verify(provider).getStats("StatsCache");
+    }
+
+    @DisplayName("""
+            A cache that does not record statistics is registered.
+             No meters should be registered.
+            """)
+    @Test
+    void cacheWithoutStatsIsNotRegistered() {
+        metrics.registerCache(provider, "StatsCache", CacheSettings.defaults());
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+
+    @DisplayName("""
+            An intercepted method is registered.
+             The time spent in the cache should be recorded for every invocation
+             and the time spent in the method only when it is invoked.
+            """)
+    @Test
+    void registersMethodTimers() throws NoSuchMethodException {
+        final Method method = CacheBean.class.getMethod("statsLoad", Long.class);
+
+        final InvocationTimer timer = metrics.registerMethod(method, provider, "StatsCache");
+        timer.recordCached(100L);
+        timer.recordInvoked(200L, 300L);
+
+        final Timer cacheTimer = registry.get("fd.caches.method.cache")
+                .tags("class", CacheBean.class.getCanonicalName(), "method", "statsLoad", "cache", "StatsCache").timer();
+        final Timer invocationTimer = registry.get("fd.caches.method.invocation")
+                .tags("class", CacheBean.class.getCanonicalName(), "method", "statsLoad", "cache", "StatsCache").timer();
+        assertAll("Validate timers",
+                () -> assertEquals(2L, cacheTimer.count()),
+                () -> assertEquals(300d, cacheTimer.totalTime(TimeUnit.NANOSECONDS)),
+                () -> assertEquals(1L, invocationTimer.count()),
+                () -> assertEquals(300d, invocationTimer.totalTime(TimeUnit.NANOSECONDS)));
+    }
+}
@@ -6,6 +6,7 @@ import org.fermented.dairy.caches.interceptors.entities.DefaultCacheEntityClass;
 
 import java.lang.reflect.Method;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 
@@ -24,6 +25,7 @@ public final class AspectUtils {
 
         lenient().when(pjp.getArgs()).thenReturn(params);
         lenient().when(pjp.proceed()).thenAnswer(invocationOnMock -> proceedResult);
+        lenient().when(pjp.proceed(any(Object[].class))).thenAnswer(invocationOnMock -> proceedResult);
         return pjp;
     }
 
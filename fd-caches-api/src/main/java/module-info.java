@@ -3,9 +3,13 @@
  * exports - org.fermented.dairy.microprofile.caches.api.exceptions
  * exports - org.fermented.dairy.microprofile.caches.api.functions
  * exports - org.fermented.dairy.microprofile.caches.api.interfaces
+ * exports - org.fermented.dairy.microprofile.caches.api.records
+ * exports - org.fermented.dairy.microprofile.caches.api.tickers
  */
 module fd.caches.api {
     exports org.fermented.dairy.caches.api.exceptions;
     exports org.fermented.dairy.caches.api.functions;
     exports org.fermented.dairy.caches.api.interfaces;
+    exports org.fermented.dairy.caches.api.records;
+    exports org.fermented.dairy.caches.api.tickers;
 }
\ No newline at end of file
@@ -0,0 +1,11 @@
+package org.fermented.dairy.caches.api.functions;
+
+/**
+ * Proceeds to the intercepted method with replaced arguments.
+ *
+ * @param <T> the type returned by the intercepted method
+ */
+@FunctionalInterface
+public interface ArgumentsProceeder<T> {
+    T proceed(Object[] args) throws Throwable; //NOSONAR: java:S112 - Must be throwable to comply with JoinPoint signature
+}
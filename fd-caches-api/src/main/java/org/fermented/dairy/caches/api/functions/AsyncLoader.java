@@ -0,0 +1,25 @@
+package org.fermented.dairy.caches.api.functions;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Functional interface for loaders that complete asynchronously, e.g. non-blocking remote calls.
+ * The loader should return promptly, the value is cached when the returned stage completes.
+ *
+ * @param <P> Parameter type
+ * @param <V> Value type
+ */
+@FunctionalInterface
+public interface AsyncLoader<P, V> {
+
+    /**
+     * Starts loading the value based on the provided key.
+     *
+     * @param param The parameter used to load the value
+     *
+     * @return stage completed with the loaded value, or with null if there is no value
+     *
+     * @throws Exception The exception thrown by the loading lambda before the load was started
+     */
+    CompletionStage<V> load(P param) throws Throwable;
+}
@@ -0,0 +1,14 @@
+package org.fermented.dairy.caches.api.functions;
+
+import java.util.Optional;
+
+/**
+ * An async loader that completes with an Optional see {@link AsyncLoader}.
+ *
+ * @param <P> Parameter type
+ * @param <V> Value type
+ */
+@FunctionalInterface
+public interface AsyncOptionalLoader<P, V> extends AsyncLoader<P, Optional<V>> {
+
+}
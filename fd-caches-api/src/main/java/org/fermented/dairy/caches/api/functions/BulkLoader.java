@@ -0,0 +1,25 @@
+package org.fermented.dairy.caches.api.functions;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Functional interface for loaders that load several keys in one call, e.g. a single query or remote call for a batch of ids.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+@FunctionalInterface
+public interface BulkLoader<K, V> {
+
+    /**
+     * Loads the values of the provided keys.
+     *
+     * @param keys The keys to load the values of
+     *
+     * @return the loaded values by key, keys that have no value should be left out or mapped to null
+     *
+     * @throws Exception The exception thrown by the loading lambda
+     */
+    Map<K, V> load(Set<K> keys) throws Throwable;
+}
@@ -0,0 +1,25 @@
+package org.fermented.dairy.caches.api.functions;
+
+/**
+ * Source of the current time used by cache providers for expiry, in milliseconds.
+ * Providers read the ticker on every cache hit, implementations should be cheap to read.
+ */
+@FunctionalInterface
+public interface Ticker {
+
+    /**
+     * Reads the current time.
+     *
+     * @return the current time in milliseconds.
+     */
+    long read();
+
+    /**
+     * Ticker reading the system clock on every call.
+     *
+     * @return the system ticker.
+     */
+    static Ticker system() {
+        return System::currentTimeMillis;
+    }
+}
@@ -0,0 +1,33 @@
+package org.fermented.dairy.caches.api.functions;
+
+/**
+ * Functional interface calculating the relative weight of a cache entry, used to bound caches by total weight
+ * rather than by number of entries.
+ * Weights are calculated once, when the entry is written to the cache, so they should not depend on mutable state.
+ * Implementations referenced from {@code @Cached} or configuration must be public with a public no argument constructor.
+ *
+ * @param <K> Key type
+ * @param <V> Value type
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Calculates the weight of a cache entry.
+     *
+     * @param key The cache key
+     * @param value The cached value
+     *
+     * @return the weight of the entry, must not be negative.
+     */
+    int weigh(K key, V value);
+
+    /**
+     * Weigher giving each entry a weight of 1, bounding a cache by weight is then the same as bounding it by number of entries.
+     *
+     * @return the singleton weigher.
+     */
+    static Weigher<Object, Object> singleton() {
+        return (key, value) -> 1;
+    }
+}
@@ -1,9 +1,24 @@
 package org.fermented.dairy.caches.api.interfaces;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.fermented.dairy.caches.api.functions.AsyncLoader;
+import org.fermented.dairy.caches.api.functions.AsyncOptionalLoader;
+import org.fermented.dairy.caches.api.functions.BulkLoader;
 import org.fermented.dairy.caches.api.functions.Loader;
 import org.fermented.dairy.caches.api.functions.OptionalLoader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
 
 /**
  * Cache Provider Interface.
@@ -54,6 +69,31 @@ public interface CacheProvider {
      */
     Object load(Object key, Object value, String cacheName, long ttlMilliSeconds, Class keyClass, Class valueClass) throws Exception;
 
+    /**
+     * Place the value object into the named cache indexed by the provided key, replacing the value already cached.
+     * Used to write through the cache after the value has been written to the underlying source.
+     * The default implementation removes the cached value and then places the value with
+     * {@link #load(Object, Object, String, long, Class, Class) load}.
+     *
+     * @param key The cache key.
+     * @param value The value to be placed in the cache, not null.
+     * @param cacheName The name of the cache to store the value in.
+     * @param ttlMilliSeconds The time to live (ttlMilliSeconds) before the cache expires in milliseconds.
+     * @param keyClass The Class object of the cache key.
+     * @param valueClass The Class object of the value.
+     *
+     * @throws Exception Checked exception
+     */
+    default void put(final Object key,
+                     final Object value,
+                     final String cacheName,
+                     final long ttlMilliSeconds,
+                     final Class keyClass,
+                     final Class valueClass) throws Exception {
+        removeValue(cacheName, key);
+        load(key, value, cacheName, ttlMilliSeconds, keyClass, valueClass);
+    }
+
     /**
      * Load the value using the OptionalLoader function and stores it in the cache.
      * Expiry behaviour is the same as {@link #load(Object, Loader, String, long, Class, Class)}.
@@ -78,6 +118,140 @@ public interface CacheProvider {
                           Class keyClass,
                           Class valueClass) throws Exception;
 
+    /**
+     * Load the value using the AsyncLoader function without blocking and stores it in the cache when the load completes.
+     * Expiry behaviour is the same as {@link #load(Object, Loader, String, long, Class, Class)}.
+     * The default implementation adapts blocking providers: hits complete immediately, but on a cache miss the calling thread
+     * waits for the loader in {@link #load(Object, Loader, String, long, Class, Class) load}.
+     * Providers should override it to share in flight loads between callers without blocking.
+     *
+     * @param key The cache key, also used as a parameter when invoking the loader function
+     * @param loader The async loader functional interface
+     * @param cacheName The name of the cache to store the value in
+     * @param ttlMilliSeconds The time to live (ttlMilliSeconds) before the cache expires in milliseconds
+     * @param keyClass The Class object of the cache key
+     * @param valueClass The Class object of the value
+     *
+     * @return A future completed with the value stored in the cache (cache hit),
+     *      the value the loader completed with (cache miss) or null if the loader completed with null.
+     *      The future is completed exceptionally with the exception thrown by the loader or the loader's stage.
+     */
+    default CompletableFuture<Object> loadAsync(final Object key,
+                                                final AsyncLoader<Object, Object> loader,
+                                                final String cacheName,
+                                                final long ttlMilliSeconds,
+                                                final Class keyClass,
+                                                final Class valueClass) {
+        try {
+            return CompletableFuture.completedFuture(
+                    load(key, param -> awaitAsyncLoader(loader, param), cacheName, ttlMilliSeconds, keyClass, valueClass));
+        } catch (final Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Load the value using the AsyncOptionalLoader function without blocking and stores it in the cache when the load completes.
+     * Behaves as {@link #loadAsync(Object, AsyncLoader, String, long, Class, Class)}, the loaded Optional is unwrapped before
+     * it is stored in the cache.
+     *
+     * @param key The cache key, also used as a parameter when invoking the loader function.
+     * @param loader The async loader functional interface, completing with an Optional.
+     * @param cacheName The name of the cache to store the value in.
+     * @param ttlMilliSeconds The time to live (ttlMilliSeconds) before the cache expires in milliseconds.
+     * @param keyClass The Class object of the cache key.
+     * @param valueClass The Class object of the value wrapped in the Optional loaded by the AsyncOptionalLoader functional interface.
+     *
+     * @return A future completed with an Optional containing either the previously cached value (cache hit),
+     *      the value the loader completed with (cache miss), or an empty Optional if the loader completed with an empty Optional or null.
+     */
+    default CompletableFuture<Optional<Object>> loadOptionalAsync(final Object key,
+                                                                  final AsyncOptionalLoader<Object, Object> loader,
+                                                                  final String cacheName,
+                                                                  final long ttlMilliSeconds,
+                                                                  final Class keyClass,
+                                                                  final Class valueClass) {
+        return loadAsync(
+                key,
+                param -> loader.load(param).thenApply(value -> value == null ? null : value.orElse(null)), //NOSONAR: java:S2789
+                cacheName,
+                ttlMilliSeconds,
+                keyClass,
+                valueClass
+        ).thenApply(Optional::ofNullable);
+    }
+
+    /**
+     * Load the values of several keys, invoking the BulkLoader once for the keys that are not cached and storing the values it loads.
+     * Expiry behaviour is the same as {@link #load(Object, Loader, String, long, Class, Class)}, a key the bulk loader returns no
+     * value for is treated as a loader returning null.
+     * The default implementation adapts single key providers: the keys are looked up one at a time with
+     * {@link #load(Object, Loader, String, long, Class, Class) load} and the first miss invokes the bulk loader for that key and
+     * every key after it, so keys after the first miss are loaded even if they turn out to be cached.
+     * Providers should override it to only load the missing keys and to share loads of the same keys already in flight.
+     *
+     * @param keys The cache keys, also used as the parameter when invoking the bulk loader function
+     * @param loader The bulk loader functional interface
+     * @param cacheName The name of the cache to store the values in
+     * @param ttlMilliSeconds The time to live (ttlMilliSeconds) before the cache expires in milliseconds
+     * @param keyClass The Class object of the cache keys
+     * @param valueClass The Class object of the values
+     *
+     * @return The values by key, in the iteration order of the keys, cached values (cache hits) and loaded values (cache misses).
+     *      Keys without a value are left out.
+     *
+     * @throws Exception Checked exception thrown by the bulk loader function
+     */
+    default Map<Object, Object> loadAll(final Collection<?> keys,
+                                        final BulkLoader<Object, Object> loader,
+                                        final String cacheName,
+                                        final long ttlMilliSeconds,
+                                        final Class keyClass,
+                                        final Class valueClass) throws Exception {
+        final Set<Object> pending = new LinkedHashSet<>(keys);
+        final AtomicReference<Map<Object, Object>> loaded = new AtomicReference<>();
+        final Map<Object, Object> values = new LinkedHashMap<>();
+        for (final Object key : new ArrayList<>(pending)) {
+            final Object value = load(key, param -> {
+                if (loaded.get() == null) {
+                    final Map<Object, Object> loadedValues = loader.load(Collections.unmodifiableSet(new LinkedHashSet<>(pending)));
+                    loaded.set(loadedValues == null ? Map.of() : loadedValues);
+                }
+                return loaded.get().get(param);
+            }, cacheName, ttlMilliSeconds, keyClass, valueClass);
+            pending.remove(key);
+            if (value != null) {
+                values.put(key, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Applies settings, such as size bounds, to the named cache. Called by the interceptors before the cache is used,
+     * caches that have not been configured use {@link CacheSettings#defaults()}.
+     * The default implementation ignores the settings.
+     *
+     * @param cacheName The name of the cache to configure.
+     * @param settings The settings to apply.
+     */
+    default void configureCache(final String cacheName, final CacheSettings settings) {
+        //settings are optional for providers
+    }
+
+    /**
+     * Registers the bulk loader misses in the named cache are loaded with when the cache collects them into batches,
+     * see {@link CacheSettings#batchWindowMilliSeconds()}. Each miss is loaded by the loader it was looked up with while no
+     * bulk loader is registered.
+     * The default implementation ignores the bulk loader, misses are always loaded on their own.
+     *
+     * @param cacheName The name of the cache.
+     * @param bulkLoader The bulk loader loading a batch of missing keys.
+     */
+    default void registerBulkLoader(final String cacheName, final BulkLoader<Object, Object> bulkLoader) {
+        //batching is optional for providers
+    }
+
     /**
      * Clears all the values in all the caches.
      */
@@ -91,6 +265,19 @@ public interface CacheProvider {
      */
     void removeValue(String cacheName, Object key);
 
+    /**
+     * Removes the cached values associated with the key objects in one call, e.g. a single round trip for remote providers.
+     * The default implementation removes the keys one at a time.
+     *
+     * @param cacheName The cache name.
+     * @param keys The cache keys
+     */
+    default void removeValues(final String cacheName, final Collection<?> keys) {
+        for (final Object key : keys) {
+            removeValue(cacheName, key);
+        }
+    }
+
     /**
      * clears all entries in the named cache.
      *
@@ -115,6 +302,30 @@ public interface CacheProvider {
      */
     Collection<Object> getKeys(String cacheName);
 
+    /**
+     * Gets the total weight of the entries in a cache bounded by weight, see {@link CacheSettings#maxWeight()}.
+     * The default implementation does not track weights.
+     *
+     * @param cacheName The name of the cache.
+     *
+     * @return the current total weight, empty if the cache does not exist, is not bounded by weight or weights are not tracked.
+     */
+    default OptionalLong getWeight(final String cacheName) {
+        return OptionalLong.empty();
+    }
+
+    /**
+     * Gets a snapshot of the statistics of a cache, see {@link CacheSettings#recordStats()}.
+     * The default implementation does not record statistics.
+     *
+     * @param cacheName The name of the cache.
+     *
+     * @return the statistics, empty if the cache does not exist, is not recording statistics or the provider does not record statistics.
+     */
+    default Optional<CacheStats> getStats(final String cacheName) {
+        return Optional.empty();
+    }
+
     /**
      * The provider name. should be unique within the classloader.
      *
@@ -133,4 +344,15 @@ public interface CacheProvider {
      */
     Optional<Object> peek(String cacheName, Object key);
 
+    /**
+     * Waits for an async loader, rethrowing the exception its stage completed with.
+     */
+    private static Object awaitAsyncLoader(final AsyncLoader<Object, Object> loader, final Object param) throws Throwable {
+        try {
+            return loader.load(param).toCompletableFuture().join();
+        } catch (final CompletionException e) {
+            throw e.getCause() == null ? e : e.getCause();
+        }
+    }
+
 }
@@ -0,0 +1,293 @@
+package org.fermented.dairy.caches.api.records;
+
+import java.util.Objects;
+import org.fermented.dairy.caches.api.functions.Weigher;
+
+/**
+ * Per cache settings passed to {@link org.fermented.dairy.caches.api.interfaces.CacheProvider CacheProviders}.
+ * Providers are free to ignore settings they do not support.
+ *
+ * @param maxEntries The maximum number of entries held by the cache, {@link #UNBOUNDED} if the cache is not bounded
+ * @param maxWeight The maximum total weight of the entries held by the cache, {@link #UNBOUNDED} if the cache is not bounded.
+ *                  Takes precedence over maxEntries when both are set.
+ * @param weigher The weigher calculating the weight of each entry
+ * @param valueStrength How strongly the cache holds on to its values
+ * @param recordStats Whether the cache records {@link CacheStats statistics}
+ * @param refreshAfterMilliSeconds The time after a value is written that the first read triggers a reload in the background,
+ *                                 the current value is served until the reload completes. {@link #NO_REFRESH} if values are not
+ *                                 refreshed. Values still expire at their time to live.
+ * @param staleIfErrorMilliSeconds The time after a value expires that it is still returned in place of a failed reload,
+ *                                 {@link #NO_STALE_IF_ERROR} if failed reloads are not hidden
+ * @param negativeTtlMilliSeconds The time to live of an absent result, a load returning null or an empty Optional, so that
+ *                                looking the key up again does not invoke the loader until it expires.
+ *                                {@link #NO_NEGATIVE_CACHING} if absent results are not cached
+ * @param batchWindowMilliSeconds The time misses are collected for before they are loaded together by the bulk loader
+ *                                registered for the cache, {@link #NO_BATCHING} if each miss is loaded on its own
+ * @param maxBatchSize The number of collected misses that loads the batch without waiting for the end of the window
+ */
+public record CacheSettings(long maxEntries,
+                            long maxWeight,
+                            Weigher<Object, Object> weigher,
+                            ReferenceStrength valueStrength,
+                            boolean recordStats,
+                            long refreshAfterMilliSeconds,
+                            long staleIfErrorMilliSeconds,
+                            long negativeTtlMilliSeconds,
+                            long batchWindowMilliSeconds,
+                            int maxBatchSize) {
+
+    /**
+     * Value indicating that a limit is not set.
+     */
+    public static final long UNBOUNDED = -1L;
+
+    /**
+     * Value indicating that values are not refreshed.
+     */
+    public static final long NO_REFRESH = -1L;
+
+    /**
+     * Value indicating that expired values are not served when reloading them fails.
+     */
+    public static final long NO_STALE_IF_ERROR = -1L;
+
+    /**
+     * Value indicating that absent results are not cached.
+     */
+    public static final long NO_NEGATIVE_CACHING = -1L;
+
+    /**
+     * Value indicating that misses are not collected into batches.
+     */
+    public static final long NO_BATCHING = -1L;
+
+    /**
+     * The default number of misses collected into a batch.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private static final CacheSettings DEFAULTS = new CacheSettings(UNBOUNDED, UNBOUNDED, Weigher.singleton(), ReferenceStrength.STRONG,
+            false, NO_REFRESH, NO_STALE_IF_ERROR, NO_NEGATIVE_CACHING, NO_BATCHING, DEFAULT_MAX_BATCH_SIZE);
+
+    /**
+     * Canonical constructor.
+     *
+     * @param maxEntries The maximum number of entries held by the cache, {@link #UNBOUNDED} if the cache is not bounded
+     * @param maxWeight The maximum total weight of the entries held by the cache, {@link #UNBOUNDED} if the cache is not bounded
+     * @param weigher The weigher calculating the weight of each entry
+     * @param valueStrength How strongly the cache holds on to its values
+     * @param recordStats Whether the cache records {@link CacheStats statistics}
+     * @param refreshAfterMilliSeconds The time after a value is written that it is refreshed, {@link #NO_REFRESH} if it is not
+     * @param staleIfErrorMilliSeconds The time after a value expires that it is served if reloading it fails,
+     *                                 {@link #NO_STALE_IF_ERROR} if it is not
+     * @param negativeTtlMilliSeconds The time to live of an absent result, {@link #NO_NEGATIVE_CACHING} if absent results are
+     *                                not cached
+     * @param batchWindowMilliSeconds The time misses are collected for before they are loaded together, {@link #NO_BATCHING}
+     *                                if they are not collected
+     * @param maxBatchSize The number of collected misses that loads the batch before the end of the window
+     */
+    public CacheSettings {
+        Objects.requireNonNull(weigher, "weigher must not be null");
+        Objects.requireNonNull(valueStrength, "valueStrength must not be null");
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be at least 1");
+        }
+    }
+
+    /**
+     * The default settings, an unbounded cache holding strong references to its values, not recording statistics, not
+     * refreshing values, not serving expired values when loads fail, not caching absent results and not batching misses.
+     *
+     * @return the default settings.
+     */
+    public static CacheSettings defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * Copy of these settings with the maximum number of entries replaced.
+     *
+     * @param maxEntries The maximum number of entries held by the cache, {@link #UNBOUNDED} if the cache is not bounded
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withMaxEntries(final long maxEntries) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with the maximum total weight replaced.
+     *
+     * @param maxWeight The maximum total weight of the entries held by the cache, {@link #UNBOUNDED} if the cache is not bounded
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withMaxWeight(final long maxWeight) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with the weigher replaced.
+     *
+     * @param weigher The weigher calculating the weight of each entry
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withWeigher(final Weigher<Object, Object> weigher) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with the value reference strength replaced.
+     *
+     * @param valueStrength How strongly the cache holds on to its values
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withValueStrength(final ReferenceStrength valueStrength) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with statistics recording switched on or off.
+     *
+     * @param recordStats Whether the cache records {@link CacheStats statistics}
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withRecordStats(final boolean recordStats) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with the refresh time replaced.
+     *
+     * @param refreshAfterMilliSeconds The time after a value is written that it is refreshed, {@link #NO_REFRESH} if it is not
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withRefreshAfter(final long refreshAfterMilliSeconds) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with the stale-if-error window replaced.
+     *
+     * @param staleIfErrorMilliSeconds The time after a value expires that it is served if reloading it fails,
+     *                                 {@link #NO_STALE_IF_ERROR} if it is not
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withStaleIfError(final long staleIfErrorMilliSeconds) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with the time to live of absent results replaced.
+     *
+     * @param negativeTtlMilliSeconds The time to live of an absent result, {@link #NO_NEGATIVE_CACHING} if absent results are
+     *                                not cached
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withNegativeTtl(final long negativeTtlMilliSeconds) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with the window misses are collected for replaced.
+     *
+     * @param batchWindowMilliSeconds The time misses are collected for before they are loaded together, {@link #NO_BATCHING}
+     *                                if they are not collected
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withBatchWindow(final long batchWindowMilliSeconds) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Copy of these settings with the maximum batch size replaced.
+     *
+     * @param maxBatchSize The number of collected misses that loads the batch before the end of the window
+     *
+     * @return the updated settings.
+     */
+    public CacheSettings withMaxBatchSize(final int maxBatchSize) {
+        return new CacheSettings(maxEntries, maxWeight, weigher, valueStrength,
+                recordStats, refreshAfterMilliSeconds, staleIfErrorMilliSeconds, negativeTtlMilliSeconds,
+                batchWindowMilliSeconds, maxBatchSize);
+    }
+
+    /**
+     * Indicates if misses are collected into batches.
+     *
+     * @return true if {@link #batchWindowMilliSeconds()} is set.
+     */
+    public boolean isBatching() {
+        return batchWindowMilliSeconds >= 0;
+    }
+
+    /**
+     * Indicates if absent results are cached.
+     *
+     * @return true if {@link #negativeTtlMilliSeconds()} is set.
+     */
+    public boolean isCachingAbsent() {
+        return negativeTtlMilliSeconds >= 0;
+    }
+
+    /**
+     * Indicates if expired values are served when reloading them fails.
+     *
+     * @return true if {@link #staleIfErrorMilliSeconds()} is set.
+     */
+    public boolean isServingStaleIfError() {
+        return staleIfErrorMilliSeconds >= 0;
+    }
+
+    /**
+     * Indicates if values are refreshed in the background.
+     *
+     * @return true if {@link #refreshAfterMilliSeconds()} is set.
+     */
+    public boolean isRefreshing() {
+        return refreshAfterMilliSeconds >= 0;
+    }
+
+    /**
+     * Indicates if the cache is bounded by total weight.
+     *
+     * @return true if {@link #maxWeight()} is set.
+     */
+    public boolean isWeighted() {
+        return maxWeight >= 0;
+    }
+
+    /**
+     * Indicates if the cache is bounded, either by number of entries or by total weight.
+     *
+     * @return true if {@link #maxEntries()} or {@link #maxWeight()} is set.
+     */
+    public boolean isBounded() {
+        return maxEntries >= 0 || isWeighted();
+    }
+}
@@ -0,0 +1,117 @@
+package org.fermented.dairy.caches.api.records;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Point in time snapshot of a cache's statistics, see
+ * {@link org.fermented.dairy.caches.api.interfaces.CacheProvider#getStats(String) CacheProvider.getStats}.
+ * Counters accumulate from the time the cache was created, or since recording was last switched on.
+ *
+ * @param hitCount The number of lookups that returned a cached value, including cached absent results
+ * @param negativeHitCount The number of lookups that returned a cached absent result, see
+ *                         {@link CacheSettings#negativeTtlMilliSeconds()}
+ * @param missCount The number of lookups that did not find a live cached value
+ * @param loadSuccessCount The number of loads that returned a value
+ * @param loadFailureCount The number of loads that returned null or threw an exception
+ * @param totalLoadTimeNanos The total time spent loading values, successful or not, in nanoseconds
+ * @param evictionCounts The number of entries removed by the cache, by cause
+ * @param size The number of entries currently in the cache
+ * @param weight The current total weight of the entries, {@link #NOT_WEIGHTED} if the cache is not bounded by weight
+ */
+public record CacheStats(long hitCount,
+                         long negativeHitCount,
+                         long missCount,
+                         long loadSuccessCount,
+                         long loadFailureCount,
+                         long totalLoadTimeNanos,
+                         Map<EvictionCause, Long> evictionCounts,
+                         long size,
+                         long weight) {
+
+    /**
+     * Weight reported for caches that are not bounded by weight.
+     */
+    public static final long NOT_WEIGHTED = -1L;
+
+    /**
+     * Canonical constructor.
+     *
+     * @param hitCount The number of lookups that returned a cached value, including cached absent results
+     * @param negativeHitCount The number of lookups that returned a cached absent result
+     * @param missCount The number of lookups that did not find a live cached value
+     * @param loadSuccessCount The number of loads that returned a value
+     * @param loadFailureCount The number of loads that returned null or threw an exception
+     * @param totalLoadTimeNanos The total time spent loading values, successful or not, in nanoseconds
+     * @param evictionCounts The number of entries removed by the cache, by cause, causes that are not present count as 0
+     * @param size The number of entries currently in the cache
+     * @param weight The current total weight of the entries, {@link #NOT_WEIGHTED} if the cache is not bounded by weight
+     */
+    public CacheStats {
+        Objects.requireNonNull(evictionCounts, "evictionCounts must not be null");
+        final Map<EvictionCause, Long> counts = new EnumMap<>(EvictionCause.class);
+        for (final EvictionCause cause : EvictionCause.values()) {
+            counts.put(cause, evictionCounts.getOrDefault(cause, 0L));
+        }
+        evictionCounts = Map.copyOf(counts);
+    }
+
+    /**
+     * Statistics of an empty cache that has not been used.
+     *
+     * @return the empty statistics.
+     */
+    public static CacheStats empty() {
+        return new CacheStats(0L, 0L, 0L, 0L, 0L, 0L, Map.of(), 0L, NOT_WEIGHTED);
+    }
+
+    /**
+     * The total number of lookups.
+     *
+     * @return hits plus misses.
+     */
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * The ratio of lookups that were hits.
+     *
+     * @return the hit rate, 1.0 if there have been no lookups.
+     */
+    public double hitRate() {
+        final long requestCount = requestCount();
+        return requestCount == 0L ? 1.0d : (double) hitCount / requestCount;
+    }
+
+    /**
+     * The number of entries removed by the cache for the given cause.
+     *
+     * @param cause The eviction cause
+     *
+     * @return the number of entries removed for the cause.
+     */
+    public long evictionCount(final EvictionCause cause) {
+        return evictionCounts.get(cause);
+    }
+
+    /**
+     * The number of entries removed by the cache for any cause.
+     *
+     * @return the total number of evictions.
+     */
+    public long evictionCount() {
+        return evictionCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * The average time spent loading a value.
+     *
+     * @return the average load time in nanoseconds, 0 if there have been no loads.
+     */
+    public double averageLoadPenaltyNanos() {
+        final long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0L ? 0.0d : (double) totalLoadTimeNanos / loadCount;
+    }
+}
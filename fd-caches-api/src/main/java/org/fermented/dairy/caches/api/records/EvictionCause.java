@@ -0,0 +1,22 @@
+package org.fermented.dairy.caches.api.records;
+
+/**
+ * Why an entry was removed from a cache by the provider rather than by the application.
+ */
+public enum EvictionCause {
+
+    /**
+     * The entry was evicted to keep the cache within its maximum number of entries or maximum total weight.
+     */
+    SIZE,
+
+    /**
+     * The entry's time to live elapsed.
+     */
+    EXPIRED,
+
+    /**
+     * The entry's soft or weak value was garbage collected.
+     */
+    COLLECTED
+}
@@ -0,0 +1,42 @@
+package org.fermented.dairy.caches.api.records;
+
+import java.util.Locale;
+import org.fermented.dairy.caches.api.exceptions.CacheException;
+
+/**
+ * How strongly a cache holds on to its values.
+ */
+public enum ReferenceStrength {
+
+    /**
+     * Values are held until they are evicted, expire or are removed. Bound the cache to limit its memory use.
+     */
+    STRONG,
+
+    /**
+     * Values may be garbage collected when the JVM is low on memory.
+     */
+    SOFT,
+
+    /**
+     * Values may be garbage collected once they are no longer referenced outside the cache.
+     */
+    WEAK;
+
+    /**
+     * Parses a reference strength, ignoring case.
+     *
+     * @param name The name of the reference strength, e.g. "soft"
+     *
+     * @return the reference strength.
+     *
+     * @throws CacheException if the name does not match a reference strength.
+     */
+    public static ReferenceStrength parse(final String name) throws CacheException {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (final IllegalArgumentException e) {
+            throw new CacheException("Unknown reference strength '%s', expected one of strong, soft or weak", name);
+        }
+    }
+}
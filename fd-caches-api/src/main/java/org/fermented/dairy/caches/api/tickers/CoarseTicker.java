@@ -0,0 +1,76 @@
+package org.fermented.dairy.caches.api.tickers;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+import org.fermented.dairy.caches.api.functions.Ticker;
+
+/**
+ * Ticker caching the system clock, a daemon thread updates the cached time every resolution period so that reading the
+ * ticker is a single volatile read. The time read can lag the system clock by up to the resolution.
+ * The updater thread is stopped when the ticker is closed, the ticker then keeps returning the last time read.
+ */
+public final class CoarseTicker implements Ticker, AutoCloseable {
+
+    private static final String THREAD_NAME = "fd-caches-ticker";
+
+    private final long resolutionNanos;
+
+    private final Thread updater;
+
+    private volatile long time = System.currentTimeMillis();
+
+    private volatile boolean running = true;
+
+    private CoarseTicker(final long resolutionMilliSeconds) {
+        if (resolutionMilliSeconds <= 0) {
+            throw new CacheRuntimeException("Ticker resolution must be positive, was %d ms", resolutionMilliSeconds);
+        }
+        this.resolutionNanos = TimeUnit.MILLISECONDS.toNanos(resolutionMilliSeconds);
+        updater = new Thread(this::update, THREAD_NAME);
+        updater.setDaemon(true);
+    }
+
+    /**
+     * Starts a ticker updated every millisecond.
+     *
+     * @return the running ticker.
+     */
+    public static CoarseTicker start() {
+        return start(1L);
+    }
+
+    /**
+     * Starts a ticker updated every resolution period.
+     *
+     * @param resolutionMilliSeconds The time between updates in milliseconds
+     *
+     * @return the running ticker.
+     */
+    public static CoarseTicker start(final long resolutionMilliSeconds) {
+        final CoarseTicker ticker = new CoarseTicker(resolutionMilliSeconds);
+        ticker.updater.start();
+        return ticker;
+    }
+
+    @Override
+    public long read() {
+        return time;
+    }
+
+    /**
+     * Stops the updater thread.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(updater);
+    }
+
+    private void update() {
+        while (running) {
+            time = System.currentTimeMillis();
+            LockSupport.parkNanos(this, resolutionNanos);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.fermented.dairy.caches.api.tickers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.fermented.dairy.caches.api.functions.Ticker;
+
+/**
+ * Ticker that only moves when told to, for testing expiry deterministically without sleeping.
+ */
+public final class ManualTicker implements Ticker {
+
+    private final AtomicLong time;
+
+    /**
+     * Constructor, the ticker starts at the current system time.
+     */
+    public ManualTicker() {
+        this(System.currentTimeMillis());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param startMilliSeconds The time the ticker starts at in milliseconds
+     */
+    public ManualTicker(final long startMilliSeconds) {
+        time = new AtomicLong(startMilliSeconds);
+    }
+
+    @Override
+    public long read() {
+        return time.get();
+    }
+
+    /**
+     * Moves the ticker forward.
+     *
+     * @param milliSeconds The number of milliseconds to advance by
+     *
+     * @return the new time in milliseconds.
+     */
+    public long advance(final long milliSeconds) {
+        return time.addAndGet(milliSeconds);
+    }
+
+    /**
+     * Sets the time.
+     *
+     * @param milliSeconds The new time in milliseconds
+     */
+    public void set(final long milliSeconds) {
+        time.set(milliSeconds);
+    }
+}
@@ -0,0 +1,93 @@
+package org.fermented.dairy.caches.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatFactory;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks once per thread count with the gc profiler, and the perfnorm profiler where Linux perf is available,
+ * writing all results to a single JSON file.
+ * <ul>
+ *     <li>{@code -Dthreads=1,2,4} the thread counts, powers of two up to the number of processors by default</li>
+ *     <li>{@code -Dresult=path} the JSON result file, {@code jmh-result.json} by default</li>
+ * </ul>
+ * The program arguments are JMH command line options, e.g. regular expressions selecting the benchmarks to run or
+ * {@code -wi 1 -i 1} for a quick run. All benchmarks are run by default.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * Runs the benchmarks.
+     *
+     * @param args JMH command line options
+     * @throws RunnerException if a benchmark fails
+     * @throws CommandLineOptionException if the options cannot be parsed
+     */
+    public static void main(final String[] args) throws RunnerException, CommandLineOptionException {
+        final CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        final String resultFile = System.getProperty("result", "jmh-result.json");
+        final boolean perfAvailable = isPerfAvailable();
+        final List<RunResult> results = new ArrayList<>();
+        for (final int threads : threadCounts()) {
+            final ChainedOptionsBuilder options = new OptionsBuilder()
+                    .parent(commandLineOptions)
+                    .threads(threads)
+                    .addProfiler("gc");
+            if (perfAvailable) {
+                options.addProfiler("perfnorm");
+            }
+            final Collection<RunResult> threadResults = new Runner(options.build()).run();
+            results.addAll(threadResults);
+        }
+        ResultFormatFactory.getInstance(ResultFormatType.JSON, resultFile).writeOut(results);
+        System.out.println("Results written to " + new File(resultFile).getAbsolutePath()); //NOSONAR: java:S106, command line tool
+    }
+
+    private static int[] threadCounts() {
+        final String threads = System.getProperty("threads");
+        if (threads != null) {
+            return Arrays.stream(threads.split(","))
+                    .map(String::trim)
+                    .mapToInt(Integer::parseInt)
+                    .toArray();
+        }
+        final List<Integer> counts = new ArrayList<>();
+        final int processors = Runtime.getRuntime().availableProcessors();
+        for (int count = 1; count < processors; count <<= 1) {
+            counts.add(count);
+        }
+        counts.add(processors);
+        return counts.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static boolean isPerfAvailable() {
+        try {
+            final Process perf = new ProcessBuilder("perf", "stat", "--", "true")
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            return perf.waitFor(10, TimeUnit.SECONDS) && perf.exitValue() == 0;
+        } catch (final IOException e) {
+            return false;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package org.fermented.dairy.caches.benchmarks;
+
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+
+/**
+ * The cache providers under benchmark, selected by the {@code provider} benchmark parameter.
+ */
+final class CacheProviders {
+
+    static final String CACHE_NAME = "benchmark";
+
+    static final long TTL_MILLI_SECONDS = 3_600_000L;
+
+    static final Loader<Object, Object> LOADER = String::valueOf;
+
+    private CacheProviders() {
+    }
+
+    /**
+     * Creates an empty cache provider.
+     *
+     * @param name the simple class name of the provider
+     * @return the provider.
+     */
+    static CacheProvider create(final String name) {
+        final CacheProvider provider = switch (name) {
+            case "HashMapCacheProvider" -> new HashMapCacheProvider();
+            default -> throw new IllegalArgumentException("Unknown cache provider " + name);
+        };
+        provider.purge();
+        return provider;
+    }
+
+    /**
+     * Releases the provider's resources, if any.
+     *
+     * @param provider the provider
+     * @throws Exception if the provider fails to close
+     */
+    static void close(final CacheProvider provider) throws Exception {
+        provider.purge();
+        if (provider instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.fermented.dairy.caches.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Each thread's position in the pre-generated keys, threads start at different offsets so they request different keys.
+ */
+@State(Scope.Thread)
+public class Cursor {
+
+    /**
+     * Number of pre-generated keys, a power of two.
+     */
+    static final int SIZE = 1 << 20;
+
+    private static final int MASK = SIZE - 1;
+
+    private int index;
+
+    /**
+     * Spreads the threads' start offsets over the keys.
+     *
+     * @param threadParams the benchmark thread's parameters
+     */
+    @Setup
+    public void setUp(final ThreadParams threadParams) {
+        index = (int) ((long) SIZE * threadParams.getThreadIndex() / threadParams.getThreadCount());
+    }
+
+    int next() {
+        return index++ & MASK;
+    }
+}
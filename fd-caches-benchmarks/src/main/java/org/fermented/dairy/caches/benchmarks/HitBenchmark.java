@@ -0,0 +1,83 @@
+package org.fermented.dairy.caches.benchmarks;
+
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.CACHE_NAME;
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.LOADER;
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.TTL_MILLI_SECONDS;
+
+import java.util.concurrent.TimeUnit;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cache hits only: every key is loaded before measurement and the cache is large enough to hold them all.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HitBenchmark {
+
+    @Param({"HashMapCacheProvider"})
+    String provider;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    @Param({"65536"})
+    int keySpace;
+
+    private CacheProvider cacheProvider;
+
+    private Long[] keys;
+
+    /**
+     * Creates the provider and loads every key.
+     *
+     * @throws Exception if loading fails
+     */
+    @Setup
+    public void setUp() throws Exception {
+        cacheProvider = CacheProviders.create(provider);
+        cacheProvider.configureCache(CACHE_NAME, CacheSettings.defaults().withMaxEntries(keySpace));
+        for (long key = 0; key < keySpace; key++) {
+            cacheProvider.load(key, LOADER, CACHE_NAME, TTL_MILLI_SECONDS, Long.class, String.class);
+        }
+        keys = distribution.generate(Cursor.SIZE, keySpace, 1L);
+    }
+
+    /**
+     * Closes the provider.
+     *
+     * @throws Exception if closing fails
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        CacheProviders.close(cacheProvider);
+    }
+
+    /**
+     * Reads a cached key.
+     *
+     * @param cursor the thread's position in the keys
+     * @return the cached value
+     * @throws Exception if the load fails
+     */
+    @Benchmark
+    public Object hit(final Cursor cursor) throws Exception {
+        return cacheProvider.load(keys[cursor.next()], LOADER, CACHE_NAME, TTL_MILLI_SECONDS, Long.class, String.class);
+    }
+}
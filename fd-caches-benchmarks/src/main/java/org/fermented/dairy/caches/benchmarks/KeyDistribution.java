@@ -0,0 +1,60 @@
+package org.fermented.dairy.caches.benchmarks;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Distribution of the keys requested by a benchmark. Keys are generated up front so that generating them is not measured.
+ */
+public enum KeyDistribution {
+
+    /**
+     * Every key is equally likely to be requested.
+     */
+    UNIFORM {
+        @Override
+        Long[] generate(final int count, final int keySpace, final long seed) {
+            final SplittableRandom random = new SplittableRandom(seed);
+            final Long[] keys = new Long[count];
+            for (int i = 0; i < count; i++) {
+                keys[i] = (long) random.nextInt(keySpace);
+            }
+            return keys;
+        }
+    },
+
+    /**
+     * Keys are requested following a Zipfian distribution with an exponent of 0.99, key 0 being the most popular.
+     * This approximates the skewed popularity of real cache workloads.
+     */
+    ZIPFIAN {
+        @Override
+        Long[] generate(final int count, final int keySpace, final long seed) {
+            final double[] cumulative = new double[keySpace];
+            double total = 0;
+            for (int rank = 0; rank < keySpace; rank++) {
+                total += 1.0d / Math.pow(rank + 1.0d, ZIPF_EXPONENT);
+                cumulative[rank] = total;
+            }
+            final SplittableRandom random = new SplittableRandom(seed);
+            final Long[] keys = new Long[count];
+            for (int i = 0; i < count; i++) {
+                final int index = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+                keys[i] = (long) Math.min(index < 0 ? -index - 1 : index, keySpace - 1);
+            }
+            return keys;
+        }
+    };
+
+    private static final double ZIPF_EXPONENT = 0.99d;
+
+    /**
+     * Generates keys following the distribution.
+     *
+     * @param count the number of keys to generate
+     * @param keySpace the number of distinct keys, keys range from 0 to keySpace - 1
+     * @param seed the random seed, the same seed generates the same keys
+     * @return the generated keys.
+     */
+    abstract Long[] generate(int count, int keySpace, long seed);
+}
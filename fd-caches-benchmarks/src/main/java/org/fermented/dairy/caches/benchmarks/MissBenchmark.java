@@ -0,0 +1,97 @@
+package org.fermented.dairy.caches.benchmarks;
+
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.CACHE_NAME;
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.LOADER;
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.TTL_MILLI_SECONDS;
+
+import java.util.concurrent.TimeUnit;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+
+/**
+ * Cache misses only: every load is for a key that has never been requested, so it invokes the loader, writes the entry
+ * and, once the cache is full, evicts an entry. The key distribution does not apply.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MissBenchmark {
+
+    @Param({"HashMapCacheProvider"})
+    String provider;
+
+    @Param({"65536"})
+    int maximumSize;
+
+    private CacheProvider cacheProvider;
+
+    /**
+     * Creates the provider with a bounded cache.
+     */
+    @Setup
+    public void setUp() {
+        cacheProvider = CacheProviders.create(provider);
+        cacheProvider.configureCache(CACHE_NAME, CacheSettings.defaults().withMaxEntries(maximumSize));
+    }
+
+    /**
+     * Closes the provider.
+     *
+     * @throws Exception if closing fails
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        CacheProviders.close(cacheProvider);
+    }
+
+    /**
+     * Loads a key that has never been requested.
+     *
+     * @param keys the thread's key sequence
+     * @return the loaded value
+     * @throws Exception if the load fails
+     */
+    @Benchmark
+    public Object miss(final UniqueKeys keys) throws Exception {
+        return cacheProvider.load(keys.next(), LOADER, CACHE_NAME, TTL_MILLI_SECONDS, Long.class, String.class);
+    }
+
+    /**
+     * Keys unique to the thread, the thread index is held in the high bits.
+     */
+    @State(Scope.Thread)
+    public static class UniqueKeys {
+
+        private long next;
+
+        /**
+         * Starts the thread's keys.
+         *
+         * @param threadParams the benchmark thread's parameters
+         */
+        @Setup
+        public void setUp(final ThreadParams threadParams) {
+            next = (long) threadParams.getThreadIndex() << 40;
+        }
+
+        Long next() {
+            return next++;
+        }
+    }
+}
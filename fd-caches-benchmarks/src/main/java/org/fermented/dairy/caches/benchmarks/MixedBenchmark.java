@@ -0,0 +1,98 @@
+package org.fermented.dairy.caches.benchmarks;
+
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.CACHE_NAME;
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.LOADER;
+import static org.fermented.dairy.caches.benchmarks.CacheProviders.TTL_MILLI_SECONDS;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mixed reads and writes against a cache holding a quarter of the key space: loads hit or miss depending on the key
+ * distribution, misses write the loaded value and evict, and a share of the operations remove a key.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MixedBenchmark {
+
+    @Param({"HashMapCacheProvider"})
+    String provider;
+
+    @Param({"UNIFORM", "ZIPFIAN"})
+    KeyDistribution distribution;
+
+    @Param({"65536"})
+    int keySpace;
+
+    @Param({"10"})
+    int removePercentage;
+
+    private CacheProvider cacheProvider;
+
+    private Long[] keys;
+
+    private boolean[] removals;
+
+    /**
+     * Creates the provider and fills the cache.
+     *
+     * @throws Exception if loading fails
+     */
+    @Setup
+    public void setUp() throws Exception {
+        cacheProvider = CacheProviders.create(provider);
+        cacheProvider.configureCache(CACHE_NAME, CacheSettings.defaults().withMaxEntries(keySpace / 4));
+        keys = distribution.generate(Cursor.SIZE, keySpace, 1L);
+        removals = new boolean[Cursor.SIZE];
+        final SplittableRandom random = new SplittableRandom(2L);
+        for (int i = 0; i < Cursor.SIZE; i++) {
+            removals[i] = random.nextInt(100) < removePercentage;
+            cacheProvider.load(keys[i], LOADER, CACHE_NAME, TTL_MILLI_SECONDS, Long.class, String.class);
+        }
+    }
+
+    /**
+     * Closes the provider.
+     *
+     * @throws Exception if closing fails
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        CacheProviders.close(cacheProvider);
+    }
+
+    /**
+     * Loads or removes a key.
+     *
+     * @param cursor the thread's position in the keys
+     * @return the loaded value or the removed key
+     * @throws Exception if the load fails
+     */
+    @Benchmark
+    public Object mixed(final Cursor cursor) throws Exception {
+        final int index = cursor.next();
+        if (removals[index]) {
+            cacheProvider.removeValue(CACHE_NAME, keys[index]);
+            return keys[index];
+        }
+        return cacheProvider.load(keys[index], LOADER, CACHE_NAME, TTL_MILLI_SECONDS, Long.class, String.class);
+    }
+}
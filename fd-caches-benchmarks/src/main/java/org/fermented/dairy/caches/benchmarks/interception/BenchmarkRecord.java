@@ -0,0 +1,13 @@
+package org.fermented.dairy.caches.benchmarks.interception;
+
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+
+/**
+ * The value cached by the interception benchmarks.
+ *
+ * @param id the cache key
+ */
+@Cached
+public record BenchmarkRecord(@CacheKey Long id) {
+}
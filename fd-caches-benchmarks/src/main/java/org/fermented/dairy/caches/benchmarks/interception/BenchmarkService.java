@@ -0,0 +1,34 @@
+package org.fermented.dairy.caches.benchmarks.interception;
+
+import org.fermented.dairy.caches.annotations.CacheDelete;
+import org.fermented.dairy.caches.annotations.CacheLoad;
+import org.fermented.dairy.caches.annotations.CachedType;
+
+/**
+ * The intercepted bean, instantiated directly it measures the bare methods.
+ */
+public class BenchmarkService {
+
+    /**
+     * Creates the record, cached when intercepted.
+     *
+     * @param id the key
+     * @return the record
+     */
+    @CacheLoad
+    public BenchmarkRecord load(final Long id) {
+        return new BenchmarkRecord(id);
+    }
+
+    /**
+     * Does nothing, removes the key from the cache when intercepted.
+     *
+     * @param id the key
+     * @return null
+     */
+    @CacheDelete
+    @CachedType(BenchmarkRecord.class)
+    public BenchmarkRecord delete(final Long id) {
+        return null;
+    }
+}
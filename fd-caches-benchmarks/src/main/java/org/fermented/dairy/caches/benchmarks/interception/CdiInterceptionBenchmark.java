@@ -0,0 +1,46 @@
+package org.fermented.dairy.caches.benchmarks.interception;
+
+import io.smallrye.config.inject.ConfigExtension;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.interceptors.CacheDeleteInterceptor;
+import org.fermented.dairy.caches.interceptors.CacheLoadInterceptor;
+import org.fermented.dairy.caches.interceptors.injectors.Injector;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.jboss.weld.environment.se.Weld;
+import org.jboss.weld.environment.se.WeldContainer;
+
+/**
+ * Interception through {@link CacheLoadInterceptor} and {@link CacheDeleteInterceptor} in Weld SE, configured by SmallRye Config.
+ */
+public class CdiInterceptionBenchmark extends InterceptionBenchmark {
+
+    private WeldContainer container;
+
+    @Override
+    protected void startContainer() {
+        container = new Weld()
+                .disableDiscovery()
+                .addExtension(new ConfigExtension())
+                .addBeanClasses(
+                        BenchmarkService.class,
+                        CacheLoadInterceptor.class,
+                        CacheDeleteInterceptor.class,
+                        Injector.class)
+                .initialize();
+    }
+
+    @Override
+    protected void stopContainer() {
+        container.close();
+    }
+
+    @Override
+    protected BenchmarkService interceptedService() {
+        return container.select(BenchmarkService.class).get();
+    }
+
+    @Override
+    protected CacheProvider cacheProvider() {
+        return container.select(HashMapCacheProvider.class).get();
+    }
+}
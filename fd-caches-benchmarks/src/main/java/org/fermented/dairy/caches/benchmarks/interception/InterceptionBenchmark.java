@@ -0,0 +1,149 @@
+package org.fermented.dairy.caches.benchmarks.interception;
+
+import java.util.concurrent.TimeUnit;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Per call cost of {@code @CacheLoad} hits and {@code @CacheDelete} calls through a container's interception, compared with
+ * calling the same cache provider directly and with calling the bare method.
+ * The difference between the intercepted and direct provider benchmarks is the cost of the interceptor chain, the loader
+ * lambdas and resolving the cache settings in {@code AbstractCacheHandler}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class InterceptionBenchmark {
+
+    private static final Long HIT_KEY = 1L;
+
+    private static final Long DELETE_KEY = 2L;
+
+    private static final String CACHE_NAME = BenchmarkRecord.class.getCanonicalName();
+
+    private static final long TTL_MILLI_SECONDS = 3_600_000L;
+
+    private final BenchmarkService bareService = new BenchmarkService();
+
+    private final Loader<Object, Object> loader = key -> bareService.load((Long) key);
+
+    private BenchmarkService interceptedService;
+
+    private CacheProvider cacheProvider;
+
+    /**
+     * Starts the container and caches the value read by the hit benchmarks.
+     */
+    @Setup
+    public void setUp() {
+        startContainer();
+        interceptedService = interceptedService();
+        cacheProvider = cacheProvider();
+        interceptedService.load(HIT_KEY);
+    }
+
+    /**
+     * Stops the container.
+     */
+    @TearDown
+    public void tearDown() {
+        stopContainer();
+    }
+
+    /**
+     * Starts the dependency injection container.
+     */
+    protected abstract void startContainer();
+
+    /**
+     * Stops the dependency injection container.
+     */
+    protected abstract void stopContainer();
+
+    /**
+     * The intercepted bean from the container.
+     *
+     * @return the bean
+     */
+    protected abstract BenchmarkService interceptedService();
+
+    /**
+     * The cache provider the interceptors use.
+     *
+     * @return the provider
+     */
+    protected abstract CacheProvider cacheProvider();
+
+    /**
+     * The bare load method.
+     *
+     * @return the created record
+     */
+    @Benchmark
+    public Object bareLoad() {
+        return bareService.load(HIT_KEY);
+    }
+
+    /**
+     * A cache hit through the provider.
+     *
+     * @return the cached record
+     * @throws Exception if the load fails
+     */
+    @Benchmark
+    public Object directProviderLoadHit() throws Exception {
+        return cacheProvider.load(HIT_KEY, loader, CACHE_NAME, TTL_MILLI_SECONDS, Long.class, BenchmarkRecord.class);
+    }
+
+    /**
+     * A cache hit through the interceptor.
+     *
+     * @return the cached record
+     */
+    @Benchmark
+    public Object interceptedLoadHit() {
+        return interceptedService.load(HIT_KEY);
+    }
+
+    /**
+     * The bare delete method.
+     *
+     * @return null
+     */
+    @Benchmark
+    public Object bareDelete() {
+        return bareService.delete(DELETE_KEY);
+    }
+
+    /**
+     * Removing a key through the provider.
+     */
+    @Benchmark
+    public void directProviderDelete() {
+        cacheProvider.removeValue(CACHE_NAME, DELETE_KEY);
+    }
+
+    /**
+     * Removing a key through the interceptor.
+     *
+     * @return null
+     */
+    @Benchmark
+    public Object interceptedDelete() {
+        return interceptedService.delete(DELETE_KEY);
+    }
+}
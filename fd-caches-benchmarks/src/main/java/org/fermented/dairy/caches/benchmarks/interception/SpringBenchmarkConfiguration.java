@@ -0,0 +1,27 @@
+package org.fermented.dairy.caches.benchmarks.interception;
+
+import org.fermented.dairy.caches.aspects.CacheConfigurations;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Minimal Spring context: the caching aspects, the default cache provider and the intercepted bean.
+ */
+@Configuration
+@EnableAspectJAutoProxy
+@Import(CacheConfigurations.class)
+public class SpringBenchmarkConfiguration {
+
+    @Bean(destroyMethod = "close")
+    HashMapCacheProvider hashMapCacheProvider() {
+        return new HashMapCacheProvider();
+    }
+
+    @Bean
+    BenchmarkService benchmarkService() {
+        return new BenchmarkService();
+    }
+}
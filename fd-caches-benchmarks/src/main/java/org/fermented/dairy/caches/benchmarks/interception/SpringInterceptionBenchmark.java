@@ -0,0 +1,35 @@
+package org.fermented.dairy.caches.benchmarks.interception;
+
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.aspects.CacheDeleteAspect;
+import org.fermented.dairy.caches.aspects.CacheLoadAspect;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Interception through {@link CacheLoadAspect} and {@link CacheDeleteAspect} in a minimal Spring context.
+ */
+public class SpringInterceptionBenchmark extends InterceptionBenchmark {
+
+    private AnnotationConfigApplicationContext context;
+
+    @Override
+    protected void startContainer() {
+        context = new AnnotationConfigApplicationContext(SpringBenchmarkConfiguration.class);
+    }
+
+    @Override
+    protected void stopContainer() {
+        context.close();
+    }
+
+    @Override
+    protected BenchmarkService interceptedService() {
+        return context.getBean(BenchmarkService.class);
+    }
+
+    @Override
+    protected CacheProvider cacheProvider() {
+        return context.getBean(HashMapCacheProvider.class);
+    }
+}
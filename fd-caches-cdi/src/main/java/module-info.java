@@ -11,6 +11,9 @@ module fd.caches.cdi {
     requires fd.caches.providers;
     requires fd.caches.annotations;
     requires fd.caches.shared;
+    requires static microprofile.metrics.api;
+
+    exports org.fermented.dairy.caches.interceptors.metrics;
 
     opens org.fermented.dairy.caches.interceptors to org.apache.commons.lang3;
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import org.fermented.dairy.caches.annotations.CacheDelete;
 import org.fermented.dairy.caches.annotations.CacheLoad;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
 import org.fermented.dairy.caches.handlers.AbstractCacheHandler;
+import org.fermented.dairy.caches.handlers.CachePlans;
 
 
 /**
@@ -27,16 +28,27 @@ import org.fermented.dairy.caches.handlers.AbstractCacheHandler;
 public class CacheDeleteInterceptor extends AbstractCacheHandler {
 
     /**
-     * CDI compliant constructor.
+     * Constructor resolving intercepted methods on its own.
      *
      * @param config Config
      * @param providers Injected CDI cache providers
      */
-    @Inject
     public CacheDeleteInterceptor(final Config config, final Instance<CacheProvider> providers) {
         super(MicroProfileCacheConfig.using(config), providers);
     }
 
+    /**
+     * CDI compliant constructor.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     * @param plans Injected intercepted methods resolved by the application's interceptors
+     */
+    @Inject
+    public CacheDeleteInterceptor(final Config config, final Instance<CacheProvider> providers, final CachePlans plans) {
+        super(MicroProfileCacheConfig.using(config), providers, null, plans);
+    }
+
 
     /**
      * Interceptor method invoked around the target method (annotated with {@link CacheDelete}).
@@ -0,0 +1,92 @@
+package org.fermented.dairy.caches.interceptors;
+
+import static org.fermented.dairy.caches.interceptors.PriorityValues.LOAD_ALL_INTERCEPTOR_PRIORITY;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+
+import org.eclipse.microprofile.config.Config;
+import org.fermented.dairy.caches.annotations.CacheLoadAll;
+import org.fermented.dairy.caches.api.functions.ArgumentsProceeder;
+import org.fermented.dairy.caches.api.functions.Proceeder;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.handlers.AbstractCacheHandler;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.CachePlans;
+
+
+/**
+ * CDI caching interceptor for methods loading several keys at once.
+ */
+@Interceptor
+@CacheLoadAll
+@Dependent
+@Priority(LOAD_ALL_INTERCEPTOR_PRIORITY)
+public class CacheLoadAllInterceptor extends AbstractCacheHandler {
+
+    /**
+     * Constructor without metrics.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     */
+    public CacheLoadAllInterceptor(final Config config, final Instance<CacheProvider> providers) {
+        super(MicroProfileCacheConfig.using(config), providers);
+    }
+
+    /**
+     * Constructor resolving intercepted methods on its own.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     * @param metrics Injected cache metrics, metrics are not recorded if there is no {@link CacheMetrics} bean
+     */
+    public CacheLoadAllInterceptor(final Config config, final Instance<CacheProvider> providers, final Instance<CacheMetrics> metrics) {
+        super(MicroProfileCacheConfig.using(config), providers, metrics.isResolvable() ? metrics.get() : null);
+    }
+
+    /**
+     * CDI compliant constructor.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     * @param metrics Injected cache metrics, metrics are not recorded if there is no {@link CacheMetrics} bean
+     * @param plans Injected intercepted methods resolved by the application's interceptors
+     */
+    @Inject
+    public CacheLoadAllInterceptor(final Config config,
+                                   final Instance<CacheProvider> providers,
+                                   final Instance<CacheMetrics> metrics,
+                                   final CachePlans plans) {
+        super(MicroProfileCacheConfig.using(config), providers, metrics.isResolvable() ? metrics.get() : null, plans);
+    }
+
+    /**
+     * Interceptor method invoked around the target method (annotated with {@link CacheLoadAll}).
+     * The target method is invoked with only the keys missing from the cache.
+     *
+     * @param ctx the invocation context.
+     * @return The values held in the cache merged with the values returned by the target method, by key.
+     * @throws Exception Exception thrown by the caching implementation or the target method.
+     */
+    @AroundInvoke
+    public Object loadAllIntoCache(final InvocationContext ctx) throws Throwable {
+
+        final Method method = ctx.getMethod();
+        final Object[] params = ctx.getParameters();
+        final Proceeder<Object> proceeder = ctx::proceed;
+        final ArgumentsProceeder<Object> argumentsProceeder = args -> {
+            ctx.setParameters(args);
+            return ctx.proceed();
+        };
+
+        return getAllFromCacheOrLoad(method, ctx.getTarget(), proceeder, params, argumentsProceeder);
+    }
+
+}
@@ -17,6 +17,8 @@ import org.fermented.dairy.caches.api.functions.Loader;
 import org.fermented.dairy.caches.api.functions.Proceeder;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
 import org.fermented.dairy.caches.handlers.AbstractCacheHandler;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.CachePlans;
 
 
 /**
@@ -29,16 +31,42 @@ import org.fermented.dairy.caches.handlers.AbstractCacheHandler;
 public class CacheLoadInterceptor extends AbstractCacheHandler {
 
     /**
-     * CDI compliant constructor.
+     * Constructor without metrics.
      *
      * @param config Config
      * @param providers Injected CDI cache providers
      */
-    @Inject
     public CacheLoadInterceptor(final Config config, final Instance<CacheProvider> providers) {
         super(MicroProfileCacheConfig.using(config),  providers);
     }
 
+    /**
+     * Constructor resolving intercepted methods on its own.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     * @param metrics Injected cache metrics, metrics are not recorded if there is no {@link CacheMetrics} bean
+     */
+    public CacheLoadInterceptor(final Config config, final Instance<CacheProvider> providers, final Instance<CacheMetrics> metrics) {
+        super(MicroProfileCacheConfig.using(config), providers, metrics.isResolvable() ? metrics.get() : null);
+    }
+
+    /**
+     * CDI compliant constructor.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     * @param metrics Injected cache metrics, metrics are not recorded if there is no {@link CacheMetrics} bean
+     * @param plans Injected intercepted methods resolved by the application's interceptors
+     */
+    @Inject
+    public CacheLoadInterceptor(final Config config,
+                                final Instance<CacheProvider> providers,
+                                final Instance<CacheMetrics> metrics,
+                                final CachePlans plans) {
+        super(MicroProfileCacheConfig.using(config), providers, metrics.isResolvable() ? metrics.get() : null, plans);
+    }
+
     /**
      * Interceptor method invoked around the target method (annotated with {@link CacheLoad}).
      * Can be used with the {@link CacheLoad} annotation (using parameters for the keys) to update a value in cache.
@@ -58,7 +86,7 @@ public class CacheLoadInterceptor extends AbstractCacheHandler {
         final Loader<Object, Object> loader = param -> ctx.proceed();
         final Proceeder<Object> proceeder = ctx::proceed;
 
-        return getFromCacheOrLoad(returnedClass, method, proceeder, params, loader);
+        return getFromCacheOrLoad(returnedClass, method, ctx.getTarget(), proceeder, params, loader);
     }
 
 }
@@ -0,0 +1,81 @@
+package org.fermented.dairy.caches.interceptors;
+
+import static org.fermented.dairy.caches.interceptors.PriorityValues.PUT_INTERCEPTOR_PRIORITY;
+
+import jakarta.annotation.Priority;
+import jakarta.enterprise.context.Dependent;
+import jakarta.enterprise.inject.Instance;
+import jakarta.inject.Inject;
+import jakarta.interceptor.AroundInvoke;
+import jakarta.interceptor.Interceptor;
+import jakarta.interceptor.InvocationContext;
+import org.eclipse.microprofile.config.Config;
+import org.fermented.dairy.caches.annotations.CachePut;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.handlers.AbstractCacheHandler;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.CachePlans;
+
+
+/**
+ * Interceptor for writing through caches. The value is put in the cache AFTER the intercepted method returns successfully,
+ * replacing any value cached for the key, so the next load of the key is a cache hit.
+ */
+@Interceptor
+@CachePut
+@Dependent
+@Priority(PUT_INTERCEPTOR_PRIORITY)
+public class CachePutInterceptor extends AbstractCacheHandler {
+
+    /**
+     * Constructor without metrics.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     */
+    public CachePutInterceptor(final Config config, final Instance<CacheProvider> providers) {
+        super(MicroProfileCacheConfig.using(config), providers);
+    }
+
+    /**
+     * Constructor resolving intercepted methods on its own.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     * @param metrics Injected cache metrics, metrics are not recorded if there is no {@link CacheMetrics} bean
+     */
+    public CachePutInterceptor(final Config config, final Instance<CacheProvider> providers, final Instance<CacheMetrics> metrics) {
+        super(MicroProfileCacheConfig.using(config), providers, metrics.isResolvable() ? metrics.get() : null);
+    }
+
+    /**
+     * CDI compliant constructor.
+     *
+     * @param config Config
+     * @param providers Injected CDI cache providers
+     * @param metrics Injected cache metrics, metrics are not recorded if there is no {@link CacheMetrics} bean
+     * @param plans Injected intercepted methods resolved by the application's interceptors
+     */
+    @Inject
+    public CachePutInterceptor(final Config config,
+                               final Instance<CacheProvider> providers,
+                               final Instance<CacheMetrics> metrics,
+                               final CachePlans plans) {
+        super(MicroProfileCacheConfig.using(config), providers, metrics.isResolvable() ? metrics.get() : null, plans);
+    }
+
+    /**
+     * Interceptor method invoked around the target method (annotated with {@link CachePut}).
+     *
+     * @param ctx The InvocationContext of the intercepted method
+     * @return the result of {@code ctx.proceed()}
+     * @throws Exception The exception thrown by the caching implementation or the {@code ctx.proceed()} call
+     */
+    @AroundInvoke
+    public Object putIntoCache(final InvocationContext ctx) throws Throwable {
+
+        return putIntoCache(ctx.getMethod(), ctx::proceed, ctx.getParameters());
+    }
+
+
+}
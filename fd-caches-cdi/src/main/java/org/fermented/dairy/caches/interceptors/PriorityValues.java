@@ -7,6 +7,8 @@ public final class PriorityValues {
 
     public static final int LOAD_INTERCEPTOR_PRIORITY = Integer.MAX_VALUE;
     public static final int DELETE_INTERCEPTOR_PRIORITY = LOAD_INTERCEPTOR_PRIORITY - 1;
+    public static final int LOAD_ALL_INTERCEPTOR_PRIORITY = DELETE_INTERCEPTOR_PRIORITY - 1;
+    public static final int PUT_INTERCEPTOR_PRIORITY = LOAD_ALL_INTERCEPTOR_PRIORITY - 1;
 
     private PriorityValues() {}
 
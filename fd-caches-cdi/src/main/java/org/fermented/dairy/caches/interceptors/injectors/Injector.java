@@ -1,8 +1,15 @@
 package org.fermented.dairy.caches.interceptors.injectors;
 
 import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Disposes;
 import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
+import org.eclipse.microprofile.config.Config;
+import org.fermented.dairy.caches.api.functions.Ticker;
+import org.fermented.dairy.caches.api.tickers.CoarseTicker;
+import org.fermented.dairy.caches.handlers.CachePlans;
 import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.fermented.dairy.caches.providers.MaintenanceScheduler;
 
 /**
  * Utility holding producer methods for non CDI Cache beans.
@@ -10,17 +17,53 @@ import org.fermented.dairy.caches.providers.HashMapCacheProvider;
 @ApplicationScoped
 public class Injector {
 
+    private CoarseTicker coarseTicker;
+
     /**
      * Produces HashMapCache.
+     * If {@code fd.config.cache.provider.maintenance.periodms} is configured, cache maintenance is performed on a daemon
+     * thread with that period rather than on the calling threads.
+     * If {@code fd.config.cache.provider.ticker} is {@code coarse}, expiry is measured with a {@link CoarseTicker} rather than
+     * by reading the system clock on every cache hit.
+     *
+     * @param config the Config
      *
      * @return HashMapCache
      */
     @ApplicationScoped
     @Produces
-    public HashMapCacheProvider hashMapCache() {
-        return new HashMapCacheProvider();
+    public HashMapCacheProvider hashMapCache(final Config config) {
+        final Ticker ticker = config.getOptionalValue("fd.config.cache.provider.ticker", String.class)
+                .filter("coarse"::equalsIgnoreCase)
+                .<Ticker>map(name -> coarseTicker = CoarseTicker.start())
+                .orElseGet(Ticker::system);
+        return config.getOptionalValue("fd.config.cache.provider.maintenance.periodms", Long.class)
+                .map(periodMilliSeconds -> new HashMapCacheProvider(MaintenanceScheduler.daemonThread(periodMilliSeconds), ticker))
+                .orElseGet(() -> new HashMapCacheProvider(ticker));
     }
 
+    /**
+     * Produces the intercepted methods resolved by the application's interceptors, which are created per intercepted bean
+     * instance, so that each method is resolved once per application rather than once per bean instance.
+     *
+     * @return CachePlans
+     */
+    @Singleton
+    @Produces
+    public CachePlans cachePlans() {
+        return new CachePlans();
+    }
 
-
+    /**
+     * Disposes of the HashMapCache, stopping its maintenance and ticker threads.
+     *
+     * @param hashMapCacheProvider the HashMapCache to dispose of
+     */
+    public void closeHashMapCache(@Disposes final HashMapCacheProvider hashMapCacheProvider) {
+        hashMapCacheProvider.close();
+        if (coarseTicker != null) {
+            coarseTicker.close();
+            coarseTicker = null;
+        }
+    }
 }
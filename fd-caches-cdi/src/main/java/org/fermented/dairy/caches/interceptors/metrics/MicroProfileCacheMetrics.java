@@ -0,0 +1,131 @@
+package org.fermented.dairy.caches.interceptors.metrics;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.records.EvictionCause;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.CacheStatsSampler;
+import org.fermented.dairy.caches.handlers.InvocationTimer;
+
+/**
+ * Registers MicroProfile Metrics for the caches and intercepted methods used by the cache interceptors.
+ * Caches recording statistics get gauges tagged with the provider and cache name, which read the provider's statistics when
+ * scraped. MicroProfile Metrics counters can only be incremented, so the cumulative counts are also exposed as gauges.
+ * Each intercepted method gets two timers, tagged with the class, method and cache name, separating the time spent in the
+ * cache from the time spent in the intercepted method.
+ * Not a CDI bean so that the interceptors can be used without MicroProfile Metrics, enable it with a producer:
+ * <pre>{@code
+ * @Produces
+ * @ApplicationScoped
+ * public CacheMetrics cacheMetrics(final MetricRegistry registry) {
+ *     return new MicroProfileCacheMetrics(registry);
+ * }
+ * }</pre>
+ */
+public class MicroProfileCacheMetrics implements CacheMetrics {
+
+    private static final String PREFIX = "fd.caches.";
+
+    private final MetricRegistry registry;
+
+    /**
+     * The samplers read by the registered gauges, held here as registries may only hold weak references to them.
+     */
+    private final Map<CacheId, CacheStatsSampler> samplers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param registry the registry to register the metrics with, usually the application registry
+     */
+    public MicroProfileCacheMetrics(final MetricRegistry registry) {
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    @Override
+    public void registerCache(final CacheProvider provider, final String cacheName, final CacheSettings settings) {
+        final CacheStatsSampler sampler = new CacheStatsSampler(provider, cacheName);
+        if (!settings.recordStats() || samplers.putIfAbsent(new CacheId(provider.getProviderName(), cacheName), sampler) != null) {
+            return;
+        }
+        final Tag providerTag = new Tag("provider", provider.getProviderName());
+        final Tag cacheTag = new Tag("cache", cacheName);
+
+        gauge("gets", "The number of cache lookups", MetricUnits.NONE, sampler, CacheStats::hitCount,
+                providerTag, cacheTag, new Tag("result", "hit"));
+        gauge("gets", "The number of cache lookups", MetricUnits.NONE, sampler, CacheStats::missCount,
+                providerTag, cacheTag, new Tag("result", "miss"));
+        gauge("negative.hits", "The number of cache lookups that returned a cached absent result", MetricUnits.NONE, sampler,
+                CacheStats::negativeHitCount, providerTag, cacheTag);
+        gauge("loads", "The number of values loaded", MetricUnits.NONE, sampler, CacheStats::loadSuccessCount,
+                providerTag, cacheTag, new Tag("result", "success"));
+        gauge("loads", "The number of values loaded", MetricUnits.NONE, sampler, CacheStats::loadFailureCount,
+                providerTag, cacheTag, new Tag("result", "failure"));
+        gauge("load.duration", "The total time spent loading values", MetricUnits.NANOSECONDS, sampler,
+                CacheStats::totalLoadTimeNanos, providerTag, cacheTag);
+        for (final EvictionCause cause : EvictionCause.values()) {
+            gauge("evictions", "The number of entries removed by the cache", MetricUnits.NONE, sampler,
+                    stats -> stats.evictionCount(cause), providerTag, cacheTag, new Tag("cause", cause.name().toLowerCase(Locale.ROOT)));
+        }
+        gauge("size", "The number of entries in the cache", MetricUnits.NONE, sampler, CacheStats::size, providerTag, cacheTag);
+        registry.gauge(metadata("weight", "The total weight of the entries in the cache", MetricUnits.NONE),
+                sampler, CacheStatsSampler::weight, providerTag, cacheTag);
+    }
+
+    @Override
+    public InvocationTimer registerMethod(final Method method, final CacheProvider provider, final String cacheName) {
+        final Tag[] tags = {
+            new Tag("class", method.getDeclaringClass().getCanonicalName()),
+            new Tag("method", method.getName()),
+            new Tag("cache", cacheName)
+        };
+        final Timer cacheTimer = registry.timer(
+                metadata("method.cache", "Time spent in the cache by intercepted methods", MetricUnits.NANOSECONDS), tags);
+        final Timer invocationTimer = registry.timer(
+                metadata("method.invocation", "Time spent in intercepted methods on cache misses", MetricUnits.NANOSECONDS), tags);
+        return new InvocationTimer() {
+            @Override
+            public void recordCached(final long cacheNanos) {
+                cacheTimer.update(Duration.ofNanos(cacheNanos));
+            }
+
+            @Override
+            public void recordInvoked(final long cacheNanos, final long methodNanos) {
+                cacheTimer.update(Duration.ofNanos(cacheNanos));
+                invocationTimer.update(Duration.ofNanos(methodNanos));
+            }
+        };
+    }
+
+    private void gauge(final String name,
+                       final String description,
+                       final String unit,
+                       final CacheStatsSampler sampler,
+                       final Function<CacheStats, Long> metric,
+                       final Tag... tags) {
+        registry.gauge(metadata(name, description, unit), sampler, s -> metric.apply(s.stats()), tags);
+    }
+
+    private static Metadata metadata(final String name, final String description, final String unit) {
+        return Metadata.builder()
+                .withName(PREFIX + name)
+                .withDescription(description)
+                .withUnit(unit)
+                .build();
+    }
+
+    private record CacheId(String providerName, String cacheName) {}
+}
@@ -0,0 +1,282 @@
+package org.fermented.dairy.caches.interceptors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.interceptor.InvocationContext;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.eclipse.microprofile.config.Config;
+import org.fermented.dairy.caches.api.exceptions.CacheException;
+import org.fermented.dairy.caches.api.functions.BulkLoader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.fermented.dairy.caches.interceptors.entities.DefaultCacheEntityClass;
+import org.fermented.dairy.caches.interceptors.entities.NamedCachedBean;
+import org.fermented.dairy.caches.interceptors.utils.ContextUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CacheProviderLoadAllInterceptorTest {
+
+    private static final String CACHE_NAME = DefaultCacheEntityClass.class.getCanonicalName();
+
+    CacheLoadAllInterceptor cacheLoadAllInterceptor;
+
+    @Mock
+    Instance<CacheProvider> providers;
+
+    @Mock
+    CacheProvider defaultCacheProvider;
+
+    @Mock
+    CacheProvider cacheProvider1;
+
+    @Mock
+    Config config;
+
+    @BeforeEach
+    void init() {
+        lenient().when(defaultCacheProvider.getProviderName()).thenReturn("default");
+        lenient().when(cacheProvider1.getProviderName()).thenReturn("cache1");
+        lenient().when(providers.spliterator())
+                .thenAnswer(invocationOnMock -> List.of(cacheProvider1, defaultCacheProvider).spliterator());
+        lenient().when(config.getOptionalValue("fd.config.cache.provider.default", String.class))
+                .thenReturn(Optional.of("default"));
+        lenient().when(config.getOptionalValue("fd.config.cache.ttl.default", Long.class))
+                .thenReturn(Optional.of(3000L));
+        cacheLoadAllInterceptor = new CacheLoadAllInterceptor(config, providers);
+    }
+
+    /**
+     * Stubs loadAll to serve key 1 from the cache and load the other keys with the bulk loader.
+     */
+    private static void stubLoadAllWithCachedFirstKey(final CacheProvider provider, final Object cachedValue) throws Exception {
+        when(provider.loadAll(any(Collection.class), any(), any(String.class), anyLong(), any(Class.class), any(Class.class)))
+                .thenAnswer(invocationOnMock -> {
+                    final Collection<Object> keys = invocationOnMock.getArgument(0);
+                    final BulkLoader<Object, Object> bulkLoader = invocationOnMock.getArgument(1);
+                    final Map<Object, Object> values = new LinkedHashMap<>();
+                    values.put(1L, cachedValue);
+                    final Set<Object> missing = new LinkedHashSet<>(keys);
+                    missing.remove(1L);
+                    values.putAll(bulkLoader.load(missing));
+                    return values;
+                });
+    }
+
+    @DisplayName("""
+            The intercepted method takes a Collection of keys. The cached key should be served from the cache
+             and the method invoked with a List of only the missing keys, the results are merged.
+             Method: Map<Long, DefaultCacheEntityClass> defaultLoadAll(Collection<Long> params)
+            """)
+    @Test
+    void collectionOfKeysLoadsMissingKeys() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultLoadAll", Collection.class);
+        stubLoadAllWithCachedFirstKey(defaultCacheProvider, new DefaultCacheEntityClass(1L));
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                Map.of(2L, new DefaultCacheEntityClass(2L), 3L, new DefaultCacheEntityClass(3L)),
+                List.of(1L, 2L, 3L));
+
+        final Object actual = cacheLoadAllInterceptor.loadAllIntoCache(context);
+
+        final ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(context).setParameters(parameters.capture());
+        assertAll("assert load all",
+                () -> assertEquals(Map.of(1L, new DefaultCacheEntityClass(1L),
+                        2L, new DefaultCacheEntityClass(2L),
+                        3L, new DefaultCacheEntityClass(3L)), actual),
+                () -> assertEquals(List.of(2L, 3L), parameters.getValue()[0]));
+        verify(defaultCacheProvider).loadAll(eq(List.of(1L, 2L, 3L)),
+                any(),
+                eq(CACHE_NAME),
+                eq(3000L),
+                eq(Long.class),
+                eq(DefaultCacheEntityClass.class));
+    }
+
+    @DisplayName("""
+            The intercepted method takes an array of keys. The cache name, provider and ttl of the CachedType should be used
+             and the method invoked with an array of only the missing keys.
+             Method: Map<Long, NamedCachedBean> namedLoadAll(Long[] params)
+            """)
+    @Test
+    void arrayOfKeysUsesCachedTypeSettings() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoadAll", Long[].class);
+        stubLoadAllWithCachedFirstKey(cacheProvider1, new NamedCachedBean(1L));
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                Map.of(2L, new NamedCachedBean(2L)),
+                (Object) new Long[] {1L, 2L});
+
+        final Object actual = cacheLoadAllInterceptor.loadAllIntoCache(context);
+
+        final ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(context).setParameters(parameters.capture());
+        assertAll("assert load all",
+                () -> assertEquals(Map.of(1L, new NamedCachedBean(1L), 2L, new NamedCachedBean(2L)), actual),
+                () -> assertArrayEquals(new Long[] {2L}, (Long[]) parameters.getValue()[0]));
+        verify(cacheProvider1).loadAll(eq(List.of(1L, 2L)),
+                any(),
+                eq("overriddenCacheName"),
+                eq(10L),
+                eq(Long.class),
+                eq(NamedCachedBean.class));
+    }
+
+    @DisplayName("""
+            The intercepted method takes a Set of keys annotated with CacheKey and another parameter.
+             The other parameter should be passed on unchanged with a Set of only the missing keys.
+             Method: Map<Long, DefaultCacheEntityClass> defaultLoadAll(Object ignoredDummy, @CacheKey Set<Long> params)
+            """)
+    @Test
+    void annotatedSetOfKeysLoadsMissingKeys() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultLoadAll", Object.class, Set.class);
+        stubLoadAllWithCachedFirstKey(defaultCacheProvider, new DefaultCacheEntityClass(1L));
+        final Object dummy = new Object();
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                Map.of(2L, new DefaultCacheEntityClass(2L)),
+                dummy, Set.of(1L, 2L));
+
+        cacheLoadAllInterceptor.loadAllIntoCache(context);
+
+        final ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(context).setParameters(parameters.capture());
+        assertAll("assert the parameters",
+                () -> assertEquals(dummy, parameters.getValue()[0]),
+                () -> assertEquals(Set.of(2L), parameters.getValue()[1]));
+    }
+
+    @DisplayName("""
+            The intercepted method is passed an empty collection of keys.
+             The method should be invoked without using the cache.
+             Method: Map<Long, DefaultCacheEntityClass> defaultLoadAll(Collection<Long> params)
+            """)
+    @Test
+    void emptyKeysAreNotLoaded() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultLoadAll", Collection.class);
+
+        final Object actual = cacheLoadAllInterceptor.loadAllIntoCache(
+                ContextUtils.getInvocationContext(interceptedMethod, Map.of(), List.of()));
+
+        assertEquals(Map.of(), actual);
+        verify(defaultCacheProvider, never()).loadAll(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method is passed a collection of keys containing nulls.
+             The null keys should be skipped, neither looked up nor passed to the method.
+             Method: Map<Long, DefaultCacheEntityClass> defaultLoadAll(Collection<Long> params)
+            """)
+    @Test
+    void nullKeysAreSkipped() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultLoadAll", Collection.class);
+        stubLoadAllWithCachedFirstKey(defaultCacheProvider, new DefaultCacheEntityClass(1L));
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                Map.of(2L, new DefaultCacheEntityClass(2L)),
+                Arrays.asList(null, 1L, null, 2L));
+
+        final Object actual = cacheLoadAllInterceptor.loadAllIntoCache(context);
+
+        final ArgumentCaptor<Object[]> parameters = ArgumentCaptor.forClass(Object[].class);
+        verify(context).setParameters(parameters.capture());
+        assertAll("assert load all",
+                () -> assertEquals(Map.of(1L, new DefaultCacheEntityClass(1L), 2L, new DefaultCacheEntityClass(2L)), actual),
+                () -> assertEquals(List.of(2L), parameters.getValue()[0]));
+        verify(defaultCacheProvider).loadAll(eq(List.of(1L, 2L)),
+                any(),
+                eq(CACHE_NAME),
+                eq(3000L),
+                eq(Long.class),
+                eq(DefaultCacheEntityClass.class));
+    }
+
+    @DisplayName("""
+            The intercepted method is passed a collection of keys of different classes.
+             A CacheException should be thrown without using the cache.
+             Method: Map<Long, DefaultCacheEntityClass> defaultLoadAll(Collection<Long> params)
+            """)
+    @Test
+    void keysOfDifferentClassesAreRejected() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultLoadAll", Collection.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod, Map.of(), List.of(1L, "2"));
+
+        final CacheException exception = assertThrows(CacheException.class,
+                () -> cacheLoadAllInterceptor.loadAllIntoCache(context));
+        assertEquals("The keys passed to method defaultLoadAll in class " + CacheBean.class.getCanonicalName()
+                + " are of different classes, java.lang.Long and java.lang.String.", exception.getMessage());
+        verify(defaultCacheProvider, never()).loadAll(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @DisplayName("""
+            Caching is disabled in config for the CachedType.
+             The method should be invoked with all keys without using the cache.
+             Method: Map<Long, DefaultCacheEntityClass> defaultLoadAll(Collection<Long> params)
+            """)
+    @Test
+    void disabledCacheInvokesMethod() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultLoadAll", Collection.class);
+        when(config.getOptionalValue("fd.config.cache." + CACHE_NAME + ".disabled", Boolean.class))
+                .thenReturn(Optional.of(true));
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                Map.of(1L, new DefaultCacheEntityClass(1L)), List.of(1L));
+
+        final Object actual = cacheLoadAllInterceptor.loadAllIntoCache(context);
+
+        assertEquals(Map.of(1L, new DefaultCacheEntityClass(1L)), actual);
+        verify(context, never()).setParameters(any());
+        verify(defaultCacheProvider, never()).loadAll(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method returns a Map but is not annotated with CachedType.
+             A CacheException should be thrown.
+             Method: Map<Long, DefaultCacheEntityClass> loadAllWithoutCachedType(Collection<Long> params)
+            """)
+    @Test
+    void mapWithoutCachedType() throws Exception {
+        final Method interceptedMethod = CacheBean.class.getMethod("loadAllWithoutCachedType", Collection.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod, Map.of(), List.of(1L));
+
+        final CacheException exception = assertThrows(CacheException.class,
+                () -> cacheLoadAllInterceptor.loadAllIntoCache(context));
+        assertEquals("loadAllWithoutCachedType returns a Map and must be annotated with 'CachedType'", exception.getMessage());
+    }
+
+    @DisplayName("""
+            The intercepted method does not return a Map.
+             A CacheException should be thrown.
+             Method: List<DefaultCacheEntityClass> listLoadAll(Collection<Long> params)
+            """)
+    @Test
+    void listIsNotSupported() throws Exception {
+        final Method interceptedMethod = CacheBean.class.getMethod("listLoadAll", Collection.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod, List.of(), List.of(1L));
+
+        final CacheException exception = assertThrows(CacheException.class,
+                () -> cacheLoadAllInterceptor.loadAllIntoCache(context));
+        assertEquals("listLoadAll returns a java.util.List, only Map is supported when loading all", exception.getMessage());
+    }
+}
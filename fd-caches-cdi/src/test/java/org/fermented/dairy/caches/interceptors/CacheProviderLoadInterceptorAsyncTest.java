@@ -0,0 +1,183 @@
+package org.fermented.dairy.caches.interceptors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.interceptor.InvocationContext;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import org.eclipse.microprofile.config.Config;
+import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+import org.fermented.dairy.caches.api.functions.AsyncLoader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.InvocationTimer;
+import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.fermented.dairy.caches.interceptors.entities.DefaultCacheEntityClass;
+import org.fermented.dairy.caches.interceptors.utils.ContextUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CacheProviderLoadInterceptorAsyncTest {
+
+    private static final String CACHE_NAME = DefaultCacheEntityClass.class.getCanonicalName();
+
+    CacheLoadInterceptor cacheLoadInterceptor;
+
+    @Mock
+    Instance<CacheProvider> providers;
+
+    @Mock
+    Instance<CacheMetrics> metricsInstance;
+
+    @Mock
+    CacheProvider defaultCacheProvider;
+
+    @Mock
+    CacheMetrics metrics;
+
+    @Mock
+    InvocationTimer timer;
+
+    @Mock
+    Config config;
+
+    @BeforeEach
+    void init() {
+        lenient().when(defaultCacheProvider.getProviderName()).thenReturn("default");
+        lenient().when(providers.spliterator()).thenAnswer(invocationOnMock -> List.of(defaultCacheProvider).spliterator());
+        lenient().when(config.getOptionalValue("fd.config.cache.provider.default", String.class))
+                .thenReturn(Optional.of("default"));
+        lenient().when(defaultCacheProvider.loadAsync(
+                any(Object.class),
+                any(AsyncLoader.class),
+                any(String.class),
+                anyLong(),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((AsyncLoader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0))
+                .toCompletableFuture());
+        cacheLoadInterceptor = new CacheLoadInterceptor(config, providers);
+    }
+
+    @DisplayName("""
+            The intercepted method returns a CompletableFuture and is annotated with CachedType.
+             The value the future completes with should be loaded asynchronously into the cache for the CachedType.
+             Method: CompletableFuture<DefaultCacheEntityClass> defaultAsyncLoad(Long param)
+            """)
+    @Test
+    void completableFutureIsLoadedAsync() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultAsyncLoad", Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                CompletableFuture.completedFuture(new DefaultCacheEntityClass(1L)), 1L);
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(context);
+
+        assertAll("assert async load",
+                () -> assertInstanceOf(CompletableFuture.class, actual),
+                () -> assertEquals(new DefaultCacheEntityClass(1L), ((CompletableFuture<?>) actual).get()));
+        verify(defaultCacheProvider).loadAsync(eq(1L),
+                any(AsyncLoader.class),
+                eq(CACHE_NAME),
+                anyLong(),
+                eq(Long.class),
+                eq(DefaultCacheEntityClass.class));
+        verify(defaultCacheProvider, never()).load(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method returns a CompletionStage and is annotated with CachedType.
+             The value the stage completes with should be loaded asynchronously into the cache for the CachedType.
+             Method: CompletionStage<DefaultCacheEntityClass> defaultStageLoad(Long param)
+            """)
+    @Test
+    void completionStageIsLoadedAsync() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultStageLoad", Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                CompletableFuture.completedFuture(new DefaultCacheEntityClass(1L)), 1L);
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(context);
+
+        assertEquals(new DefaultCacheEntityClass(1L), ((CompletionStage<?>) actual).toCompletableFuture().get());
+    }
+
+    @DisplayName("""
+            The intercepted method returns a stage that completes exceptionally.
+             The returned future should complete exceptionally with the method's exception.
+             Method: CompletableFuture<DefaultCacheEntityClass> defaultAsyncLoad(Long param)
+            """)
+    @Test
+    void exceptionalCompletionIsPropagated() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultAsyncLoad", Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                CompletableFuture.failedFuture(new IOException("remote call failed")), 1L);
+
+        final CompletableFuture<?> actual = (CompletableFuture<?>) cacheLoadInterceptor.loadIntoCache(context);
+
+        final ExecutionException exception = assertThrows(ExecutionException.class, actual::get);
+        assertInstanceOf(IOException.class, exception.getCause());
+    }
+
+    @DisplayName("""
+            The intercepted method returns a CompletableFuture but is not annotated with CachedType.
+             A CacheRuntimeException should be thrown.
+             Method: CompletableFuture<DefaultCacheEntityClass> asyncLoadWithoutCachedType(Long param)
+            """)
+    @Test
+    void completableFutureWithoutCachedType() throws Exception {
+        final Method interceptedMethod = CacheBean.class.getMethod("asyncLoadWithoutCachedType", Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                CompletableFuture.completedFuture(new DefaultCacheEntityClass(1L)), 1L);
+
+        final CacheRuntimeException exception = assertThrows(CacheRuntimeException.class,
+                () -> cacheLoadInterceptor.loadIntoCache(context));
+        assertEquals("asyncLoadWithoutCachedType returns an optional or CompletionStage and must be annotated with 'CachedType'",
+                exception.getMessage());
+    }
+
+    @DisplayName("""
+            A CacheMetrics bean is available and the intercepted method returns a CompletableFuture that has not completed.
+             The cache and method time should only be recorded once the future completes.
+             Method: CompletableFuture<DefaultCacheEntityClass> defaultAsyncLoad(Long param)
+            """)
+    @Test
+    void timeIsRecordedOnCompletion() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("defaultAsyncLoad", Long.class);
+        when(metricsInstance.isResolvable()).thenReturn(true);
+        when(metricsInstance.get()).thenReturn(metrics);
+        when(metrics.registerMethod(interceptedMethod, defaultCacheProvider, CACHE_NAME)).thenReturn(timer);
+        cacheLoadInterceptor = new CacheLoadInterceptor(config, providers, metricsInstance);
+        final CompletableFuture<DefaultCacheEntityClass> remoteCall = new CompletableFuture<>();
+
+        final CompletableFuture<?> actual = (CompletableFuture<?>) cacheLoadInterceptor.loadIntoCache(
+                ContextUtils.getInvocationContext(interceptedMethod, remoteCall, 1L));
+
+        assertFalse(actual.isDone());
+        verify(timer, never()).recordInvoked(anyLong(), anyLong());
+        remoteCall.complete(new DefaultCacheEntityClass(1L));
+        assertEquals(new DefaultCacheEntityClass(1L), actual.get());
+        verify(timer).recordInvoked(anyLong(), anyLong());
+        verify(timer, never()).recordCached(anyLong());
+    }
+}
@@ -0,0 +1,101 @@
+package org.fermented.dairy.caches.interceptors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+import jakarta.enterprise.inject.Instance;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.eclipse.microprofile.config.Config;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.fermented.dairy.caches.interceptors.entities.StatsCacheRecord;
+import org.fermented.dairy.caches.interceptors.utils.ContextUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CacheProviderLoadInterceptorEventsTest {
+
+    CacheLoadInterceptor cacheLoadInterceptor;
+
+    @Mock
+    Instance<CacheProvider> providers;
+
+    @Mock
+    CacheProvider defaultCacheProvider;
+
+    @Mock
+    Config config;
+
+    Method interceptedMethod;
+
+    @BeforeEach
+    void init() throws NoSuchMethodException {
+        interceptedMethod = CacheBean.class.getMethod("statsLoad", Long.class);
+        lenient().when(defaultCacheProvider.getProviderName()).thenReturn("default");
+        lenient().when(providers.spliterator()).thenAnswer(invocationOnMock -> List.of(defaultCacheProvider).spliterator());
+        lenient().when(config.getOptionalValue("fd.config.cache.provider.default", String.class))
+                .thenReturn(Optional.of("default"));
+        cacheLoadInterceptor = new CacheLoadInterceptor(config, providers);
+    }
+
+    @DisplayName("""
+            A flight recording with the cache load event enabled is running.
+             The first invocation misses the cache and invokes the intercepted method, the second is served from the cache.
+             A single load event should be emitted, for the miss.
+             Method: StatsCacheRecord statsLoad(Long param)
+            """)
+    @Test
+    void cacheMissEmitsLoadEvent() throws Throwable {
+        final AtomicInteger loads = new AtomicInteger();
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> loads.getAndIncrement() == 0
+                ? ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0))
+                : new StatsCacheRecord(1L));
+
+        final Path dump = Files.createTempFile("fd-caches-events", ".jfr");
+        final List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable("org.fermented.dairy.caches.CacheLoad");
+            recording.start();
+            cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new StatsCacheRecord(1L), 1L));
+            cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new StatsCacheRecord(1L), 1L));
+            recording.stop();
+            recording.dump(dump);
+            events = RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+
+        assertAll("assert load event",
+                () -> assertEquals(1, events.size()),
+                () -> assertEquals("default", events.get(0).getString("providerName")),
+                () -> assertEquals(StatsCacheRecord.class.getCanonicalName(), events.get(0).getString("cacheName")),
+                () -> assertEquals(CacheBean.class.getName(), events.get(0).getClass("declaringClass").getName()),
+                () -> assertEquals("statsLoad", events.get(0).getString("methodName")),
+                () -> assertTrue(events.get(0).getBoolean("loaded")));
+    }
+}
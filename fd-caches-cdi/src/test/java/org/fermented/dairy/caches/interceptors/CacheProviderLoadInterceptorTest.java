@@ -2,32 +2,54 @@ package org.fermented.dairy.caches.interceptors;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.enterprise.inject.Instance;
+import jakarta.interceptor.InvocationContext;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.microprofile.config.Config;
 import org.fermented.dairy.caches.api.exceptions.CacheException;
 import org.fermented.dairy.caches.api.functions.Loader;
 import org.fermented.dairy.caches.api.functions.OptionalLoader;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.ReferenceStrength;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.CachePlans;
 import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.fermented.dairy.caches.interceptors.entities.BatchCacheRecord;
 import org.fermented.dairy.caches.interceptors.entities.DefaultCacheEntityClass;
 import org.fermented.dairy.caches.interceptors.entities.NamedCachedBean;
+import org.fermented.dairy.caches.interceptors.entities.NegativeCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.RefreshCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.SoftCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.StaleCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.StatsCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.ValueLengthWeigher;
+import org.fermented.dairy.caches.interceptors.entities.WeightedCacheRecord;
 import org.fermented.dairy.caches.interceptors.utils.ContextUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -51,6 +73,9 @@ class CacheProviderLoadInterceptorTest {
     @Mock
     Config config;
 
+    @Mock
+    Instance<CacheMetrics> metrics;
+
     List<CacheProvider> cacheProviderInstances;
 
     @BeforeEach
@@ -143,6 +168,15 @@ class CacheProviderLoadInterceptorTest {
         when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".cacheprovider", String.class)).thenReturn(Optional.of("cache2"));
         when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".cachename", String.class)).thenReturn(Optional.of("configcachename"));
         when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".ttlms", Long.class)).thenReturn(Optional.of(1234L));
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".maxentries", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".maxweight", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".valuestrength", String.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".recordstats", Boolean.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".refreshms", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".staleiferrorms", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".negativettlms", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".batchwindowms", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".maxbatchsize", Integer.class)).thenReturn(Optional.empty());
 
         when(cacheProvider2.load(
                 any(Object.class),
@@ -357,6 +391,15 @@ class CacheProviderLoadInterceptorTest {
         when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".cacheprovider", String.class)).thenReturn(Optional.of("cache2"));
         when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".cachename", String.class)).thenReturn(Optional.of("configcachename"));
         when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".ttlms", Long.class)).thenReturn(Optional.of(1234L));
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".maxentries", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".maxweight", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".valuestrength", String.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".recordstats", Boolean.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".refreshms", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".staleiferrorms", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".negativettlms", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".batchwindowms", Long.class)).thenReturn(Optional.empty());
+        when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".maxbatchsize", Integer.class)).thenReturn(Optional.empty());
 
         when(cacheProvider2.loadOptional(
                 any(Object.class),
@@ -445,4 +488,505 @@ class CacheProviderLoadInterceptorTest {
                 actualException.getMessage());
     }
 
-}
\ No newline at end of file
+    @DisplayName("""
+            The intercepted method is invoked twice. Config is only resolved on the first invocation.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void configResolvedOncePerMethod() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        final String ttlProperty = "fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".ttlms";
+
+        lenient().when(config.getOptionalValue(ttlProperty, Long.class)).thenReturn(Optional.of(1234L));
+        when(cacheProvider1.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> {
+            assertEquals(1234L, (long)invocationOnMock.getArgument(3), "ttl is incorrect");
+            return ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0));
+        });
+        cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L));
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(2L), 2L));
+        assertEquals(new NamedCachedBean(2L), actual);
+        verify(config, times(1)).getOptionalValue(ttlProperty, Long.class);
+    }
+
+    @DisplayName("""
+            The intercepted method is invoked through two interceptor instances sharing the application's CachePlans,
+             as @Dependent interceptors are created per intercepted bean. Config is only resolved on the first invocation
+             and the cache is only configured once.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void configResolvedOncePerMethodAcrossInstances() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        final String ttlProperty = "fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".ttlms";
+        when(providers.spliterator()).thenAnswer(invocationOnMock -> cacheProviderInstances.spliterator());
+        final CachePlans plans = new CachePlans();
+        final CacheLoadInterceptor firstInterceptor = new CacheLoadInterceptor(config, providers, metrics, plans);
+        final CacheLoadInterceptor otherInterceptor = new CacheLoadInterceptor(config, providers, metrics, plans);
+
+        when(cacheProvider1.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+        firstInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L));
+        final Object actual = otherInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(2L), 2L));
+        assertEquals(new NamedCachedBean(2L), actual);
+        verify(config, times(1)).getOptionalValue(ttlProperty, Long.class);
+        verify(cacheProvider1, times(1)).configureCache(any(), any());
+    }
+
+    @DisplayName("""
+            The cached type sets maxWeight and a weigher on its Cached annotation.
+             The cache provider should be configured with the maximum weight and an instance of the weigher.
+             Method: WeightedCacheRecord weightedLoad(Long param)
+            """)
+    @Test
+    void weightedCacheConfiguresProvider() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("weightedLoad", Long.class);
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new WeightedCacheRecord(1L, "value 1"), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(defaultCacheProvider).configureCache(eq(WeightedCacheRecord.class.getCanonicalName()), settingsCaptor.capture());
+        final CacheSettings settings = settingsCaptor.getValue();
+        assertAll("Validate cache settings",
+                () -> assertEquals(new WeightedCacheRecord(1L, "value 1"), actual),
+                () -> assertEquals(1000L, settings.maxWeight(), "maxWeight is incorrect"),
+                () -> assertEquals(CacheSettings.UNBOUNDED, settings.maxEntries(), "maxEntries is incorrect"),
+                () -> assertInstanceOf(ValueLengthWeigher.class, settings.weigher(), "weigher is incorrect"),
+                () -> assertEquals(3, settings.weigher().weigh(1L, new WeightedCacheRecord(1L, "abc")), "weight is incorrect"));
+    }
+
+    @DisplayName("""
+            The cached type sets valueStrength on its Cached annotation.
+             The cache provider should be configured with soft values.
+             Method: SoftCacheRecord softLoad(Long param)
+            """)
+    @Test
+    void softCacheConfiguresProvider() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("softLoad", Long.class);
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new SoftCacheRecord(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(defaultCacheProvider).configureCache(eq(SoftCacheRecord.class.getCanonicalName()), settingsCaptor.capture());
+        final CacheSettings settings = settingsCaptor.getValue();
+        assertAll("Validate cache settings",
+                () -> assertEquals(new SoftCacheRecord(1L), actual),
+                () -> assertEquals(100L, settings.maxEntries(), "maxEntries is incorrect"),
+                () -> assertEquals(ReferenceStrength.SOFT, settings.valueStrength(), "valueStrength is incorrect"));
+    }
+
+    @DisplayName("""
+            The value reference strength is overridden in config.
+             The cache provider should be configured with weak values.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void valueStrengthConfigOverrides() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        lenient().when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".valuestrength", String.class)).thenReturn(Optional.of("weak"));
+        when(cacheProvider1.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(cacheProvider1).configureCache(eq("overriddenCacheName"), settingsCaptor.capture());
+        assertEquals(ReferenceStrength.WEAK, settingsCaptor.getValue().valueStrength());
+    }
+
+    @DisplayName("""
+            The value reference strength is overridden in config with an unknown value.
+             A CacheException should be thrown.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void unknownValueStrengthConfigThrows() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        lenient().when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".valuestrength", String.class)).thenReturn(Optional.of("brittle"));
+
+        final CacheException exception = assertThrows(CacheException.class, () -> cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L)));
+        assertEquals("Unknown reference strength 'brittle', expected one of strong, soft or weak", exception.getMessage());
+    }
+
+    @DisplayName("""
+            The cached type sets recordStats on its Cached annotation.
+             The cache provider should be configured to record statistics.
+             Method: StatsCacheRecord statsLoad(Long param)
+            """)
+    @Test
+    void statsCacheConfiguresProvider() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("statsLoad", Long.class);
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new StatsCacheRecord(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(defaultCacheProvider).configureCache(eq(StatsCacheRecord.class.getCanonicalName()), settingsCaptor.capture());
+        final CacheSettings settings = settingsCaptor.getValue();
+        assertAll("Validate cache settings",
+                () -> assertEquals(new StatsCacheRecord(1L), actual),
+                () -> assertTrue(settings.recordStats(), "recordStats is incorrect"),
+                () -> assertFalse(settings.isBounded(), "cache should be unbounded"));
+    }
+
+    @DisplayName("""
+            Statistics recording is switched on in config.
+             The cache provider should be configured to record statistics.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void recordStatsConfigOverrides() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        lenient().when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".recordstats", Boolean.class)).thenReturn(Optional.of(true));
+        when(cacheProvider1.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(cacheProvider1).configureCache(eq("overriddenCacheName"), settingsCaptor.capture());
+        assertTrue(settingsCaptor.getValue().recordStats());
+    }
+
+    @DisplayName("""
+            The cached type sets refreshAfterMilliSeconds on its Cached annotation.
+             The cache provider should be configured to refresh values.
+             Method: RefreshCacheRecord refreshLoad(Long param)
+            """)
+    @Test
+    void refreshCacheConfiguresProvider() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("refreshLoad", Long.class);
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new RefreshCacheRecord(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(defaultCacheProvider).configureCache(eq(RefreshCacheRecord.class.getCanonicalName()), settingsCaptor.capture());
+        final CacheSettings settings = settingsCaptor.getValue();
+        assertAll("Validate cache settings",
+                () -> assertEquals(new RefreshCacheRecord(1L), actual),
+                () -> assertTrue(settings.isRefreshing(), "cache should refresh values"),
+                () -> assertEquals(30000L, settings.refreshAfterMilliSeconds(), "refreshAfterMilliSeconds is incorrect"));
+    }
+
+    @DisplayName("""
+            The cache provider invokes the loader off the calling thread, as it does to refresh a value.
+             The method should be invoked on the bean instance instead of proceeding with the returned invocation.
+             Method: RefreshCacheRecord refreshLoad(Long param)
+            """)
+    @Test
+    void loaderOffCallingThreadInvokesTarget() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("refreshLoad", Long.class);
+        final InvocationContext ctx = ContextUtils.getInvocationContext(interceptedMethod, new RefreshCacheRecord(2L), 1L);
+        when(ctx.getTarget()).thenReturn(new CacheBean());
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> loadOnOtherThread(invocationOnMock.getArgument(1), invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ctx);
+
+        assertEquals(new RefreshCacheRecord(1L), actual);
+        verify(ctx, never()).proceed();
+    }
+
+    @DisplayName("""
+            The cache provider invokes the loader off the calling thread and the bean instance is intercepted again.
+             The cache should be bypassed for that invocation, proceeding with the new invocation.
+             Method: RefreshCacheRecord refreshLoad(Long param)
+            """)
+    @Test
+    void targetInvocationBypassesCache() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("refreshLoad", Long.class);
+        final InvocationContext ctx = ContextUtils.getInvocationContext(interceptedMethod, new RefreshCacheRecord(2L), 1L);
+        final InvocationContext targetInvocation = ContextUtils.getInvocationContext(interceptedMethod, new RefreshCacheRecord(3L), 1L);
+        when(ctx.getTarget()).thenReturn(new CacheBean() {
+            @Override
+            public RefreshCacheRecord refreshLoad(final Long param) {
+                try {
+                    return (RefreshCacheRecord) cacheLoadInterceptor.loadIntoCache(targetInvocation);
+                } catch (final Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        });
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> loadOnOtherThread(invocationOnMock.getArgument(1), invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ctx);
+
+        assertEquals(new RefreshCacheRecord(3L), actual);
+        verify(defaultCacheProvider, times(1)).load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class));
+        verify(ctx, never()).proceed();
+    }
+
+    private static Object loadOnOtherThread(final Loader<Object, Object> loader, final Object key) throws Exception {
+        final FutureTask<Object> load = new FutureTask<>(() -> {
+            try {
+                return loader.load(key);
+            } catch (final Throwable e) {
+                throw new ExecutionException(e);
+            }
+        });
+        new Thread(load).start();
+        return load.get(5, TimeUnit.SECONDS);
+    }
+
+    @DisplayName("""
+            The refresh time is set in config.
+             The cache provider should be configured to refresh values after the configured time.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void refreshAfterConfigOverrides() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        lenient().when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".refreshms", Long.class)).thenReturn(Optional.of(5000L));
+        when(cacheProvider1.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(cacheProvider1).configureCache(eq("overriddenCacheName"), settingsCaptor.capture());
+        assertEquals(5000L, settingsCaptor.getValue().refreshAfterMilliSeconds());
+    }
+
+    @DisplayName("""
+            The cached type sets staleIfErrorMilliSeconds on its Cached annotation.
+             The cache provider should be configured to serve stale values when reloads fail.
+             Method: StaleCacheRecord staleLoad(Long param)
+            """)
+    @Test
+    void staleIfErrorCacheConfiguresProvider() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("staleLoad", Long.class);
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new StaleCacheRecord(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(defaultCacheProvider).configureCache(eq(StaleCacheRecord.class.getCanonicalName()), settingsCaptor.capture());
+        final CacheSettings settings = settingsCaptor.getValue();
+        assertAll("Validate cache settings",
+                () -> assertEquals(new StaleCacheRecord(1L), actual),
+                () -> assertTrue(settings.isServingStaleIfError(), "cache should serve stale values"),
+                () -> assertEquals(300000L, settings.staleIfErrorMilliSeconds(), "staleIfErrorMilliSeconds is incorrect"));
+    }
+
+    @DisplayName("""
+            The stale-if-error window is set in config.
+             The cache provider should be configured to serve stale values for the configured time.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void staleIfErrorConfigOverrides() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        lenient().when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".staleiferrorms", Long.class)).thenReturn(Optional.of(60000L));
+        when(cacheProvider1.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(cacheProvider1).configureCache(eq("overriddenCacheName"), settingsCaptor.capture());
+        assertEquals(60000L, settingsCaptor.getValue().staleIfErrorMilliSeconds());
+    }
+
+    @DisplayName("""
+            The cached type sets negativeTtlMilliSeconds on its Cached annotation.
+             The cache provider should be configured to cache absent results.
+             Method: NegativeCacheRecord negativeLoad(Long param)
+            """)
+    @Test
+    void negativeTtlCacheConfiguresProvider() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("negativeLoad", Long.class);
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NegativeCacheRecord(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(defaultCacheProvider).configureCache(eq(NegativeCacheRecord.class.getCanonicalName()), settingsCaptor.capture());
+        final CacheSettings settings = settingsCaptor.getValue();
+        assertAll("Validate cache settings",
+                () -> assertEquals(new NegativeCacheRecord(1L), actual),
+                () -> assertTrue(settings.isCachingAbsent(), "cache should cache absent results"),
+                () -> assertEquals(5000L, settings.negativeTtlMilliSeconds(), "negativeTtlMilliSeconds is incorrect"));
+    }
+
+    @DisplayName("""
+            The negative time to live is set in config.
+             The cache provider should be configured to cache absent results for the configured time.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void negativeTtlConfigOverrides() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        lenient().when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".negativettlms", Long.class)).thenReturn(Optional.of(1000L));
+        when(cacheProvider1.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(cacheProvider1).configureCache(eq("overriddenCacheName"), settingsCaptor.capture());
+        assertEquals(1000L, settingsCaptor.getValue().negativeTtlMilliSeconds());
+    }
+
+    @DisplayName("""
+            The cached type sets batchWindowMilliSeconds and maxBatchSize on its Cached annotation.
+             The cache provider should be configured to batch misses.
+             Method: BatchCacheRecord batchLoad(Long param)
+            """)
+    @Test
+    void batchWindowCacheConfiguresProvider() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("batchLoad", Long.class);
+        when(defaultCacheProvider.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        final Object actual = cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new BatchCacheRecord(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(defaultCacheProvider).configureCache(eq(BatchCacheRecord.class.getCanonicalName()), settingsCaptor.capture());
+        final CacheSettings settings = settingsCaptor.getValue();
+        assertAll("Validate cache settings",
+                () -> assertEquals(new BatchCacheRecord(1L), actual),
+                () -> assertTrue(settings.isBatching(), "cache should batch misses"),
+                () -> assertEquals(2L, settings.batchWindowMilliSeconds(), "batchWindowMilliSeconds is incorrect"),
+                () -> assertEquals(50, settings.maxBatchSize(), "maxBatchSize is incorrect"));
+    }
+
+    @DisplayName("""
+            The batch window and maximum batch size are set in config.
+             The cache provider should be configured to batch misses with the configured values.
+             Method: NamedCachedBean namedLoad(Long param)
+            """)
+    @Test
+    void batchWindowConfigOverrides() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("namedLoad", Long.class);
+        lenient().when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".batchwindowms", Long.class)).thenReturn(Optional.of(5L));
+        lenient().when(config.getOptionalValue("fd.config.cache." + NamedCachedBean.class.getCanonicalName() + ".maxbatchsize", Integer.class)).thenReturn(Optional.of(20));
+        when(cacheProvider1.load(
+                any(Object.class),
+                any(Loader.class),
+                any(String.class),
+                any(Long.class),
+                any(Class.class),
+                any(Class.class)
+        )).thenAnswer(invocationOnMock -> ((Loader)invocationOnMock.getArgument(1)).load(invocationOnMock.getArgument(0)));
+
+        cacheLoadInterceptor.loadIntoCache(ContextUtils.getInvocationContext(interceptedMethod, new NamedCachedBean(1L), 1L));
+
+        final ArgumentCaptor<CacheSettings> settingsCaptor = ArgumentCaptor.forClass(CacheSettings.class);
+        verify(cacheProvider1).configureCache(eq("overriddenCacheName"), settingsCaptor.capture());
+        assertAll("Validate cache settings",
+                () -> assertEquals(5L, settingsCaptor.getValue().batchWindowMilliSeconds()),
+                () -> assertEquals(20, settingsCaptor.getValue().maxBatchSize()));
+    }
+}
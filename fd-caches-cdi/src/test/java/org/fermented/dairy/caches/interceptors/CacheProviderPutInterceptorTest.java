@@ -0,0 +1,210 @@
+package org.fermented.dairy.caches.interceptors;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.enterprise.inject.Instance;
+import jakarta.interceptor.InvocationContext;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Optional;
+import org.eclipse.microprofile.config.Config;
+import org.fermented.dairy.caches.api.exceptions.CacheException;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.handlers.CachePlans;
+import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.fermented.dairy.caches.interceptors.entities.CacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.DefaultCacheEntityClass;
+import org.fermented.dairy.caches.interceptors.entities.NamedCachedBean;
+import org.fermented.dairy.caches.interceptors.utils.ContextUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CacheProviderPutInterceptorTest {
+
+    private static final String CACHE_NAME = DefaultCacheEntityClass.class.getCanonicalName();
+
+    CachePutInterceptor cachePutInterceptor;
+
+    @Mock
+    Instance<CacheProvider> providers;
+
+    @Mock
+    CacheProvider defaultCacheProvider;
+
+    @Mock
+    CacheProvider cacheProvider1;
+
+    @Mock
+    Config config;
+
+    @Mock
+    Instance<CacheMetrics> metrics;
+
+    @BeforeEach
+    void init() {
+        lenient().when(defaultCacheProvider.getProviderName()).thenReturn("default");
+        lenient().when(cacheProvider1.getProviderName()).thenReturn("cache1");
+        lenient().when(providers.spliterator())
+                .thenAnswer(invocationOnMock -> List.of(cacheProvider1, defaultCacheProvider).spliterator());
+        lenient().when(config.getOptionalValue("fd.config.cache.provider.default", String.class))
+                .thenReturn(Optional.of("default"));
+        lenient().when(config.getOptionalValue("fd.config.cache.ttl.default", Long.class))
+                .thenReturn(Optional.of(3000L));
+        cachePutInterceptor = new CachePutInterceptor(config, providers, metrics, new CachePlans());
+    }
+
+    @DisplayName("""
+            The intercepted method takes the key as its only parameter.
+             The returned value should replace the value cached for the key, after the cache is configured.
+             Method: DefaultCacheEntityClass putDefault(Long key)
+            """)
+    @Test
+    void onlyParameterIsKey() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putDefault", Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod, new DefaultCacheEntityClass(1L), 1L);
+
+        final Object actual = cachePutInterceptor.putIntoCache(context);
+
+        assertEquals(new DefaultCacheEntityClass(1L), actual);
+        verify(defaultCacheProvider).configureCache(CACHE_NAME, CacheSettings.defaults());
+        verify(defaultCacheProvider).put(1L, new DefaultCacheEntityClass(1L), CACHE_NAME, 3000L, Long.class, DefaultCacheEntityClass.class);
+    }
+
+    @DisplayName("""
+            The intercepted method has a parameter annotated with CacheKey.
+             The returned value should be put with the cache name, provider and ttl of the returned type.
+             Method: NamedCachedBean putNamed(Object ignoredDummy, @CacheKey Long key)
+            """)
+    @Test
+    void annotatedParameterIsKey() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putNamed", Object.class, Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                new NamedCachedBean(2L), new Object(), 2L);
+
+        cachePutInterceptor.putIntoCache(context);
+
+        verify(cacheProvider1).put(2L, new NamedCachedBean(2L), "overriddenCacheName", 10L, Long.class, NamedCachedBean.class);
+        verify(defaultCacheProvider, never()).put(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method takes a cached bean.
+             The returned value should be put under the key of the bean passed in.
+             Method: CacheRecord putRecord(CacheRecord toSave)
+            """)
+    @Test
+    void cachedBeanParameterIsKey() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putRecord", CacheRecord.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                new CacheRecord(5L), new CacheRecord(5L));
+
+        cachePutInterceptor.putIntoCache(context);
+
+        verify(defaultCacheProvider).put(5L, new CacheRecord(5L), CacheRecord.class.getCanonicalName(), 3000L, Long.class, CacheRecord.class);
+    }
+
+    @DisplayName("""
+            The intercepted method has no key parameter and returns a cached bean.
+             The returned value should be put under its own key.
+             Method: DefaultCacheEntityClass createDefault(String ignoredPayload, Long ignoredOwner)
+            """)
+    @Test
+    void returnedBeanIsKey() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("createDefault", String.class, Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod,
+                new DefaultCacheEntityClass(7L), "payload", 3L);
+
+        cachePutInterceptor.putIntoCache(context);
+
+        verify(defaultCacheProvider).put(7L, new DefaultCacheEntityClass(7L), CACHE_NAME, 3000L, Long.class, DefaultCacheEntityClass.class);
+    }
+
+    @DisplayName("""
+            The intercepted method returns an Optional and is annotated with CachedType.
+             A present value should be unwrapped and put, an empty Optional should remove the value cached for the key.
+             Method: Optional<DefaultCacheEntityClass> putOptional(Long key)
+            """)
+    @Test
+    void optionalIsUnwrapped() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putOptional", Long.class);
+
+        final Object present = cachePutInterceptor.putIntoCache(ContextUtils.getInvocationContext(interceptedMethod,
+                Optional.of(new DefaultCacheEntityClass(1L)), 1L));
+        final Object empty = cachePutInterceptor.putIntoCache(ContextUtils.getInvocationContext(interceptedMethod,
+                Optional.empty(), 2L));
+
+        assertAll("assert the Optionals are returned",
+                () -> assertEquals(Optional.of(new DefaultCacheEntityClass(1L)), present),
+                () -> assertEquals(Optional.empty(), empty));
+        verify(defaultCacheProvider).put(1L, new DefaultCacheEntityClass(1L), CACHE_NAME, 3000L, Long.class, DefaultCacheEntityClass.class);
+        verify(defaultCacheProvider).removeValue(CACHE_NAME, 2L);
+    }
+
+    @DisplayName("""
+            The intercepted method throws an exception.
+             The exception should be propagated and nothing put in the cache.
+             Method: DefaultCacheEntityClass putDefault(Long key)
+            """)
+    @Test
+    void failedMethodIsNotPut() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putDefault", Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod, null, 1L);
+        doThrow(new IOException("write failed")).when(context).proceed();
+
+        assertThrows(IOException.class, () -> cachePutInterceptor.putIntoCache(context));
+        verify(defaultCacheProvider, never()).put(any(), any(), any(), anyLong(), any(), any());
+        verify(defaultCacheProvider, never()).removeValue(any(), any());
+    }
+
+    @DisplayName("""
+            Caching is disabled in config for the returned type.
+             The method should be invoked without using the cache.
+             Method: DefaultCacheEntityClass putDefault(Long key)
+            """)
+    @Test
+    void disabledCacheInvokesMethod() throws Throwable {
+        final Method interceptedMethod = CacheBean.class.getMethod("putDefault", Long.class);
+        when(config.getOptionalValue("fd.config.cache." + CACHE_NAME + ".disabled", Boolean.class))
+                .thenReturn(Optional.of(true));
+
+        final Object actual = cachePutInterceptor.putIntoCache(ContextUtils.getInvocationContext(interceptedMethod,
+                new DefaultCacheEntityClass(1L), 1L));
+
+        assertEquals(new DefaultCacheEntityClass(1L), actual);
+        verify(defaultCacheProvider, never()).configureCache(any(), any());
+        verify(defaultCacheProvider, never()).put(any(), any(), any(), anyLong(), any(), any());
+    }
+
+    @DisplayName("""
+            The intercepted method returns a CompletableFuture.
+             A CacheException should be thrown before the method is invoked.
+             Method: CompletableFuture<DefaultCacheEntityClass> putAsync(Long key)
+            """)
+    @Test
+    void completableFutureIsNotSupported() throws Exception {
+        final Method interceptedMethod = CacheBean.class.getMethod("putAsync", Long.class);
+        final InvocationContext context = ContextUtils.getInvocationContext(interceptedMethod, null, 1L);
+
+        final CacheException exception = assertThrows(CacheException.class, () -> cachePutInterceptor.putIntoCache(context));
+        assertEquals("putAsync returns a java.util.concurrent.CompletableFuture, only values and Optionals are supported when putting",
+                exception.getMessage());
+        verify(context, never()).proceed();
+    }
+}
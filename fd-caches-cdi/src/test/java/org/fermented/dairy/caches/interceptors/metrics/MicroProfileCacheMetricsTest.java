@@ -0,0 +1,138 @@
+package org.fermented.dairy.caches.interceptors.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.records.EvictionCause;
+import org.fermented.dairy.caches.handlers.InvocationTimer;
+import org.fermented.dairy.caches.interceptors.beans.CacheBean;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MicroProfileCacheMetricsTest {
+
+    private static final CacheStats STATS = new CacheStats(7L, 2L, 3L, 2L, 1L, 900L,
+            Map.of(EvictionCause.SIZE, 4L, EvictionCause.EXPIRED, 5L), 6L, CacheStats.NOT_WEIGHTED);
+
+    private static final String TAGS = "[provider=default, cache=StatsCache";
+
+    @Mock
+    MetricRegistry registry;
+
+    @Mock
+    CacheProvider provider;
+
+    @Mock
+    Timer cacheTimer;
+
+    @Mock
+    Timer invocationTimer;
+
+    private final Map<String, Number> gauges = new HashMap<>();
+
+    private MicroProfileCacheMetrics metrics;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void init() {
+        lenient().when(provider.getProviderName()).thenReturn("default");
+        lenient().when(provider.getStats("StatsCache")).thenReturn(Optional.of(STATS));
+        lenient().when(registry.gauge(any(Metadata.class), any(), any(Function.class), any(Tag[].class))).thenAnswer(invocationOnMock -> {
+            final Metadata metadata = invocationOnMock.getArgument(0);
+            final Tag[] tags = (Tag[]) invocationOnMock.getRawArguments()[3];
+            final String key = metadata.getName() + Arrays.stream(tags)
+                    .map(tag -> tag.getTagName() + "=" + tag.getTagValue())
+                    .collect(Collectors.joining(", ", "[", "]"));
+            gauges.put(key, ((Function<Object, Number>) invocationOnMock.getArgument(2)).apply(invocationOnMock.getArgument(1)));
+            return null;
+        });
+        metrics = new MicroProfileCacheMetrics(registry);
+    }
+
+    @DisplayName("""
+            A cache recording statistics is registered twice.
+             Gauges reading the provider's statistics should be registered once, tagged with the provider and cache name.
+            """)
+    @Test
+    void registersStatsGauges() {
+        metrics.registerCache(provider, "StatsCache", CacheSettings.defaults().withRecordStats(true));
+        metrics.registerCache(provider, "StatsCache", CacheSettings.defaults().withRecordStats(true));
+
+        assertAll("Validate gauges",
+                () -> assertEquals(7L, gauges.get("fd.caches.gets" + TAGS + ", result=hit]")),
+                () -> assertEquals(3L, gauges.get("fd.caches.gets" + TAGS + ", result=miss]")),
+                () -> assertEquals(2L, gauges.get("fd.caches.negative.hits" + TAGS + "]")),
+                () -> assertEquals(2L, gauges.get("fd.caches.loads" + TAGS + ", result=success]")),
+                () -> assertEquals(1L, gauges.get("fd.caches.loads" + TAGS + ", result=failure]")),
+                () -> assertEquals(900L, gauges.get("fd.caches.load.duration" + TAGS + "]")),
+                () -> assertEquals(4L, gauges.get("fd.caches.evictions" + TAGS + ", cause=size]")),
+                () -> assertEquals(5L, gauges.get("fd.caches.evictions" + TAGS + ", cause=expired]")),
+                () -> assertEquals(0L, gauges.get("fd.caches.evictions" + TAGS + ", cause=collected]")),
+                () -> assertEquals(6L, gauges.get("fd.caches.size" + TAGS + "]")),
+                () -> assertTrue(Double.isNaN(gauges.get("fd.caches.weight" + TAGS + "]").doubleValue())),
+                () -> assertEquals(11, gauges.size()));
+        verify(registry, times(11)).gauge(any(Metadata.class), any(), any(Function.class), any(Tag[].class));
+        verify(provider).getStats("StatsCache");
+    }
+
+    @DisplayName("""
+            A cache that does not record statistics is registered.
+             No gauges should be registered.
+            """)
+    @Test
+    void cacheWithoutStatsIsNotRegistered() {
+        metrics.registerCache(provider, "StatsCache", CacheSettings.defaults());
+
+        verify(registry, never()).gauge(any(Metadata.class), any(), any(Function.class), any(Tag[].class));
+    }
+
+    @DisplayName("""
+            An intercepted method is registered.
+             The time spent in the cache should be recorded for every invocation
+             and the time spent in the method only when it is invoked.
+            """)
+    @Test
+    void registersMethodTimers() throws NoSuchMethodException {
+        final Method method = CacheBean.class.getMethod("statsLoad", Long.class);
+        when(registry.timer(argThat((Metadata metadata) -> metadata != null && "fd.caches.method.cache".equals(metadata.getName())), any(Tag[].class)))
+                .thenReturn(cacheTimer);
+        when(registry.timer(argThat((Metadata metadata) -> metadata != null && "fd.caches.method.invocation".equals(metadata.getName())), any(Tag[].class)))
+                .thenReturn(invocationTimer);
+
+        final InvocationTimer timer = metrics.registerMethod(method, provider, "StatsCache");
+        timer.recordCached(100L);
+        timer.recordInvoked(200L, 300L);
+
+        verify(cacheTimer).update(Duration.ofNanos(100L));
+        verify(cacheTimer).update(Duration.ofNanos(200L));
+        verify(invocationTimer).update(Duration.ofNanos(300L));
+    }
+}
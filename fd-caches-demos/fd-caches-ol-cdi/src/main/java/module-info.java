@@ -6,6 +6,8 @@ module fd.caches.ol.cdi {
     requires jakarta.validation;
     requires jakarta.cdi;
     requires fd.caches.cdi;
+    requires fd.caches.shared;
+    requires microprofile.metrics.api;
     requires lombok;
     requires org.apache.commons.text;
     requires java.logging;
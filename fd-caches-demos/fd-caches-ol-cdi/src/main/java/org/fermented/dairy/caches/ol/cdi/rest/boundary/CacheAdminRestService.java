@@ -23,6 +23,7 @@ import org.eclipse.microprofile.openapi.annotations.Operation;
 import org.eclipse.microprofile.openapi.annotations.media.Content;
 import org.eclipse.microprofile.openapi.annotations.responses.APIResponse;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheStats;
 
 /**
  * REST boundary for cache admin.
@@ -138,6 +139,41 @@ public class CacheAdminRestService {
         return Set.copyOf(cacheProvider.getKeys(cacheName));
     }
 
+    /**
+     * Get the statistics of a cache in the provider.
+     *
+     * @param provider the name of the provider
+     * @param cacheName the name of the cache
+     * @return the cache statistics
+     */
+    @GET
+    @Path("providers/{provider}/caches/{cacheName}/stats")
+    @APIResponse(
+            responseCode = "404",
+            description = "If the provider or cache does not exist, or the cache does not record statistics",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON))
+    @APIResponse(
+            responseCode = "200",
+            description = "The cache statistics",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON))
+    @Operation(
+            summary = "Gets the statistics for a given cache and provider")
+    public CacheStats getStats(@PathParam("provider") @NotNull final String provider,
+                               @PathParam("cacheName") @NotNull final String cacheName) {
+        final CacheProvider cacheProvider = caches.stream()
+                .filter(cacheItem -> provider.equalsIgnoreCase(cacheItem.getProviderName()))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("cache provider named %s not found".formatted(provider)
+                ));
+
+        return cacheProvider.getStats(cacheName)
+                .orElseThrow(
+                        () -> new NotFoundException(
+                                "Cache provider named %s does not record statistics for a cache named %s".formatted(provider, cacheName)
+                        )
+                );
+    }
+
     /**
      * peek all object in cache.
      *
@@ -0,0 +1,27 @@
+package org.fermented.dairy.caches.ol.cdi.rest.controller.metrics;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.fermented.dairy.caches.interceptors.metrics.MicroProfileCacheMetrics;
+
+/**
+ * Enables the cache metrics, registering them with the application metric registry.
+ */
+@ApplicationScoped
+public class CacheMetricsProducer {
+
+    /**
+     * Produces the cache metrics.
+     *
+     * @param registry the application metric registry
+     *
+     * @return the cache metrics
+     */
+    @Produces
+    @ApplicationScoped
+    public CacheMetrics cacheMetrics(final MetricRegistry registry) {
+        return new MicroProfileCacheMetrics(registry);
+    }
+}
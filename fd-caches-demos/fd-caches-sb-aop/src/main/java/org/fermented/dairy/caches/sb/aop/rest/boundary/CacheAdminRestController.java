@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.media.Content;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheStats;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -126,6 +127,40 @@ public class CacheAdminRestController {
         return Set.copyOf(cacheProvider.getKeys(cacheName));
     }
 
+    /**
+     * Get the statistics of a cache in the provider.
+     *
+     * @param provider the name of the provider
+     * @param cacheName the name of the cache
+     * @return the cache statistics
+     */
+    @GetMapping("providers/{provider}/caches/{cacheName}/stats")
+    @ApiResponse(
+            responseCode = "404",
+            description = "If the provider or cache does not exist, or the cache does not record statistics",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+    @ApiResponse(
+            responseCode = "200",
+            description = "The cache statistics",
+            content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE))
+    @Operation(
+            summary = "Gets the statistics for a given cache and provider")
+    public CacheStats getStats(@PathVariable("provider") @NotNull final String provider,
+                               @PathVariable("cacheName") @NotNull final String cacheName) {
+        final CacheProvider cacheProvider = caches.stream()
+                .filter(cacheItem -> provider.equalsIgnoreCase(cacheItem.getProviderName()))
+                .findFirst()
+                .orElseThrow(() -> new NotFoundException("cache provider named %s not found".formatted(provider)
+                ));
+
+        return cacheProvider.getStats(cacheName)
+                .orElseThrow(
+                        () -> new NotFoundException(
+                                "Cache provider named %s does not record statistics for a cache named %s".formatted(provider, cacheName)
+                        )
+                );
+    }
+
     /**
      * peek all object in cache.
      *
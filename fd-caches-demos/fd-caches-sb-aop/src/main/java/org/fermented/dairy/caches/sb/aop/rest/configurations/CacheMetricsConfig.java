@@ -0,0 +1,16 @@
+package org.fermented.dairy.caches.sb.aop.rest.configurations;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.fermented.dairy.caches.aspects.metrics.MicrometerCacheMetrics;
+import org.fermented.dairy.caches.handlers.CacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class CacheMetricsConfig {
+
+    @Bean("cacheMetrics")
+    CacheMetrics getCacheMetrics(final MeterRegistry meterRegistry) {
+        return new MicrometerCacheMetrics(meterRegistry);
+    }
+}
@@ -1,14 +1,28 @@
 package org.fermented.dairy.caches.sb.aop.rest.configurations;
 
+import org.fermented.dairy.caches.api.functions.Ticker;
+import org.fermented.dairy.caches.api.tickers.CoarseTicker;
 import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.fermented.dairy.caches.providers.MaintenanceScheduler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 @Configuration
 public class HashMapCacheProviderConfig {
 
-    @Bean("hashMapCacheProvider")
-    HashMapCacheProvider getHashMapCacheProvider() {
-        return new HashMapCacheProvider();
+    @Bean("cacheTicker")
+    Ticker getCacheTicker(final Environment environment) {
+        return "coarse".equalsIgnoreCase(environment.getProperty("fd.config.cache.provider.ticker"))
+                ? CoarseTicker.start()
+                : Ticker.system();
+    }
+
+    @Bean(value = "hashMapCacheProvider", destroyMethod = "close")
+    HashMapCacheProvider getHashMapCacheProvider(final Environment environment, final Ticker cacheTicker) {
+        final Long maintenancePeriod = environment.getProperty("fd.config.cache.provider.maintenance.periodms", Long.class);
+        return maintenancePeriod == null
+                ? new HashMapCacheProvider(cacheTicker)
+                : new HashMapCacheProvider(MaintenanceScheduler.daemonThread(maintenancePeriod), cacheTicker);
     }
 }
@@ -1,7 +1,9 @@
 /**
  * module info for fd.caches.providers
+ * The flight recorder events in org.fermented.dairy.caches.providers.events are not exported, they are recorded by name.
  */
 module fd.caches.providers {
     exports org.fermented.dairy.caches.providers;
+    requires jdk.jfr;
     requires fd.caches.api;
 }
\ No newline at end of file
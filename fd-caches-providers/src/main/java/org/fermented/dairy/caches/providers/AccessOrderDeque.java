@@ -0,0 +1,64 @@
+package org.fermented.dairy.caches.providers;
+
+/**
+ * Intrusive doubly linked list of {@link CacheEntry CacheEntries} in access order, least recently used first.
+ * Not thread safe, callers must hold the cache's eviction lock.
+ */
+final class AccessOrderDeque {
+
+    private CacheEntry first;
+
+    private CacheEntry last;
+
+    CacheEntry peekFirst() {
+        return first;
+    }
+
+    void addLast(final CacheEntry entry) {
+        entry.previousInAccessOrder = last;
+        entry.nextInAccessOrder = null;
+        if (last == null) {
+            first = entry;
+        } else {
+            last.nextInAccessOrder = entry;
+        }
+        last = entry;
+    }
+
+    void remove(final CacheEntry entry) {
+        final CacheEntry previous = entry.previousInAccessOrder;
+        final CacheEntry next = entry.nextInAccessOrder;
+        if (previous == null) {
+            first = next;
+        } else {
+            previous.nextInAccessOrder = next;
+        }
+        if (next == null) {
+            last = previous;
+        } else {
+            next.previousInAccessOrder = previous;
+        }
+        entry.previousInAccessOrder = null;
+        entry.nextInAccessOrder = null;
+    }
+
+    void moveToLast(final CacheEntry entry) {
+        if (entry != last) {
+            remove(entry);
+            addLast(entry);
+        }
+    }
+
+    void clear() {
+        CacheEntry entry = first;
+        while (entry != null) {
+            final CacheEntry next = entry.nextInAccessOrder;
+            entry.previousInAccessOrder = null;
+            entry.nextInAccessOrder = null;
+            entry.queue = CacheEntry.PolicyQueue.NONE;
+            entry = next;
+        }
+        first = null;
+        last = null;
+    }
+}
@@ -0,0 +1,218 @@
+package org.fermented.dairy.caches.providers;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import org.fermented.dairy.caches.api.records.ReferenceStrength;
+
+/**
+ * A cached value with its expiry, removal and refresh times.
+ * The key, value and times are final, so an entry published through the cache's map can be read without locking.
+ * An entry is removed at its expiry time unless the cache serves stale values when loads fail, it is then kept until its
+ * removal time and counts the failed reloads it has been served in place of, backing off between reloads.
+ * An absent result, a load returning null, is cached as the {@link #ABSENT} sentinel when the cache caches absent results.
+ * Strongly held values are referenced directly, soft and weak values through a {@link ValueReference} that is enqueued
+ * once the value has been garbage collected so that the cache can remove the entry.
+ * The entry is also the node tracked by the eviction policy and the {@link TimerWheel},
+ * the policy and timer fields are only accessed under the cache's eviction lock.
+ */
+final class CacheEntry {
+
+    /**
+     * The value of an entry caching an absent result, shared by all such entries and always held strongly.
+     */
+    static final Object ABSENT = new Object();
+
+    private final Object key; //NOSONAR: java:S1948, not planning on any serialisation
+    private final Object value; //NOSONAR: java:S1948, not planning on any serialisation
+    private final long expiryTime;
+    private final long removalTime;
+    private final long refreshTime;
+    private volatile boolean retired;
+
+    //Stale-if-error state, only updated by the thread holding the key's in flight load
+    private volatile int failedReloads;
+    private volatile long retryTime;
+
+    //Eviction policy state, guarded by the eviction lock
+    int weight = 1;
+    CacheEntry previousInAccessOrder;
+    CacheEntry nextInAccessOrder;
+    PolicyQueue queue = PolicyQueue.NONE;
+
+    //Timer wheel state, guarded by the eviction lock
+    CacheEntry previousInTimerOrder;
+    CacheEntry nextInTimerOrder;
+
+    /**
+     * Constructor.
+     *
+     * @param key the cache key
+     * @param value the value to cache
+     * @param strength how strongly the value is held
+     * @param queue the queue soft and weak references are registered with
+     * @param expiryTime the time the entry expires at in milliseconds
+     * @param removalTime the time the entry is removed at in milliseconds, after the expiry time if it can be served stale
+     * @param refreshTime the time the entry is due to be refreshed at in milliseconds, {@link Long#MAX_VALUE} if it is not refreshed
+     */
+    CacheEntry(final Object key,
+               final Object value,
+               final ReferenceStrength strength,
+               final ReferenceQueue<Object> queue,
+               final long expiryTime,
+               final long removalTime,
+               final long refreshTime) {
+        this.key = key;
+        this.value = switch (strength) {
+            case STRONG -> value;
+            case SOFT -> new SoftValueReference(value, queue, this);
+            case WEAK -> new WeakValueReference(value, queue, this);
+        };
+        this.expiryTime = expiryTime;
+        this.removalTime = removalTime;
+        this.refreshTime = refreshTime;
+    }
+
+    /**
+     * Creates the sentinel heading a {@link TimerWheel} bucket, an empty circular list.
+     *
+     * @return the sentinel.
+     */
+    static CacheEntry sentinel() {
+        final CacheEntry sentinel = new CacheEntry(null, null, ReferenceStrength.STRONG, null, 0L, 0L, Long.MAX_VALUE);
+        sentinel.previousInTimerOrder = sentinel;
+        sentinel.nextInTimerOrder = sentinel;
+        return sentinel;
+    }
+
+    Object getKey() {
+        return key;
+    }
+
+    long getExpiryTime() {
+        return expiryTime;
+    }
+
+    long getRemovalTime() {
+        return removalTime;
+    }
+
+    boolean isExpired(final long currentTime) {
+        return expiryTime <= currentTime;
+    }
+
+    /**
+     * Indicates if the entry has expired but can still be served in place of a failed reload.
+     *
+     * @param currentTime the current time in milliseconds
+     * @return true if the entry is between its expiry and removal times.
+     */
+    boolean isStale(final long currentTime) {
+        return expiryTime <= currentTime && currentTime < removalTime;
+    }
+
+    /**
+     * Records a failed reload, the next reload is not attempted until the back-off has passed.
+     *
+     * @param currentTime the current time in milliseconds
+     * @param backOff the back-off for the first failure in milliseconds, doubled for each further failure
+     * @param maximumBackOff the maximum back-off in milliseconds
+     */
+    void recordFailedReload(final long currentTime, final long backOff, final long maximumBackOff) {
+        final int failures = failedReloads;
+        failedReloads = failures + 1;
+        retryTime = currentTime + Math.min(backOff << Math.min(failures, 16), maximumBackOff);
+    }
+
+    boolean isBackingOff(final long currentTime) {
+        return currentTime < retryTime;
+    }
+
+    boolean isRefreshDue(final long currentTime) {
+        return refreshTime <= currentTime;
+    }
+
+    /**
+     * The cached value.
+     *
+     * @return the value, null if it has been garbage collected.
+     */
+    Object getValue() {
+        return value instanceof ValueReference reference ? reference.get() : value;
+    }
+
+    boolean isAbsent() {
+        return value == ABSENT;
+    }
+
+    /**
+     * Maps a cached value to the result returned to callers.
+     *
+     * @param value the cached value, possibly {@link #ABSENT}
+     * @return the value, null if it is the absent result.
+     */
+    static Object toResult(final Object value) {
+        return value == ABSENT ? null : value;
+    }
+
+    /**
+     * Marks the entry as removed from the cache so that pending policy updates for it are ignored.
+     */
+    void retire() {
+        retired = true;
+    }
+
+    boolean isRetired() {
+        return retired;
+    }
+
+    /**
+     * The eviction policy queue an entry is held in.
+     */
+    enum PolicyQueue {
+        NONE,
+        WINDOW,
+        PROBATION,
+        PROTECTED
+    }
+
+    /**
+     * A soft or weak reference to a value, knows the entry it belongs to.
+     */
+    interface ValueReference {
+
+        Object get();
+
+        CacheEntry getEntry();
+    }
+
+    private static final class SoftValueReference extends SoftReference<Object> implements ValueReference {
+
+        private final CacheEntry entry;
+
+        SoftValueReference(final Object value, final ReferenceQueue<Object> queue, final CacheEntry entry) {
+            super(value, queue);
+            this.entry = entry;
+        }
+
+        @Override
+        public CacheEntry getEntry() {
+            return entry;
+        }
+    }
+
+    private static final class WeakValueReference extends WeakReference<Object> implements ValueReference {
+
+        private final CacheEntry entry;
+
+        WeakValueReference(final Object value, final ReferenceQueue<Object> queue, final CacheEntry entry) {
+            super(value, queue);
+            this.entry = entry;
+        }
+
+        @Override
+        public CacheEntry getEntry() {
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,599 @@
+package org.fermented.dairy.caches.providers;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import org.fermented.dairy.caches.providers.events.CacheEvictionEvent;
+import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+import org.fermented.dairy.caches.api.functions.Ticker;
+import org.fermented.dairy.caches.api.functions.Weigher;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.records.EvictionCause;
+import org.fermented.dairy.caches.api.records.ReferenceStrength;
+
+/**
+ * The entries of a named cache along with its settings, eviction policy and expiry {@link TimerWheel}.
+ * Policy bookkeeping is buffered: hits are recorded in a lossy {@link ReadBuffer} and writes are queued, both are replayed
+ * against the policy and timer wheel by whichever thread acquires the eviction lock, so the read path never blocks on the policy.
+ * The same thread advances the timer wheel, removing expired entries, and removes entries whose soft or weak values have been
+ * garbage collected.
+ * When a maintenance executor is set the buffers are drained on it in bounded slices instead of on the calling threads.
+ * If the settings switch statistics on, hits, misses, loads and evictions are recorded in a {@link StatsCounter}.
+ * Evictions are also emitted as {@link CacheEvictionEvent CacheEvictionEvents}, whether or not statistics are recorded.
+ * If the settings set a refresh time, entries written afterwards become due for a background reload on the refresh executor
+ * once it has passed. If they set a stale-if-error window, entries written afterwards are kept for that long after they
+ * expire so they can be served when reloading them fails. If they set a negative time to live, loads returning null afterwards
+ * cache an {@link CacheEntry#ABSENT absent} entry for that long, hits on it are also recorded as negative hits.
+ *
+ * @noinspection rawtypes
+ */
+final class CacheHolder {
+
+    /**
+     * Maximum number of buffered writes, and separately of expired entries, processed by a maintenance slice.
+     */
+    private static final int SLICE_BUDGET = 1024;
+
+    /**
+     * Time a stale entry is served without reloading it after its first failed reload, doubled for each further failure.
+     */
+    private static final long STALE_BACK_OFF_MILLIS = 1000L;
+
+    /**
+     * Maximum time a stale entry is served without reloading it after a failed reload.
+     */
+    private static final long MAXIMUM_STALE_BACK_OFF_MILLIS = 60000L;
+
+    private final ConcurrentHashMap<Object, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final String cacheName;
+    private final Class keyClass;
+    private final Class resultClass;
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final Queue<Runnable> writeBuffer = new ConcurrentLinkedQueue<>();
+    private final TinyLfuPolicy policy = new TinyLfuPolicy(this::evicted);
+    private final Ticker ticker;
+    private final Executor refreshExecutor;
+    private final TimerWheel timerWheel;
+    private final ReferenceQueue<Object> collectedValues = new ReferenceQueue<>();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile Executor maintenanceExecutor;
+    private volatile boolean bounded;
+    private volatile boolean weighted;
+    private volatile Weigher<Object, Object> weigher = Weigher.singleton();
+    private volatile ReferenceStrength valueStrength = ReferenceStrength.STRONG;
+    private volatile StatsCounter statsCounter;
+    private volatile long refreshAfter = CacheSettings.NO_REFRESH;
+    private volatile long staleIfError = CacheSettings.NO_STALE_IF_ERROR;
+    private volatile long negativeTtl = CacheSettings.NO_NEGATIVE_CACHING;
+
+    CacheHolder(final String cacheName,
+                final Class keyClass,
+                final Class resultClass,
+                final CacheSettings settings,
+                final Ticker ticker,
+                final Executor refreshExecutor) {
+        this.cacheName = Objects.requireNonNull(cacheName);
+        this.keyClass = Objects.requireNonNull(keyClass);
+        this.resultClass = Objects.requireNonNull(resultClass);
+        this.ticker = Objects.requireNonNull(ticker);
+        this.refreshExecutor = Objects.requireNonNull(refreshExecutor);
+        timerWheel = new TimerWheel(this::expired, ticker.read());
+        applySettings(settings);
+    }
+
+    ConcurrentHashMap<Object, CacheEntry> cache() {
+        return cache;
+    }
+
+    ConcurrentHashMap<Object, CompletableFuture<Object>> inFlight() {
+        return inFlight;
+    }
+
+    Class keyClass() {
+        return keyClass;
+    }
+
+    Class resultClass() {
+        return resultClass;
+    }
+
+    Executor refreshExecutor() {
+        return refreshExecutor;
+    }
+
+    /**
+     * Applies the settings to this cache. The policy is rebuilt from the entries already in the cache,
+     * reweighing them if the cache is bounded by weight. The value reference strength only applies to entries written afterwards.
+     * Statistics already being recorded are kept, switching recording off discards them.
+     * The refresh time, stale-if-error window and negative time to live only apply to entries written afterwards.
+     *
+     * @param settings the settings to apply
+     */
+    void applySettings(final CacheSettings settings) {
+        evictionLock.lock();
+        try {
+            maintenance();
+            policy.clear();
+            weigher = settings.weigher();
+            valueStrength = settings.valueStrength();
+            refreshAfter = settings.refreshAfterMilliSeconds();
+            staleIfError = settings.staleIfErrorMilliSeconds();
+            negativeTtl = settings.negativeTtlMilliSeconds();
+            if (!settings.recordStats()) {
+                statsCounter = null;
+            } else if (statsCounter == null) {
+                statsCounter = new StatsCounter();
+            }
+            weighted = settings.isWeighted();
+            bounded = settings.isBounded();
+            policy.setMaximum(weighted ? settings.maxWeight() : settings.maxEntries(), weighted);
+            if (!bounded) {
+                return;
+            }
+            for (final CacheEntry entry : cache.values()) {
+                final Object value;
+                if ((value = entry.getValue()) != null) {
+                    entry.weight = entry.isAbsent() ? 1 : weigh(entry.getKey(), value);
+                    policy.onAdd(entry);
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Creates an entry for a value to be written to the cache, weighing it if the cache is bounded by weight.
+     *
+     * @param key the cache key
+     * @param value the value to cache
+     * @param ttl the time to live in milliseconds
+     * @return the new entry
+     */
+    CacheEntry createEntry(final Object key, final Object value, final long ttl) {
+        final int weight = weigh(key, value);
+        final long currentTime = ticker.read();
+        final long refreshAfterMillis = refreshAfter;
+        final long staleIfErrorMillis = staleIfError;
+        final CacheEntry entry = new CacheEntry(key,
+                value,
+                valueStrength,
+                collectedValues,
+                currentTime + ttl,
+                staleIfErrorMillis < 0 ? currentTime + ttl : currentTime + ttl + staleIfErrorMillis,
+                refreshAfterMillis < 0 ? Long.MAX_VALUE : currentTime + refreshAfterMillis);
+        entry.weight = weight;
+        return entry;
+    }
+
+    /**
+     * Indicates if loads returning null are cached as absent entries.
+     *
+     * @return true if the settings set a negative time to live.
+     */
+    boolean isCachingAbsent() {
+        return negativeTtl >= 0;
+    }
+
+    /**
+     * Creates an entry caching an absent result for the negative time to live. It weighs 1, is not refreshed and is not
+     * served stale.
+     *
+     * @param key the cache key
+     * @return the new entry
+     */
+    CacheEntry createAbsentEntry(final Object key) {
+        final long expiryTime = ticker.read() + negativeTtl;
+        return new CacheEntry(key, CacheEntry.ABSENT, ReferenceStrength.STRONG, collectedValues, expiryTime, expiryTime, Long.MAX_VALUE);
+    }
+
+    /**
+     * Checks the entry against the cache's ticker.
+     *
+     * @param entry the entry to check
+     * @return true if the entry has expired.
+     */
+    boolean isExpired(final CacheEntry entry) {
+        return entry.isExpired(ticker.read());
+    }
+
+    /**
+     * Gets the entry for the key if the cache refreshes values and the entry's refresh time has passed.
+     *
+     * @param key the cache key
+     * @return the entry to refresh, null if there is none.
+     */
+    CacheEntry getRefreshDue(final Object key) {
+        final CacheEntry entry;
+        if (refreshAfter < 0
+                || (entry = cache.get(key)) == null
+                || !entry.isRefreshDue(ticker.read())) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Gets the entry for the key if it has expired but can still be served in place of a failed reload.
+     *
+     * @param key the cache key
+     * @return the stale entry, null if there is none.
+     */
+    CacheEntry getStale(final Object key) {
+        final CacheEntry entry;
+        if (staleIfError < 0
+                || (entry = cache.get(key)) == null
+                || !entry.isStale(ticker.read())) {
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Checks the stale entry against the cache's ticker.
+     *
+     * @param entry the stale entry
+     * @return true if reloading it is backing off after a failed reload.
+     */
+    boolean isBackingOff(final CacheEntry entry) {
+        return entry.isBackingOff(ticker.read());
+    }
+
+    /**
+     * Records a failed reload of a stale entry, backing off exponentially from one second up to a minute.
+     *
+     * @param entry the stale entry served in place of the reload
+     */
+    void recordFailedReload(final CacheEntry entry) {
+        entry.recordFailedReload(ticker.read(), STALE_BACK_OFF_MILLIS, MAXIMUM_STALE_BACK_OFF_MILLIS);
+    }
+
+    boolean isWeighted() {
+        return weighted;
+    }
+
+    /**
+     * Sets the executor that buffered reads and writes are drained on.
+     *
+     * @param maintenanceExecutor the executor, null to drain on the calling threads.
+     */
+    void setMaintenanceExecutor(final Executor maintenanceExecutor) {
+        this.maintenanceExecutor = maintenanceExecutor;
+    }
+
+    /**
+     * Records a cache hit, a hit on an absent entry is also recorded as a negative hit.
+     *
+     * @param entry the entry read.
+     */
+    void afterRead(final CacheEntry entry) {
+        final StatsCounter counter;
+        if ((counter = statsCounter) != null) {
+            if (entry.isAbsent()) {
+                counter.recordNegativeHit();
+            } else {
+                counter.recordHit();
+            }
+        }
+        if (bounded && readBuffer.offer(entry)) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Records a lookup that did not find a live value.
+     */
+    void recordMiss() {
+        final StatsCounter counter;
+        if ((counter = statsCounter) != null) {
+            counter.recordMiss();
+        }
+    }
+
+    /**
+     * Indicates if loads should be timed.
+     *
+     * @return true if statistics are being recorded.
+     */
+    boolean isRecordingStats() {
+        return statsCounter != null;
+    }
+
+    /**
+     * Records a completed load.
+     *
+     * @param loaded true if the loader returned a value, false if it returned null or threw an exception
+     * @param loadTimeNanos the time spent in the loader in nanoseconds
+     */
+    void recordLoad(final boolean loaded, final long loadTimeNanos) {
+        final StatsCounter counter;
+        if ((counter = statsCounter) == null) {
+            return;
+        }
+        if (loaded) {
+            counter.recordLoadSuccess(loadTimeNanos);
+        } else {
+            counter.recordLoadFailure(loadTimeNanos);
+        }
+    }
+
+    /**
+     * Snapshot of the cache's statistics, taken after performing all pending maintenance so that the size and weight are current.
+     *
+     * @return the statistics, empty if statistics are not being recorded.
+     */
+    Optional<CacheStats> stats() {
+        final StatsCounter counter;
+        if ((counter = statsCounter) == null) {
+            return Optional.empty();
+        }
+        evictionLock.lock();
+        try {
+            maintenance();
+            return Optional.of(counter.snapshot(cache.size(), weighted ? policy.weightedSize() : CacheStats.NOT_WEIGHTED));
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Records an entry written to the cache.
+     *
+     * @param entry the entry written
+     * @param replaced the entry it replaced, null if there was none
+     */
+    void afterWrite(final CacheEntry entry, final CacheEntry replaced) {
+        if (replaced != null) {
+            afterRemove(replaced);
+        }
+        writeBuffer.add(() -> {
+            if (!entry.isRetired()) {
+                timerWheel.schedule(entry);
+                policy.onAdd(entry);
+            }
+        });
+        scheduleDrain();
+    }
+
+    /**
+     * Records an entry removed from the cache.
+     *
+     * @param entry the removed entry
+     */
+    void afterRemove(final CacheEntry entry) {
+        entry.retire();
+        writeBuffer.add(() -> {
+            timerWheel.deschedule(entry);
+            policy.onRemove(entry);
+        });
+        scheduleDrain();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        evictionLock.lock();
+        try {
+            cache.values().forEach(CacheEntry::retire);
+            cache.clear();
+            policy.clear();
+            timerWheel.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * The keys of the entries that have not expired or been garbage collected, absent entries are not included.
+     * Expired entries are removed by advancing the timer wheel, the returned view skips entries that have expired since.
+     *
+     * @return a view of the live keys
+     */
+    Set<Object> liveKeys() {
+        cleanUp();
+        return new LiveKeys();
+    }
+
+    /**
+     * Performs a bounded slice of maintenance if no other thread is maintaining the cache.
+     * Another slice is scheduled on the maintenance executor while work remains.
+     */
+    void runMaintenanceSlice() {
+        drainScheduled.set(false);
+        if (!evictionLock.tryLock()) {
+            //the lock holder performs the maintenance
+            return;
+        }
+        final boolean remaining;
+        try {
+            remaining = maintenance(SLICE_BUDGET);
+        } finally {
+            evictionLock.unlock();
+        }
+        if (remaining) {
+            scheduleDrain();
+        }
+    }
+
+    /**
+     * Performs all pending maintenance: replays buffered reads and writes and expires entries.
+     */
+    void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintenance();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Total weight of the entries tracked by the eviction policy, 0 if the cache is unbounded.
+     *
+     * @return the total weight as seen by the policy
+     */
+    long weightedSize() {
+        evictionLock.lock();
+        try {
+            maintenance();
+            return policy.weightedSize();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private int weigh(final Object key, final Object value) {
+        if (!weighted) {
+            return 1;
+        }
+        final int weight = weigher.weigh(key, value);
+        if (weight < 0) {
+            throw new CacheRuntimeException("Weigher returned negative weight %d for key %s", weight, key);
+        }
+        return weight;
+    }
+
+    private void scheduleDrain() {
+        final Executor executor;
+        if ((executor = maintenanceExecutor) == null) {
+            drainBuffers();
+            return;
+        }
+        if (drainScheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::runMaintenanceSlice);
+            } catch (final RejectedExecutionException e) {
+                drainScheduled.set(false);
+                drainBuffers();
+            }
+        }
+    }
+
+    private void drainBuffers() {
+        do {
+            if (!evictionLock.tryLock()) {
+                //the lock holder drains what has been buffered
+                return;
+            }
+            try {
+                maintenance();
+            } finally {
+                evictionLock.unlock();
+            }
+        } while (!writeBuffer.isEmpty());
+    }
+
+    private void maintenance() {
+        maintenance(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Replays buffered reads, then up to budget buffered writes, removes up to budget entries whose values have been garbage
+     * collected, advances the timer wheel and expires up to budget entries.
+     *
+     * @param budget the maximum number of writes, collected entries and expired entries to process.
+     * @return true if writes, collected entries or expired entries are still pending.
+     */
+    private boolean maintenance(final int budget) {
+        readBuffer.drainTo(policy::onAccess);
+        Runnable task;
+        for (int processed = 0; processed < budget && (task = writeBuffer.poll()) != null; processed++) {
+            task.run();
+        }
+        final boolean collectedPending = drainCollectedValues(budget);
+        timerWheel.advance(ticker.read());
+        return timerWheel.expire(budget) || collectedPending || !writeBuffer.isEmpty();
+    }
+
+    private boolean drainCollectedValues(final int budget) {
+        Reference<?> reference;
+        for (int processed = 0; processed < budget; processed++) {
+            if ((reference = collectedValues.poll()) == null) {
+                return false;
+            }
+            collected(((CacheEntry.ValueReference) reference).getEntry());
+        }
+        return true;
+    }
+
+    private void collected(final CacheEntry entry) {
+        timerWheel.deschedule(entry);
+        policy.onRemove(entry);
+        if (cache.remove(entry.getKey(), entry)) {
+            entry.retire();
+            recordEviction(EvictionCause.COLLECTED, entry);
+        }
+    }
+
+    private void evicted(final CacheEntry entry) {
+        timerWheel.deschedule(entry);
+        if (cache.remove(entry.getKey(), entry)) {
+            entry.retire();
+            recordEviction(EvictionCause.SIZE, entry);
+        }
+    }
+
+    private void expired(final CacheEntry entry) {
+        policy.onRemove(entry);
+        if (cache.remove(entry.getKey(), entry)) {
+            entry.retire();
+            recordEviction(EvictionCause.EXPIRED, entry);
+        }
+    }
+
+    private void recordEviction(final EvictionCause cause, final CacheEntry entry) {
+        final StatsCounter counter;
+        if ((counter = statsCounter) != null) {
+            counter.recordEviction(cause);
+        }
+        new CacheEvictionEvent().record(HashMapCacheProvider.PROVIDER_NAME, cacheName, keyClass, cause, entry.weight);
+    }
+
+    private boolean isLive(final CacheEntry entry) {
+        return entry.getValue() != null && !entry.isAbsent() && !isExpired(entry);
+    }
+
+    /**
+     * Read only view of the keys of live entries.
+     */
+    private final class LiveKeys extends AbstractSet<Object> {
+
+        @Override
+        public boolean contains(final Object key) {
+            final CacheEntry entry;
+            return key != null && (entry = cache.get(key)) != null && isLive(entry);
+        }
+
+        @Override
+        public Iterator<Object> iterator() {
+            return cache.values().stream()
+                    .filter(CacheHolder.this::isLive)
+                    .map(CacheEntry::getKey)
+                    .iterator();
+        }
+
+        @Override
+        public int size() {
+            return (int) cache.values().stream()
+                    .filter(CacheHolder.this::isLive)
+                    .count();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package org.fermented.dairy.caches.providers;
+
+import java.util.Arrays;
+
+/**
+ * A TinyLFU frequency filter: a count-min sketch of 4-bit counters fronted by a doorkeeper bloom filter.
+ * Keys seen only once are recorded in the doorkeeper, only repeat occurrences are counted in the sketch.
+ * All counters are halved (and the doorkeeper cleared) once the sample size is reached so that old popularity ages out.
+ * Not thread safe, callers must hold the cache's eviction lock.
+ */
+final class FrequencySketch {
+
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+    };
+
+    private static final long RESET_MASK = 0x7777777777777777L;
+
+    private static final int MAX_COUNT = 15;
+
+    private static final int SAMPLE_FACTOR = 10;
+
+    private long[] table = new long[0];
+
+    private long[] doorkeeper = new long[0];
+
+    private int counterMask;
+
+    private int doorkeeperMask;
+
+    private int sampleSize;
+
+    private int additions;
+
+    /**
+     * Grows the sketch to hold the expected number of entries, 16 counters and 64 doorkeeper bits per entry, and ages the
+     * counters after 10 additions per entry. The sketch never shrinks, existing frequencies are discarded when it grows.
+     *
+     * @param expectedEntries the number of entries the cache is expected to hold.
+     */
+    void ensureCapacity(final long expectedEntries) {
+        final int length = ceilingPowerOfTwo((int) Math.min(Math.max(expectedEntries, 1L), 1L << 26));
+        if (table.length >= length) {
+            return;
+        }
+        table = new long[length];
+        doorkeeper = new long[length];
+        counterMask = (length << 4) - 1;
+        doorkeeperMask = (length << 6) - 1;
+        sampleSize = (int) Math.min((long) SAMPLE_FACTOR * length, Integer.MAX_VALUE);
+        additions = 0;
+    }
+
+    /**
+     * The number of entries the sketch is sized for.
+     *
+     * @return the capacity, 0 if the sketch has not been sized.
+     */
+    int capacity() {
+        return table.length;
+    }
+
+    /**
+     * Estimated number of times the key has been seen within the sample period.
+     *
+     * @param key the cache key
+     * @return the estimated frequency, capped at 16.
+     */
+    int frequency(final Object key) {
+        if (table.length == 0) {
+            return 0;
+        }
+        final int hash = spread(key.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            frequency = Math.min(frequency, counterAt(indexOf(hash, i)));
+        }
+        return frequency + (doorkeeperContains(hash) ? 1 : 0);
+    }
+
+    /**
+     * Records an occurrence of the key.
+     *
+     * @param key the cache key
+     */
+    void increment(final Object key) {
+        if (table.length == 0) {
+            return;
+        }
+        final int hash = spread(key.hashCode());
+        if (doorkeeperAdd(hash)) {
+            boolean incremented = false;
+            for (int i = 0; i < SEEDS.length; i++) {
+                incremented |= incrementAt(indexOf(hash, i));
+            }
+            if (!incremented) {
+                return;
+            }
+        }
+        if (++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        Arrays.fill(doorkeeper, 0L);
+        additions >>>= 1;
+    }
+
+    private int indexOf(final int hash, final int seedIndex) {
+        return mix(hash, seedIndex) & counterMask;
+    }
+
+    private int doorkeeperIndexOf(final int hash, final int probe) {
+        return mix(hash, probe + 2) & doorkeeperMask;
+    }
+
+    private static int mix(final int hash, final int seedIndex) {
+        long combined = (hash + SEEDS[seedIndex]) * SEEDS[seedIndex];
+        combined += combined >>> 32;
+        return (int) combined;
+    }
+
+    private int counterAt(final int counterIndex) {
+        return (int) ((table[counterIndex >>> 4] >>> ((counterIndex & 15) << 2)) & 0xfL);
+    }
+
+    private boolean incrementAt(final int counterIndex) {
+        final int tableIndex = counterIndex >>> 4;
+        final int offset = (counterIndex & 15) << 2;
+        final long mask = 0xfL << offset;
+        if ((table[tableIndex] & mask) != mask) {
+            table[tableIndex] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Adds the hash to the doorkeeper.
+     *
+     * @return true if the hash was already present, i.e. this is a repeat occurrence.
+     */
+    private boolean doorkeeperAdd(final int hash) {
+        boolean present = true;
+        for (int i = 0; i < 2; i++) {
+            final int bit = doorkeeperIndexOf(hash, i);
+            final long mask = 1L << bit;
+            if ((doorkeeper[bit >>> 6] & mask) == 0) {
+                present = false;
+                doorkeeper[bit >>> 6] |= mask;
+            }
+        }
+        return present;
+    }
+
+    private boolean doorkeeperContains(final int hash) {
+        for (int i = 0; i < 2; i++) {
+            final int bit = doorkeeperIndexOf(hash, i);
+            if ((doorkeeper[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(final int hashCode) {
+        int hash = (hashCode ^ (hashCode >>> 16)) * 0x45d9f3b;
+        hash = (hash ^ (hash >>> 16)) * 0x45d9f3b;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int ceilingPowerOfTwo(final int value) {
+        return 1 << -Integer.numberOfLeadingZeros(value - 1);
+    }
+}
@@ -1,29 +1,224 @@
 package org.fermented.dairy.caches.providers;
 
-import java.lang.ref.SoftReference;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import jdk.jfr.FlightRecorder;
+import org.fermented.dairy.caches.providers.events.CacheStampedeEvent;
+import org.fermented.dairy.caches.providers.events.CacheStatisticsEvent;
 import org.fermented.dairy.caches.api.exceptions.CacheException;
 import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+import org.fermented.dairy.caches.api.functions.AsyncLoader;
+import org.fermented.dairy.caches.api.functions.BulkLoader;
 import org.fermented.dairy.caches.api.functions.Loader;
 import org.fermented.dairy.caches.api.functions.OptionalLoader;
+import org.fermented.dairy.caches.api.functions.Ticker;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
 
 /**
  * A hashmap based cache provider.
+ * By default cache maintenance (eviction, expiry and replaying buffered reads and writes) is performed on the calling threads,
+ * a {@link MaintenanceScheduler} moves it to a background thread or executor. As the caches are shared by all instances only
+ * one scheduler can be running at a time, it is stopped when the provider that started it is closed.
+ * Expiry is measured with the {@link Ticker} of the provider that created the cache, the system clock by default.
+ * Blocking and async loads of the same key share a single in flight future, whichever started first.
+ * Bulk loads claim each missing key in the same in flight map and load them with a single call to the bulk loader, keys already
+ * claimed by another load are awaited instead of being loaded again.
+ * Caches with a refresh time reload a value on its refresh executor when it is first read after the refresh time, readers keep
+ * getting the current value until the reload has been stored. The reload is in flight like any other load, so misses after the
+ * value has expired wait for it rather than loading again. Unless the provider is given a refresh executor it reloads on a
+ * bounded pool of its own daemon threads, shut down when the provider is closed.
+ * Caches with a stale-if-error window keep expired entries for that long, a miss whose load fails returns the expired value
+ * instead of the failure and the key is not loaded again until an exponential back-off has passed.
+ * Caches with a negative time to live cache a load returning null, or an empty Optional, as an absent entry. Until it expires
+ * lookups of the key return null without invoking the loader and are recorded as negative hits.
+ * Caches with a batch window and a registered bulk loader collect their misses into batches, in the DataLoader style, each batch
+ * is loaded with a single call to the bulk loader at the end of the window, or as soon as it reaches the maximum batch size. The
+ * batch is loaded on the refresh executor of the provider that last configured the cache or registered its bulk loader, which
+ * blocks for the duration of the bulk load, so an executor given to the provider should not be the
+ * {@link ForkJoinPool#commonPool()}. Misses looked up with the value to cache are stored straight away and never batched.
+ * Puts replace the cached value straight away without waiting for loads in flight, a load of the key that was already in flight
+ * when the value was put still stores its own value when it completes.
+ * Evictions, callers waiting on a load already in flight and, for caches recording statistics, periodic statistics are emitted as
+ * JDK Flight Recorder events, see {@link org.fermented.dairy.caches.providers.events}.
  *
  * @noinspection rawtypes
  */
-public class HashMapCacheProvider implements CacheProvider {
+public class HashMapCacheProvider implements CacheProvider, AutoCloseable {
 
     private static final ConcurrentHashMap<String, CacheHolder> CACHES = new ConcurrentHashMap<>(); //NOSONAR: java3740
 
+    private static final ConcurrentHashMap<String, CacheSettings> SETTINGS = new ConcurrentHashMap<>(); //NOSONAR: java3740
+
+    private static final ConcurrentHashMap<String, BulkLoader<Object, Object>> BULK_LOADERS = new ConcurrentHashMap<>(); //NOSONAR: java3740
+
+    private static final ConcurrentHashMap<String, LoadBatcher> BATCHERS = new ConcurrentHashMap<>(); //NOSONAR: java3740
+
+    private static final AtomicReference<MaintenanceScheduler> SCHEDULER = new AtomicReference<>();
+
+    static final String PROVIDER_NAME = "internal.default.cache";
+
+    private static final String LOAD_THREAD_NAME = "fd-caches-load-";
+
+    private static final int LOAD_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+    private static final long LOAD_THREAD_KEEP_ALIVE_SECONDS = 30L;
+
+    static {
+        FlightRecorder.addPeriodicEvent(CacheStatisticsEvent.class, HashMapCacheProvider::recordStatisticsEvents);
+    }
+
+    private final MaintenanceScheduler maintenanceScheduler;
+
+    private final Ticker ticker;
+
+    private final Executor refreshExecutor;
+
+    private final ExecutorService ownedExecutor;
+
+    /**
+     * Constructor, cache maintenance is performed on the calling threads and expiry uses the system clock.
+     */
+    public HashMapCacheProvider() {
+        this(Ticker.system());
+    }
+
+    /**
+     * Constructor, cache maintenance is performed on the calling threads. Refreshes and batches are loaded on the provider's own
+     * daemon threads until it is closed.
+     *
+     * @param ticker the ticker caches created by this provider measure expiry with
+     */
+    public HashMapCacheProvider(final Ticker ticker) {
+        this(null, ticker, null, newLoadExecutor());
+    }
+
+    /**
+     * Constructor, cache maintenance is performed on the calling threads.
+     *
+     * @param ticker the ticker caches created by this provider measure expiry with
+     * @param refreshExecutor the executor caches created by this provider reload values due for refresh on, and load batches
+     *                        of misses on at the end of their window. Bulk loads block the executor thread while they run.
+     */
+    public HashMapCacheProvider(final Ticker ticker, final Executor refreshExecutor) {
+        this(null, ticker, Objects.requireNonNull(refreshExecutor), null);
+    }
+
+    /**
+     * Constructor, cache maintenance is performed by the scheduler until this provider is closed and expiry uses the system clock.
+     *
+     * @param maintenanceScheduler the scheduler performing cache maintenance
+     */
+    public HashMapCacheProvider(final MaintenanceScheduler maintenanceScheduler) {
+        this(maintenanceScheduler, Ticker.system());
+    }
+
+    /**
+     * Constructor, cache maintenance is performed by the scheduler until this provider is closed. Refreshes and batches are
+     * loaded on the provider's own daemon threads until it is closed.
+     *
+     * @param maintenanceScheduler the scheduler performing cache maintenance
+     * @param ticker the ticker caches created by this provider measure expiry with
+     */
+    public HashMapCacheProvider(final MaintenanceScheduler maintenanceScheduler, final Ticker ticker) {
+        this(Objects.requireNonNull(maintenanceScheduler), ticker, null, newLoadExecutor());
+    }
+
+    /**
+     * Constructor, cache maintenance is performed by the scheduler until this provider is closed.
+     *
+     * @param maintenanceScheduler the scheduler performing cache maintenance
+     * @param ticker the ticker caches created by this provider measure expiry with
+     * @param refreshExecutor the executor caches created by this provider reload values due for refresh on, and load batches
+     *                        of misses on at the end of their window. Bulk loads block the executor thread while they run.
+     */
+    public HashMapCacheProvider(final MaintenanceScheduler maintenanceScheduler, final Ticker ticker, final Executor refreshExecutor) {
+        this(Objects.requireNonNull(maintenanceScheduler), ticker, Objects.requireNonNull(refreshExecutor), null);
+    }
+
+    private HashMapCacheProvider(final MaintenanceScheduler maintenanceScheduler,
+                                 final Ticker ticker,
+                                 final Executor refreshExecutor,
+                                 final ExecutorService ownedExecutor) {
+        this.maintenanceScheduler = maintenanceScheduler;
+        this.ticker = Objects.requireNonNull(ticker);
+        this.refreshExecutor = ownedExecutor != null ? ownedExecutor : refreshExecutor;
+        this.ownedExecutor = ownedExecutor;
+        if (maintenanceScheduler == null) {
+            return;
+        }
+        if (!SCHEDULER.compareAndSet(null, maintenanceScheduler)) {
+            throw new CacheRuntimeException("A maintenance scheduler is already running for the HashMapCacheProvider caches");
+        }
+        try {
+            maintenanceScheduler.start(CACHES::values);
+        } catch (final RuntimeException e) {
+            SCHEDULER.set(null);
+            throw e;
+        }
+        CACHES.values().forEach(cacheHolder -> cacheHolder.setMaintenanceExecutor(maintenanceScheduler.executor()));
+    }
+
+    /**
+     * Bounded pool of daemon threads for the refreshes and batches of a provider not given an executor. Idle threads are
+     * stopped, so a provider that never refreshes or batches holds none.
+     */
+    private static ExecutorService newLoadExecutor() {
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(LOAD_THREADS, LOAD_THREADS,
+                LOAD_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, LOAD_THREAD_NAME + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Stops the maintenance scheduler if this provider was created with one, maintenance reverts to the calling threads.
+     * Shuts down the provider's own load threads if it was not given an executor, loads already started are completed but
+     * later refreshes of its caches are skipped and their batches are loaded on the thread ending the batch window.
+     * Should be called when the provider is disposed of, e.g. by a CDI disposer method or as a Spring bean destroy method.
+     */
+    @Override
+    public void close() {
+        if (maintenanceScheduler != null && SCHEDULER.compareAndSet(maintenanceScheduler, null)) {
+            maintenanceScheduler.close();
+            CACHES.values().forEach(cacheHolder -> cacheHolder.setMaintenanceExecutor(null));
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
     @Override
     public Object load(final Object key,
                        final Loader<Object, Object> loader,
@@ -31,31 +226,61 @@ public class HashMapCacheProvider implements CacheProvider {
                        final long ttlMilliSeconds,
                        final Class keyClass,
                        final Class valueClass) throws Exception {
+        return load(key, loader, true, cacheName, ttlMilliSeconds, keyClass, valueClass);
+    }
+
+    /**
+     * Loads through the cache, a miss is added to the cache's batch if batched is true and the cache batches.
+     */
+    private Object load(final Object key,
+                        final Loader<Object, Object> loader,
+                        final boolean batched,
+                        final String cacheName,
+                        final long ttlMilliSeconds,
+                        final Class keyClass,
+                        final Class valueClass) throws Exception {
         final CacheHolder cacheHolder = getCache(cacheName, keyClass, valueClass);
 
         validateKeyClass(key, keyClass, cacheHolder, cacheName);
 
-        final ConcurrentHashMap<Object, SoftReference<CacheEntry>> cache = cacheHolder.cache();
-        SoftReference<CacheEntry> entryReference;
-        //noinspection DataFlowIssue
-        if ((entryReference = cache.get(key)) == null //mapped value is null
-                //SoftReference that's mapped has been GCed
-                || entryReference.get() == null
-                //cached value has expired
-                || entryReference.get().isExpired()) {
-            entryReference = new SoftReference<>(
-                    new CacheEntry(ttlMilliSeconds)
-            );
-            return loadValueIntoCache(key, loader, cacheName, valueClass, cacheHolder, cache, entryReference);
-        }
-        //noinspection DataFlowIssue
-        entryReference.get().readLock().lock();
+        final Object value;
+        if ((value = readHit(cacheHolder, key)) != null) {
+            final CacheEntry refreshDue;
+            if ((refreshDue = cacheHolder.getRefreshDue(key)) != null) {
+                refresh(key, refreshDue, k -> CompletableFuture.completedFuture(loader.load(k)),
+                        cacheName, ttlMilliSeconds, valueClass, cacheHolder);
+            }
+            return CacheEntry.toResult(value);
+        }
+        cacheHolder.recordMiss();
+        return loadValueIntoCache(key, batched ? batching(cacheName, loader) : loader, cacheName, ttlMilliSeconds, valueClass,
+                cacheHolder);
+    }
+
+    @Override
+    public CompletableFuture<Object> loadAsync(final Object key,
+                                               final AsyncLoader<Object, Object> loader,
+                                               final String cacheName,
+                                               final long ttlMilliSeconds,
+                                               final Class keyClass,
+                                               final Class valueClass) {
         try {
-            //noinspection DataFlowIssue
-            return entryReference.get().getValue();
-        } finally {
-            //noinspection DataFlowIssue
-            entryReference.get().readLock().unlock();
+            final CacheHolder cacheHolder = getCache(cacheName, keyClass, valueClass);
+
+            validateKeyClass(key, keyClass, cacheHolder, cacheName);
+
+            final Object value;
+            if ((value = readHit(cacheHolder, key)) != null) {
+                final CacheEntry refreshDue;
+                if ((refreshDue = cacheHolder.getRefreshDue(key)) != null) {
+                    refresh(key, refreshDue, loader, cacheName, ttlMilliSeconds, valueClass, cacheHolder);
+                }
+                return CompletableFuture.completedFuture(CacheEntry.toResult(value));
+            }
+            cacheHolder.recordMiss();
+            return loadValueIntoCacheAsync(key, batchingAsync(cacheName, loader), cacheName, ttlMilliSeconds, valueClass, cacheHolder);
+        } catch (final RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
         }
     }
 
@@ -66,7 +291,22 @@ public class HashMapCacheProvider implements CacheProvider {
                        final long ttlMilliSeconds,
                        final Class keyClass,
                        final Class valueClass) throws Exception {
-        return load(key, k -> value, cacheName, ttlMilliSeconds, keyClass, valueClass);
+        //the caller already has the value, a miss stores it rather than having the bulk loader load it again
+        return load(key, k -> value, false, cacheName, ttlMilliSeconds, keyClass, valueClass);
+    }
+
+    @Override
+    public void put(final Object key,
+                    final Object value,
+                    final String cacheName,
+                    final long ttlMilliSeconds,
+                    final Class keyClass,
+                    final Class valueClass) {
+        final CacheHolder cacheHolder = getCache(cacheName, keyClass, valueClass);
+
+        validateKeyClass(key, keyClass, cacheHolder, cacheName);
+
+        storeLoadedValue(key, Objects.requireNonNull(value, "value"), cacheName, ttlMilliSeconds, valueClass, cacheHolder);
     }
 
     @Override
@@ -90,6 +330,124 @@ public class HashMapCacheProvider implements CacheProvider {
                 ));
     }
 
+    @Override
+    public Map<Object, Object> loadAll(final Collection<?> keys,
+                                       final BulkLoader<Object, Object> loader,
+                                       final String cacheName,
+                                       final long ttlMilliSeconds,
+                                       final Class keyClass,
+                                       final Class valueClass) throws Exception {
+        final CacheHolder cacheHolder = getCache(cacheName, keyClass, valueClass);
+
+        final Set<Object> distinctKeys = new LinkedHashSet<>(keys);
+        for (final Object key : distinctKeys) {
+            validateKeyClass(key, keyClass, cacheHolder, cacheName);
+        }
+
+        final Map<Object, Object> values = new HashMap<>();
+        final Map<Object, CompletableFuture<Object>> claimed = new LinkedHashMap<>();
+        final Map<Object, CompletableFuture<Object>> awaited = new LinkedHashMap<>();
+        for (final Object key : distinctKeys) {
+            final Object value;
+            if ((value = readHit(cacheHolder, key)) != null) {
+                final CacheEntry refreshDue;
+                if ((refreshDue = cacheHolder.getRefreshDue(key)) != null) {
+                    final Loader<Object, Object> singleKeyLoader = singleKeyLoader(loader);
+                    refresh(key, refreshDue, k -> CompletableFuture.completedFuture(singleKeyLoader.load(k)),
+                            cacheName, ttlMilliSeconds, valueClass, cacheHolder);
+                }
+                values.put(key, value);
+                continue;
+            }
+            cacheHolder.recordMiss();
+            final CompletableFuture<Object> loading = new CompletableFuture<>();
+            final CompletableFuture<Object> inFlight;
+            if ((inFlight = cacheHolder.inFlight().putIfAbsent(key, loading)) != null) {
+                awaited.put(key, inFlight);
+            } else {
+                claimed.put(key, loading);
+            }
+        }
+        if (!claimed.isEmpty()) {
+            bulkLoadValuesIntoCache(claimed, loader, cacheName, ttlMilliSeconds, valueClass, cacheHolder, values);
+        }
+        for (final Map.Entry<Object, CompletableFuture<Object>> inFlight : awaited.entrySet()) {
+            values.put(inFlight.getKey(), awaitLoad(inFlight.getValue(), cacheName, cacheHolder));
+        }
+
+        final Map<Object, Object> result = new LinkedHashMap<>();
+        for (final Object key : distinctKeys) {
+            final Object value;
+            if ((value = CacheEntry.toResult(values.get(key))) != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void configureCache(final String cacheName, final CacheSettings settings) {
+        //configuring a cache again with the settings it already has must not re-run its policy setup over every entry
+        if (settings.equals(SETTINGS.put(cacheName, Objects.requireNonNull(settings)))) {
+            return;
+        }
+        CACHES.computeIfPresent(cacheName, (name, cacheHolder) -> {
+            cacheHolder.applySettings(settings);
+            return cacheHolder;
+        });
+        updateBatcher(cacheName);
+    }
+
+    @Override
+    public void registerBulkLoader(final String cacheName, final BulkLoader<Object, Object> bulkLoader) {
+        BULK_LOADERS.put(cacheName, Objects.requireNonNull(bulkLoader));
+        updateBatcher(cacheName);
+    }
+
+    /**
+     * Creates the batcher of a cache with a batch window and a registered bulk loader, or removes it if it has either no longer.
+     * A replaced batcher still loads the batch it is collecting at the end of its window.
+     */
+    private void updateBatcher(final String cacheName) {
+        BATCHERS.compute(cacheName, (name, batcher) -> {
+            final CacheSettings settings = SETTINGS.getOrDefault(cacheName, CacheSettings.defaults());
+            final BulkLoader<Object, Object> bulkLoader;
+            if ((bulkLoader = BULK_LOADERS.get(cacheName)) == null || !settings.isBatching()) {
+                return null;
+            }
+            return new LoadBatcher(bulkLoader, settings.batchWindowMilliSeconds(), settings.maxBatchSize(), refreshExecutor);
+        });
+    }
+
+    /**
+     * Adapts the loader of a miss to add the key to the cache's batch, the loader is returned as is if the cache does not batch.
+     */
+    private static Loader<Object, Object> batching(final String cacheName, final Loader<Object, Object> loader) {
+        final LoadBatcher batcher;
+        if ((batcher = BATCHERS.get(cacheName)) == null) {
+            return loader;
+        }
+        return key -> {
+            try {
+                return batcher.load(key).get();
+            } catch (final ExecutionException e) {
+                throw e.getCause();
+            }
+        };
+    }
+
+    /**
+     * Adapts the async loader of a miss to add the key to the cache's batch, the loader is returned as is if the cache does not
+     * batch.
+     */
+    private static AsyncLoader<Object, Object> batchingAsync(final String cacheName, final AsyncLoader<Object, Object> loader) {
+        final LoadBatcher batcher;
+        if ((batcher = BATCHERS.get(cacheName)) == null) {
+            return loader;
+        }
+        return batcher::load;
+    }
+
     @Override
     public void purge() {
         CACHES.clear();
@@ -98,8 +456,24 @@ public class HashMapCacheProvider implements CacheProvider {
     @Override
     public void removeValue(final String cacheName, final Object key) {
         final CacheHolder cacheHolder;
-        if ((cacheHolder = CACHES.get(cacheName)) != null) {
-            cacheHolder.cache().remove(key);
+        final CacheEntry removed;
+        if ((cacheHolder = CACHES.get(cacheName)) != null
+                && (removed = cacheHolder.cache().remove(key)) != null) {
+            cacheHolder.afterRemove(removed);
+        }
+    }
+
+    @Override
+    public void removeValues(final String cacheName, final Collection<?> keys) {
+        final CacheHolder cacheHolder;
+        if ((cacheHolder = CACHES.get(cacheName)) == null) {
+            return;
+        }
+        for (final Object key : keys) {
+            final CacheEntry removed;
+            if ((removed = cacheHolder.cache().remove(key)) != null) {
+                cacheHolder.afterRemove(removed);
+            }
         }
     }
 
@@ -107,7 +481,7 @@ public class HashMapCacheProvider implements CacheProvider {
     public void clearCache(final String cacheName) {
         final CacheHolder cacheHolder;
         if ((cacheHolder = CACHES.get(cacheName)) != null) {
-            cacheHolder.cache().clear();
+            cacheHolder.clear();
         }
     }
 
@@ -124,23 +498,44 @@ public class HashMapCacheProvider implements CacheProvider {
             return Collections.emptySet();
         }
 
-        final ConcurrentHashMap<Object, SoftReference<CacheEntry>> cache = cacheHolder.cache();
-        for (final Map.Entry<Object, SoftReference<CacheEntry>> entry : cache.entrySet()) {
-            //noinspection DataFlowIssue
-            if (entry.getValue().get() == null
-                    || entry.getValue().get().isExpired()) {
-                cache.remove(entry.getKey());
-            }
+        return cacheHolder.liveKeys();
+    }
+
+    @Override
+    public OptionalLong getWeight(final String cacheName) {
+        final CacheHolder cacheHolder;
+
+        if ((cacheHolder = CACHES.get(cacheName)) == null || !cacheHolder.isWeighted()) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(cacheHolder.weightedSize());
+    }
+
+    @Override
+    public Optional<CacheStats> getStats(final String cacheName) {
+        final CacheHolder cacheHolder;
+
+        if ((cacheHolder = CACHES.get(cacheName)) == null) {
+            return Optional.empty();
         }
-        return cache.keySet();
+        return cacheHolder.stats();
     }
 
     private CacheHolder getCache(final String cacheName, final Class keyClass, final Class resultClass) {
-        return CACHES.computeIfAbsent(cacheName, key -> new CacheHolder(
-                new ConcurrentHashMap<>(),
-                keyClass,
-                resultClass
-        ));
+        return CACHES.computeIfAbsent(cacheName, key -> {
+            final CacheHolder cacheHolder = new CacheHolder(
+                    cacheName,
+                    keyClass,
+                    resultClass,
+                    SETTINGS.getOrDefault(cacheName, CacheSettings.defaults()),
+                    ticker,
+                    refreshExecutor);
+            final MaintenanceScheduler scheduler;
+            if ((scheduler = SCHEDULER.get()) != null) {
+                cacheHolder.setMaintenanceExecutor(scheduler.executor());
+            }
+            return cacheHolder;
+        });
     }
 
     private void validateKeyClass(final Object key, final Class keyClass, final CacheHolder cacheHolder, final String cacheName) {
@@ -150,108 +545,451 @@ public class HashMapCacheProvider implements CacheProvider {
         }
     }
 
-    private void validateResultClass(final Object result, final Class resultClass, final CacheHolder cacheHolder, final String cacheName) {
+    private static void validateResultClass(final Object result, final Class resultClass, final CacheHolder cacheHolder, final String cacheName) {
         if (!resultClass.isInstance(result) || !cacheHolder.resultClass().isInstance(result)) {
             throw new CacheRuntimeException("%s is not a valid result class for cache %s", result.getClass().getCanonicalName(), cacheName);
         }
     }
 
+    /**
+     * Gets the cached value on a cache hit and records the read, null on a cache miss. The value is {@link CacheEntry#ABSENT} on
+     * a hit on a cached absent result.
+     * A hit is a map lookup and an expiry check, entries are immutable once published so no locking is needed.
+     */
+    private static Object readHit(final CacheHolder cacheHolder, final Object key) {
+        final CacheEntry cacheEntry;
+        final Object value;
+        if ((cacheEntry = cacheHolder.cache().get(key)) != null
+                && (value = cacheEntry.getValue()) != null
+                && !cacheHolder.isExpired(cacheEntry)) {
+            cacheHolder.afterRead(cacheEntry);
+            return value;
+        }
+        return null;
+    }
+
+    /**
+     * Gets the cached value if it is present, has not been garbage collected and has not expired, possibly {@link CacheEntry#ABSENT}.
+     */
+    private static Object getLiveValue(final CacheHolder cacheHolder, final Object key) {
+        final CacheEntry cacheEntry;
+        final Object value;
+        if ((cacheEntry = cacheHolder.cache().get(key)) == null //mapped value is null
+                //soft or weak reference to the value has been GCed
+                || (value = cacheEntry.getValue()) == null
+                //cached value has expired
+                || cacheHolder.isExpired(cacheEntry)) {
+            return null;
+        }
+        return value;
+    }
+
+    /**
+     * Loads the value on a cache miss. Only one load per key is in flight at a time, the load is published in the
+     * in flight map and concurrent callers for the same key wait for its result instead of invoking their own loader.
+     */
     private Object loadValueIntoCache(final Object key,
                                       final Loader<Object, Object> loader,
                                       final String cacheName,
+                                      final long ttlMilliSeconds,
                                       final Class valueClass,
-                                      final CacheHolder cacheHolder,
-                                      final ConcurrentHashMap<Object, SoftReference<CacheEntry>> cache,
-                                      final SoftReference<CacheEntry> entryReference) throws Exception {
-        //noinspection DataFlowIssue
-        entryReference.get().writeLock().lock();
+                                      final CacheHolder cacheHolder) throws Exception {
+        final CompletableFuture<Object> loading = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight;
+        if ((inFlight = cacheHolder.inFlight().putIfAbsent(key, loading)) != null) {
+            return awaitLoad(inFlight, cacheName, cacheHolder);
+        }
         try {
-            //noinspection DataFlowIssue
-            if (entryReference.get().getValue() != null) {
-                //noinspection DataFlowIssue
-                return entryReference.get().getValue();
+            //another load could have completed between the cache miss and claiming the key
+            final Object loadedValue;
+            if ((loadedValue = getLiveValue(cacheHolder, key)) != null) {
+                final Object result = CacheEntry.toResult(loadedValue);
+                loading.complete(result);
+                return result;
+            }
+            final Object staleValue;
+            if ((staleValue = getStaleWhileBackingOff(key, cacheHolder)) != null) {
+                loading.complete(staleValue);
+                return staleValue;
             }
-            cache.put(key, entryReference);
             final Object value;
-            if ((value = loader.load(key)) == null) {
-                cache.remove(key);
-                return null;
+            try {
+                value = invokeLoader(key, loader, cacheHolder);
+            } catch (final Exception e) {
+                final Object staleIfError;
+                if ((staleIfError = serveStaleIfError(key, cacheHolder)) == null) {
+                    throw e;
+                }
+                loading.complete(staleIfError);
+                return staleIfError;
             }
-            validateResultClass(value, valueClass, cacheHolder, cacheName);
-            //noinspection DataFlowIssue
-            entryReference.get().setValue(loader.load(key));
-            //noinspection DataFlowIssue
-            return entryReference.get().getValue();
+            storeLoadedValue(key, value, cacheName, ttlMilliSeconds, valueClass, cacheHolder);
+            loading.complete(value);
+            return value;
         } catch (final Exception e) {
+            loading.completeExceptionally(e);
             throw e;
         } catch (final Throwable e) {
-            throw new CacheException(e);
+            final CacheException cacheException = new CacheException(e);
+            loading.completeExceptionally(cacheException);
+            throw cacheException;
         } finally {
-            //noinspection DataFlowIssue
-            entryReference.get().writeLock().unlock();
+            cacheHolder.inFlight().remove(key, loading);
         }
     }
 
-    @Override
-    public String getProviderName() {
-        return "internal.default.cache";
+    /**
+     * Loads the keys claimed by a bulk load with a single call to the bulk loader. Keys loaded by another caller between the
+     * cache miss and claiming them, or whose reloads are backing off, are resolved without loading them. If the bulk loader
+     * fails, each key is resolved with its stale value if it has one, otherwise the failure is thrown.
+     * The claimed in flight futures are always completed, with the key's value or with the failure.
+     */
+    private static void bulkLoadValuesIntoCache(final Map<Object, CompletableFuture<Object>> claimed,
+                                                final BulkLoader<Object, Object> loader,
+                                                final String cacheName,
+                                                final long ttlMilliSeconds,
+                                                final Class valueClass,
+                                                final CacheHolder cacheHolder,
+                                                final Map<Object, Object> values) throws Exception {
+        Throwable failure = null;
+        try {
+            final Set<Object> missing = new LinkedHashSet<>();
+            for (final Object key : claimed.keySet()) {
+                //another load could have completed between the cache miss and claiming the key
+                Object value;
+                if ((value = getLiveValue(cacheHolder, key)) != null
+                        || (value = getStaleWhileBackingOff(key, cacheHolder)) != null) {
+                    values.put(key, value);
+                } else {
+                    missing.add(key);
+                }
+            }
+            if (missing.isEmpty()) {
+                return;
+            }
+            final Map<Object, Object> loaded;
+            try {
+                loaded = invokeBulkLoader(missing, loader, cacheHolder);
+            } catch (final Exception e) {
+                for (final Object key : missing) {
+                    final Object staleIfError;
+                    if ((staleIfError = serveStaleIfError(key, cacheHolder)) == null) {
+                        throw e;
+                    }
+                    values.put(key, staleIfError);
+                }
+                return;
+            }
+            for (final Object key : missing) {
+                final Object value = loaded.get(key);
+                storeLoadedValue(key, value, cacheName, ttlMilliSeconds, valueClass, cacheHolder);
+                values.put(key, value);
+            }
+        } catch (final Exception e) {
+            failure = e;
+            throw e;
+        } catch (final Throwable e) {
+            final CacheException cacheException = new CacheException(e);
+            failure = cacheException;
+            throw cacheException;
+        } finally {
+            for (final Map.Entry<Object, CompletableFuture<Object>> claim : claimed.entrySet()) {
+                cacheHolder.inFlight().remove(claim.getKey(), claim.getValue());
+                if (failure == null || values.containsKey(claim.getKey())) {
+                    claim.getValue().complete(CacheEntry.toResult(values.get(claim.getKey())));
+                } else {
+                    claim.getValue().completeExceptionally(failure);
+                }
+            }
+        }
     }
 
-    @Override
-    public Optional<Object> peek(final String cacheName, final Object key) {
-        final CacheHolder cache;
-        final SoftReference<CacheEntry> cacheReference;
-        final CacheEntry cacheEntry;
+    /**
+     * Starts the async load on a cache miss. The load's future is published in the in flight map, concurrent callers, async or
+     * blocking, share it instead of invoking their own loader. It is removed before it completes, so a failed load is retried by
+     * the next caller rather than handed to it. Callers get a copy so that completing it does not affect the shared load.
+     */
+    private CompletableFuture<Object> loadValueIntoCacheAsync(final Object key,
+                                                              final AsyncLoader<Object, Object> loader,
+                                                              final String cacheName,
+                                                              final long ttlMilliSeconds,
+                                                              final Class valueClass,
+                                                              final CacheHolder cacheHolder) {
+        final CompletableFuture<Object> loading = new CompletableFuture<>();
+        final CompletableFuture<Object> inFlight;
+        if ((inFlight = cacheHolder.inFlight().putIfAbsent(key, loading)) != null) {
+            return inFlight.copy();
+        }
+        //another load could have completed between the cache miss and claiming the key
+        final Object loadedValue;
+        if ((loadedValue = getLiveValue(cacheHolder, key)) != null) {
+            final Object result = CacheEntry.toResult(loadedValue);
+            cacheHolder.inFlight().remove(key, loading);
+            loading.complete(result);
+            return CompletableFuture.completedFuture(result);
+        }
+        final Object staleValue;
+        if ((staleValue = getStaleWhileBackingOff(key, cacheHolder)) != null) {
+            cacheHolder.inFlight().remove(key, loading);
+            loading.complete(staleValue);
+            return CompletableFuture.completedFuture(staleValue);
+        }
+        runAsyncLoad(key, loader, loading, cacheHolder,
+                value -> storeLoadedValue(key, value, cacheName, ttlMilliSeconds, valueClass, cacheHolder));
+        return loading.copy();
+    }
 
-        if ((cache = CACHES.get(cacheName)) == null
-                || (cacheReference = cache.cache().get(key)) == null
-                || (cacheEntry = cacheReference.get()) == null) {
-            return Optional.empty();
+    /**
+     * Reloads an entry due for refresh on the refresh executor, unless a load of the key is already in flight. The reload is
+     * published in the in flight map, so callers that miss once the entry has expired wait for it. A failed reload leaves the
+     * current value in place until it expires, the next read retries the refresh.
+     */
+    private static void refresh(final Object key,
+                                final CacheEntry refreshDue,
+                                final AsyncLoader<Object, Object> loader,
+                                final String cacheName,
+                                final long ttlMilliSeconds,
+                                final Class valueClass,
+                                final CacheHolder cacheHolder) {
+        final CompletableFuture<Object> refreshing = new CompletableFuture<>();
+        if (cacheHolder.inFlight().putIfAbsent(key, refreshing) != null) {
+            return;
+        }
+        try {
+            cacheHolder.refreshExecutor().execute(() -> runAsyncLoad(key, loader, refreshing, cacheHolder,
+                    value -> storeRefreshedValue(key, refreshDue, value, cacheName, ttlMilliSeconds, valueClass, cacheHolder)));
+        } catch (final RejectedExecutionException e) {
+            cacheHolder.inFlight().remove(key, refreshing);
+            refreshing.complete(refreshDue.getValue());
+        }
+    }
+
+    /**
+     * Invokes the async loader, the in flight future is completed once the loaded value has been stored.
+     */
+    private static void runAsyncLoad(final Object key,
+                                     final AsyncLoader<Object, Object> loader,
+                                     final CompletableFuture<Object> loading,
+                                     final CacheHolder cacheHolder,
+                                     final Consumer<Object> store) {
+        final long start = cacheHolder.isRecordingStats() ? System.nanoTime() : 0L;
+        final CompletionStage<Object> stage;
+        try {
+            stage = Objects.requireNonNull(loader.load(key), "the async loader returned a null stage");
+        } catch (final Throwable e) {
+            completeAsyncLoad(key, loading, cacheHolder, start, null, e);
+            return;
+        }
+        stage.whenComplete((value, failure) -> {
+            Throwable loadFailure = failure;
+            if (loadFailure == null) {
+                try {
+                    store.accept(value);
+                } catch (final RuntimeException e) {
+                    loadFailure = e;
+                }
+            }
+            completeAsyncLoad(key, loading, cacheHolder, start, value, loadFailure);
+        });
+    }
+
+    private static void completeAsyncLoad(final Object key,
+                                          final CompletableFuture<Object> loading,
+                                          final CacheHolder cacheHolder,
+                                          final long start,
+                                          final Object value,
+                                          final Throwable failure) {
+        if (cacheHolder.isRecordingStats()) {
+            cacheHolder.recordLoad(failure == null && value != null, System.nanoTime() - start);
+        }
+        final Object staleIfError = failure == null ? null : serveStaleIfError(key, cacheHolder);
+        cacheHolder.inFlight().remove(key, loading);
+        if (failure == null) {
+            loading.complete(value);
+        } else if (staleIfError != null) {
+            loading.complete(staleIfError);
+        } else if (failure instanceof CompletionException completionException && completionException.getCause() != null) {
+            loading.completeExceptionally(completionException.getCause());
+        } else {
+            loading.completeExceptionally(failure);
         }
+    }
 
-        return Optional.of(cacheEntry.getValue());
+    /**
+     * Gets the value of an expired entry whose reloads are backing off after a failure, null if the key should be loaded.
+     */
+    private static Object getStaleWhileBackingOff(final Object key, final CacheHolder cacheHolder) {
+        final CacheEntry staleEntry;
+        if ((staleEntry = cacheHolder.getStale(key)) == null || !cacheHolder.isBackingOff(staleEntry)) {
+            return null;
+        }
+        return staleEntry.getValue();
     }
 
-    private static final class CacheEntry extends ReentrantReadWriteLock {
-        private final long ttl;
-        private long expiryTime;
-        private Object value; //NOSONAR: java:S1948, not planning on any serialisation
+    /**
+     * Gets the value of an expired entry to return in place of a failed load and backs off its reloads, null if there is none.
+     * Called by the thread holding the key's in flight load.
+     */
+    private static Object serveStaleIfError(final Object key, final CacheHolder cacheHolder) {
+        final CacheEntry staleEntry;
+        final Object staleValue;
+        if ((staleEntry = cacheHolder.getStale(key)) == null || (staleValue = staleEntry.getValue()) == null) {
+            return null;
+        }
+        cacheHolder.recordFailedReload(staleEntry);
+        return staleValue;
+    }
 
-        public CacheEntry(final long ttl) {
-            this.ttl = ttl;
-            expiryTime = System.currentTimeMillis() + ttl;
+    /**
+     * Stores a loaded value, a null value is stored as an absent entry if the cache caches absent results and otherwise removes
+     * any entry for the key.
+     */
+    private static void storeLoadedValue(final Object key,
+                                         final Object value,
+                                         final String cacheName,
+                                         final long ttlMilliSeconds,
+                                         final Class valueClass,
+                                         final CacheHolder cacheHolder) {
+        final ConcurrentHashMap<Object, CacheEntry> cache = cacheHolder.cache();
+        if (value == null && cacheHolder.isCachingAbsent()) {
+            final CacheEntry absentEntry = cacheHolder.createAbsentEntry(key);
+            cacheHolder.afterWrite(absentEntry, cache.put(key, absentEntry));
+            return;
         }
+        if (value == null) {
+            final CacheEntry removed;
+            if ((removed = cache.remove(key)) != null) {
+                cacheHolder.afterRemove(removed);
+            }
+            return;
+        }
+        validateResultClass(value, valueClass, cacheHolder, cacheName);
+        final CacheEntry cacheEntry = cacheHolder.createEntry(key, value, ttlMilliSeconds);
+        cacheHolder.afterWrite(cacheEntry, cache.put(key, cacheEntry));
+    }
 
-        public boolean isExpired() {
-            return expiryTime <= System.currentTimeMillis();
+    /**
+     * Replaces the refreshed entry with the reloaded value, a null value replaces it with an absent entry if the cache caches
+     * absent results and otherwise removes it.
+     * The value is dropped if the entry was removed or replaced while it was being reloaded.
+     */
+    private static void storeRefreshedValue(final Object key,
+                                            final CacheEntry refreshed,
+                                            final Object value,
+                                            final String cacheName,
+                                            final long ttlMilliSeconds,
+                                            final Class valueClass,
+                                            final CacheHolder cacheHolder) {
+        final ConcurrentHashMap<Object, CacheEntry> cache = cacheHolder.cache();
+        if (value == null && cacheHolder.isCachingAbsent()) {
+            final CacheEntry absentEntry = cacheHolder.createAbsentEntry(key);
+            if (cache.replace(key, refreshed, absentEntry)) {
+                cacheHolder.afterWrite(absentEntry, refreshed);
+            }
+            return;
+        }
+        if (value == null) {
+            if (cache.remove(key, refreshed)) {
+                cacheHolder.afterRemove(refreshed);
+            }
+            return;
         }
+        validateResultClass(value, valueClass, cacheHolder, cacheName);
+        final CacheEntry cacheEntry = cacheHolder.createEntry(key, value, ttlMilliSeconds);
+        if (cache.replace(key, refreshed, cacheEntry)) {
+            cacheHolder.afterWrite(cacheEntry, refreshed);
+        }
+    }
 
-        public Object getValue() {
+    /**
+     * Invokes the loader, timing it if the cache records statistics. A null result counts as a failed load.
+     */
+    private static Object invokeLoader(final Object key,
+                                       final Loader<Object, Object> loader,
+                                       final CacheHolder cacheHolder) throws Throwable {
+        if (!cacheHolder.isRecordingStats()) {
+            return loader.load(key);
+        }
+        final long start = System.nanoTime();
+        boolean loaded = false;
+        try {
+            final Object value = loader.load(key);
+            loaded = value != null;
             return value;
+        } finally {
+            cacheHolder.recordLoad(loaded, System.nanoTime() - start);
         }
+    }
 
-        public void setValue(final Object value) {
-            if (this.value != null) {
-                throw new CacheRuntimeException("values can only be set once");
+    /**
+     * Invokes the bulk loader, timing it as a single load if the cache records statistics. A null result is treated as no values.
+     */
+    private static Map<Object, Object> invokeBulkLoader(final Set<Object> keys,
+                                                        final BulkLoader<Object, Object> loader,
+                                                        final CacheHolder cacheHolder) throws Throwable {
+        final long start = cacheHolder.isRecordingStats() ? System.nanoTime() : 0L;
+        boolean loaded = false;
+        try {
+            final Map<Object, Object> values = loader.load(Collections.unmodifiableSet(keys));
+            loaded = values != null;
+            return loaded ? values : Map.of();
+        } finally {
+            if (cacheHolder.isRecordingStats()) {
+                cacheHolder.recordLoad(loaded, System.nanoTime() - start);
             }
-            expiryTime = System.currentTimeMillis() + ttl; //refresh expiry time after value has been set
-            this.value = value;
         }
     }
 
-    private record CacheHolder(
-            ConcurrentHashMap<Object, SoftReference<CacheEntry>> cache,
-            Class keyClass,
-            Class resultClass) {
+    /**
+     * Adapts a bulk loader to load a single key, used to refresh the keys of a bulk load one at a time.
+     */
+    private static Loader<Object, Object> singleKeyLoader(final BulkLoader<Object, Object> loader) {
+        return key -> {
+            final Map<Object, Object> values = loader.load(Set.of(key));
+            return values == null ? null : values.get(key);
+        };
+    }
 
+    private static Object awaitLoad(final CompletableFuture<Object> inFlight,
+                                    final String cacheName,
+                                    final CacheHolder cacheHolder) throws Exception {
+        final CacheStampedeEvent event = new CacheStampedeEvent();
+        event.begin();
+        try {
+            return inFlight.get();
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw new CacheException(e.getCause());
+        } finally {
+            event.record(PROVIDER_NAME, cacheName, cacheHolder.keyClass());
+        }
+    }
+
+    /**
+     * Periodic flight recorder hook, only run while the {@link CacheStatisticsEvent} is enabled.
+     */
+    private static void recordStatisticsEvents() {
+        CACHES.forEach((cacheName, cacheHolder) -> cacheHolder.stats()
+                .ifPresent(stats -> new CacheStatisticsEvent().record(PROVIDER_NAME, cacheName, stats)));
+    }
 
-        private CacheHolder(
-                final ConcurrentHashMap<Object, SoftReference<CacheEntry>> cache,
-                final Class keyClass,
-                final Class resultClass) {
-            this.cache = Objects.requireNonNull(cache);
-            this.keyClass = Objects.requireNonNull(keyClass);
-            this.resultClass = Objects.requireNonNull(resultClass);
+    @Override
+    public String getProviderName() {
+        return PROVIDER_NAME;
+    }
+
+    @Override
+    public Optional<Object> peek(final String cacheName, final Object key) {
+        final CacheHolder cache;
+        final CacheEntry cacheEntry;
+
+        if ((cache = CACHES.get(cacheName)) == null
+                || (cacheEntry = cache.cache().get(key)) == null) {
+            return Optional.empty();
         }
+
+        return Optional.ofNullable(CacheEntry.toResult(cacheEntry.getValue()));
     }
 }
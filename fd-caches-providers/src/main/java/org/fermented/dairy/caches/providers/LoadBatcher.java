@@ -0,0 +1,111 @@
+package org.fermented.dairy.caches.providers;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.fermented.dairy.caches.api.functions.BulkLoader;
+
+/**
+ * Collects the misses of a cache into batches that are loaded with a single call to the bulk loader registered for the cache.
+ * The first miss of a batch opens its window, the batch is loaded at the end of the window on the executor or, once it holds
+ * the maximum batch size, straight away on the thread adding the last key. Each miss gets a future completed with its value
+ * from the batch, or with the bulk loader's failure.
+ */
+final class LoadBatcher {
+
+    private final BulkLoader<Object, Object> bulkLoader;
+
+    private final int maxBatchSize;
+
+    private final Executor windowExecutor;
+
+    private Map<Object, CompletableFuture<Object>> batch = new LinkedHashMap<>(); //guarded by this
+
+    /**
+     * Constructor.
+     *
+     * @param bulkLoader the bulk loader loading each batch
+     * @param windowMilliSeconds the time a batch collects misses for after its first miss
+     * @param maxBatchSize the number of misses that loads the batch before the end of its window
+     * @param executor the executor batches are loaded on at the end of their window
+     */
+    LoadBatcher(final BulkLoader<Object, Object> bulkLoader,
+                final long windowMilliSeconds,
+                final int maxBatchSize,
+                final Executor executor) {
+        this.bulkLoader = bulkLoader;
+        this.maxBatchSize = maxBatchSize;
+        this.windowExecutor = CompletableFuture.delayedExecutor(windowMilliSeconds, TimeUnit.MILLISECONDS, task -> {
+            try {
+                executor.execute(task);
+            } catch (final RejectedExecutionException e) {
+                //the batch must still be loaded, or its callers would wait forever
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * Adds the key to the current batch.
+     *
+     * @param key the missing key
+     *
+     * @return the future completed with the key's value once the batch has been loaded, null if the bulk loader returned none
+     */
+    CompletableFuture<Object> load(final Object key) {
+        final CompletableFuture<Object> loading;
+        final Map<Object, CompletableFuture<Object>> opened;
+        final Map<Object, CompletableFuture<Object>> full;
+        synchronized (this) {
+            final CompletableFuture<Object> batched;
+            if ((batched = batch.get(key)) != null) {
+                return batched;
+            }
+            loading = new CompletableFuture<>();
+            opened = batch.isEmpty() ? batch : null;
+            batch.put(key, loading);
+            if (batch.size() < maxBatchSize) {
+                full = null;
+            } else {
+                full = batch;
+                batch = new LinkedHashMap<>();
+            }
+        }
+        if (full != null) {
+            loadBatch(full);
+        } else if (opened != null) {
+            windowExecutor.execute(() -> loadAtEndOfWindow(opened));
+        }
+        return loading;
+    }
+
+    /**
+     * Loads the batch whose window has ended, unless it was already loaded when it reached the maximum batch size.
+     */
+    private void loadAtEndOfWindow(final Map<Object, CompletableFuture<Object>> opened) {
+        synchronized (this) {
+            if (batch != opened) {
+                return;
+            }
+            batch = new LinkedHashMap<>();
+        }
+        loadBatch(opened);
+    }
+
+    private void loadBatch(final Map<Object, CompletableFuture<Object>> keys) {
+        final Map<Object, Object> values;
+        try {
+            final Map<Object, Object> loaded = bulkLoader.load(Collections.unmodifiableSet(new LinkedHashSet<>(keys.keySet())));
+            values = loaded == null ? Map.of() : loaded;
+        } catch (final Throwable e) {
+            keys.values().forEach(loading -> loading.completeExceptionally(e));
+            return;
+        }
+        keys.forEach((key, loading) -> loading.complete(values.get(key)));
+    }
+}
@@ -0,0 +1,122 @@
+package org.fermented.dairy.caches.providers;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+
+/**
+ * Performs the maintenance of {@link HashMapCacheProvider} caches off the request threads.
+ * Buffered reads and writes are drained on the scheduler's executor as they fill, and every period each cache is given a
+ * bounded slice of maintenance so that idle caches still have their expired entries removed.
+ * Slices that run out of budget schedule another slice rather than running to completion.
+ */
+public final class MaintenanceScheduler implements AutoCloseable {
+
+    private static final String THREAD_NAME = "fd-caches-maintenance";
+
+    private final Executor executor;
+
+    private final ExecutorService ownedExecutor;
+
+    private final long periodMilliSeconds;
+
+    private volatile boolean running;
+
+    private Supplier<Collection<CacheHolder>> caches;
+
+    private MaintenanceScheduler(final Executor executor, final ExecutorService ownedExecutor, final long periodMilliSeconds) {
+        if (periodMilliSeconds <= 0) {
+            throw new CacheRuntimeException("Maintenance period must be positive, was %d ms", periodMilliSeconds);
+        }
+        this.executor = Objects.requireNonNull(executor);
+        this.ownedExecutor = ownedExecutor;
+        this.periodMilliSeconds = periodMilliSeconds;
+    }
+
+    /**
+     * Scheduler running maintenance on its own daemon thread. The thread is stopped when the scheduler is closed.
+     *
+     * @param periodMilliSeconds The time between periodic maintenance of each cache in milliseconds
+     *
+     * @return the scheduler.
+     */
+    public static MaintenanceScheduler daemonThread(final long periodMilliSeconds) {
+        final ExecutorService daemonExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        return new MaintenanceScheduler(daemonExecutor, daemonExecutor, periodMilliSeconds);
+    }
+
+    /**
+     * Scheduler running maintenance on the provided executor, e.g. a managed executor. The executor is not shut down when the
+     * scheduler is closed.
+     *
+     * @param executor The executor to run maintenance on
+     * @param periodMilliSeconds The time between periodic maintenance of each cache in milliseconds
+     *
+     * @return the scheduler.
+     */
+    public static MaintenanceScheduler executor(final Executor executor, final long periodMilliSeconds) {
+        return new MaintenanceScheduler(executor, null, periodMilliSeconds);
+    }
+
+    /**
+     * Starts periodic maintenance of the caches.
+     *
+     * @param caches supplies the caches to maintain
+     */
+    synchronized void start(final Supplier<Collection<CacheHolder>> caches) {
+        if (running) {
+            throw new CacheRuntimeException("Maintenance scheduler is already running");
+        }
+        this.caches = caches;
+        running = true;
+        schedulePeriodicMaintenance();
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Stops periodic maintenance, shutting down the daemon thread if the scheduler owns one.
+     */
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+    }
+
+    private void schedulePeriodicMaintenance() {
+        if (!running) {
+            return;
+        }
+        try {
+            CompletableFuture.delayedExecutor(periodMilliSeconds, TimeUnit.MILLISECONDS, executor)
+                    .execute(this::periodicMaintenance);
+        } catch (final RejectedExecutionException e) {
+            running = false;
+        }
+    }
+
+    private void periodicMaintenance() {
+        try {
+            if (running) {
+                caches.get().forEach(CacheHolder::runMaintenanceSlice);
+            }
+        } finally {
+            schedulePeriodicMaintenance();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package org.fermented.dairy.caches.providers;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Lossy, striped buffer of cache hits waiting to be replayed against the eviction policy.
+ * Reads are recorded without taking a lock, threads are spread over stripes and a record is dropped when its stripe is full
+ * or contended, the policy only needs a representative sample of accesses.
+ */
+final class ReadBuffer {
+
+    private static final int STRIPE_SIZE = 16;
+
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private final Stripe[] stripes;
+
+    private final int stripeMask;
+
+    ReadBuffer() {
+        final int stripeCount = Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 64)) << 1;
+        stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        stripeMask = stripeCount - 1;
+    }
+
+    /**
+     * Records a read.
+     *
+     * @param entry the entry that was read
+     * @return true if the stripe is full and the buffer should be drained.
+     */
+    boolean offer(final CacheEntry entry) {
+        return stripes[probe() & stripeMask].offer(entry);
+    }
+
+    /**
+     * Replays all buffered reads. Must only be called while holding the eviction lock.
+     *
+     * @param consumer the read consumer
+     */
+    void drainTo(final Consumer<CacheEntry> consumer) {
+        for (final Stripe stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private static int probe() {
+        return Long.hashCode(Thread.currentThread().getId()) * 0x9e3779b9;
+    }
+
+    /**
+     * A ring buffer with many producers and a single consumer, producers claim a slot by incrementing the write counter.
+     */
+    private static final class Stripe {
+        private final AtomicReferenceArray<CacheEntry> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(final CacheEntry entry) {
+            final long head = readCounter;
+            final long tail = writeCounter.get();
+            final long size = tail - head;
+            if (size >= STRIPE_SIZE) {
+                return true;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & STRIPE_MASK), entry);
+                return size + 1 >= STRIPE_SIZE;
+            }
+            return false;
+        }
+
+        void drainTo(final Consumer<CacheEntry> consumer) {
+            long head = readCounter;
+            final long tail = writeCounter.get();
+            while (head < tail) {
+                final int index = (int) (head & STRIPE_MASK);
+                final CacheEntry entry = buffer.get(index);
+                if (entry == null) {
+                    //slot claimed but not yet written, pick it up on the next drain
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(entry);
+                head++;
+            }
+            readCounter = head;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package org.fermented.dairy.caches.providers;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.records.EvictionCause;
+
+/**
+ * Statistics counters of a cache. The counters are {@link LongAdder LongAdders}, striped across cells under contention,
+ * so concurrent hits on different threads do not contend on a single counter.
+ */
+final class StatsCounter {
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder negativeHitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder loadSuccessCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final Map<EvictionCause, LongAdder> evictionCounts = new EnumMap<>(EvictionCause.class);
+
+    StatsCounter() {
+        for (final EvictionCause cause : EvictionCause.values()) {
+            evictionCounts.put(cause, new LongAdder());
+        }
+    }
+
+    void recordHit() {
+        hitCount.increment();
+    }
+
+    void recordNegativeHit() {
+        hitCount.increment();
+        negativeHitCount.increment();
+    }
+
+    void recordMiss() {
+        missCount.increment();
+    }
+
+    void recordLoadSuccess(final long loadTimeNanos) {
+        loadSuccessCount.increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    void recordLoadFailure(final long loadTimeNanos) {
+        loadFailureCount.increment();
+        totalLoadTime.add(loadTimeNanos);
+    }
+
+    void recordEviction(final EvictionCause cause) {
+        evictionCounts.get(cause).increment();
+    }
+
+    /**
+     * Snapshot of the counters, the counters are read one at a time so the snapshot is not atomic under concurrent updates.
+     *
+     * @param size the number of entries in the cache
+     * @param weight the total weight of the entries, {@link CacheStats#NOT_WEIGHTED} if the cache is not bounded by weight
+     * @return the snapshot
+     */
+    CacheStats snapshot(final long size, final long weight) {
+        final Map<EvictionCause, Long> evictions = new EnumMap<>(EvictionCause.class);
+        evictionCounts.forEach((cause, count) -> evictions.put(cause, count.sum()));
+        return new CacheStats(
+                hitCount.sum(),
+                negativeHitCount.sum(),
+                missCount.sum(),
+                loadSuccessCount.sum(),
+                loadFailureCount.sum(),
+                totalLoadTime.sum(),
+                evictions,
+                size,
+                weight);
+    }
+}
@@ -0,0 +1,187 @@
+package org.fermented.dairy.caches.providers;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel tracking the removal time of {@link CacheEntry CacheEntries}, their expiry time extended by the
+ * cache's stale-if-error window if it has one.
+ * Each level is a ring of buckets spanning a power of two number of milliseconds, an entry is placed in the level matching
+ * how far away its expiry is. Scheduling and descheduling are O(1). As time advances, the buckets that have been passed and
+ * the bucket of each level the current time has moved into are spliced onto a pending list in O(1) each. The pending list is
+ * then swept in slices of bounded size: expired entries are handed to the expiry listener and the rest cascade down to a
+ * finer level, so an entry reaches the finest level before it expires.
+ * The wheel reclaims expired entries that are never read again, reads still check {@link CacheEntry#isExpired(long)} as an
+ * entry may sit in a bucket of the finest level for up to ~1 second after it expires, or until maintenance next runs.
+ * Not thread safe, callers must hold the cache's eviction lock.
+ */
+final class TimerWheel {
+
+    /**
+     * Number of buckets per level, the last level holds entries expiring beyond the span of the others.
+     */
+    private static final int[] BUCKETS = {64, 64, 16, 4, 1};
+
+    /**
+     * Span of a bucket in each level as a power of two number of milliseconds: ~1 second, ~1 minute, ~70 minutes,
+     * ~19 hours and ~3 days. The buckets of a level span one bucket of the next level.
+     */
+    private static final int[] SHIFTS = {10, 16, 22, 26, 28};
+
+    private final CacheEntry[][] wheel;
+
+    private final CacheEntry pending = CacheEntry.sentinel();
+
+    private final Consumer<CacheEntry> expiryListener;
+
+    private long time;
+
+    /**
+     * Constructor.
+     *
+     * @param expiryListener called with each expired entry, responsible for removing it from the cache.
+     * @param time the current time in milliseconds.
+     */
+    TimerWheel(final Consumer<CacheEntry> expiryListener, final long time) {
+        this.expiryListener = expiryListener;
+        this.time = time;
+        wheel = new CacheEntry[BUCKETS.length][];
+        for (int level = 0; level < BUCKETS.length; level++) {
+            wheel[level] = new CacheEntry[BUCKETS[level]];
+            for (int bucket = 0; bucket < BUCKETS[level]; bucket++) {
+                wheel[level][bucket] = CacheEntry.sentinel();
+            }
+        }
+    }
+
+    /**
+     * Adds an entry to the bucket matching its removal time.
+     *
+     * @param entry the entry to schedule
+     */
+    void schedule(final CacheEntry entry) {
+        link(findBucket(entry.getRemovalTime()), entry);
+    }
+
+    /**
+     * Removes an entry from the wheel, does nothing if it is not scheduled.
+     *
+     * @param entry the entry to remove
+     */
+    void deschedule(final CacheEntry entry) {
+        if (entry.nextInTimerOrder == null) {
+            return;
+        }
+        entry.previousInTimerOrder.nextInTimerOrder = entry.nextInTimerOrder;
+        entry.nextInTimerOrder.previousInTimerOrder = entry.previousInTimerOrder;
+        entry.previousInTimerOrder = null;
+        entry.nextInTimerOrder = null;
+    }
+
+    /**
+     * Advances the wheel to the current time, moving the entries of every bucket that has been passed, and of the bucket the
+     * current time falls in, to the pending list.
+     *
+     * @param currentTime the current time in milliseconds.
+     */
+    void advance(final long currentTime) {
+        final long previousTime = time;
+        time = currentTime;
+        for (int level = 0; level < SHIFTS.length; level++) {
+            final long previousTicks = previousTime >>> SHIFTS[level];
+            final long currentTicks = currentTime >>> SHIFTS[level];
+            if (currentTicks - previousTicks <= 0L) {
+                break;
+            }
+            final CacheEntry[] buckets = wheel[level];
+            final int mask = buckets.length - 1;
+            //the current bucket is swept as well, it holds the entries expiring before the end of its span and those already
+            //expired must not wait for the wheel to pass it
+            final long steps = Math.min(currentTicks - previousTicks + 1L, buckets.length);
+            for (long step = 0; step < steps; step++) {
+                splice(buckets[(int) ((previousTicks + step) & mask)], pending);
+            }
+        }
+    }
+
+    /**
+     * Expires or reschedules entries on the pending list.
+     *
+     * @param budget the maximum number of entries to process.
+     * @return true if entries are still pending.
+     */
+    boolean expire(final int budget) {
+        for (int processed = 0; processed < budget; processed++) {
+            final CacheEntry entry = pending.nextInTimerOrder;
+            if (entry == pending) {
+                return false;
+            }
+            deschedule(entry);
+            if (entry.getRemovalTime() <= time) {
+                expiryListener.accept(entry);
+            } else {
+                schedule(entry);
+            }
+        }
+        return pending.nextInTimerOrder != pending;
+    }
+
+    /**
+     * Unlinks all entries.
+     */
+    void clear() {
+        for (final CacheEntry[] buckets : wheel) {
+            for (final CacheEntry sentinel : buckets) {
+                unlinkAll(sentinel);
+            }
+        }
+        unlinkAll(pending);
+    }
+
+    private static void unlinkAll(final CacheEntry sentinel) {
+        CacheEntry entry = sentinel.nextInTimerOrder;
+        while (entry != sentinel) {
+            final CacheEntry next = entry.nextInTimerOrder;
+            entry.previousInTimerOrder = null;
+            entry.nextInTimerOrder = null;
+            entry = next;
+        }
+        sentinel.previousInTimerOrder = sentinel;
+        sentinel.nextInTimerOrder = sentinel;
+    }
+
+    /**
+     * Moves all entries of a bucket to the end of another list.
+     */
+    private static void splice(final CacheEntry from, final CacheEntry to) {
+        if (from.nextInTimerOrder == from) {
+            return;
+        }
+        final CacheEntry first = from.nextInTimerOrder;
+        final CacheEntry last = from.previousInTimerOrder;
+        first.previousInTimerOrder = to.previousInTimerOrder;
+        to.previousInTimerOrder.nextInTimerOrder = first;
+        last.nextInTimerOrder = to;
+        to.previousInTimerOrder = last;
+        from.previousInTimerOrder = from;
+        from.nextInTimerOrder = from;
+    }
+
+    private CacheEntry findBucket(final long expiryTime) {
+        final long duration = expiryTime - time;
+        final int lastLevel = BUCKETS.length - 1;
+        for (int level = 0; level < lastLevel; level++) {
+            if (duration < (1L << SHIFTS[level + 1])) {
+                final long ticks = expiryTime >>> SHIFTS[level];
+                return wheel[level][(int) (ticks & (BUCKETS[level] - 1))];
+            }
+        }
+        return wheel[lastLevel][0];
+    }
+
+    private static void link(final CacheEntry sentinel, final CacheEntry entry) {
+        entry.previousInTimerOrder = sentinel.previousInTimerOrder;
+        entry.nextInTimerOrder = sentinel;
+        sentinel.previousInTimerOrder.nextInTimerOrder = entry;
+        sentinel.previousInTimerOrder = entry;
+    }
+}
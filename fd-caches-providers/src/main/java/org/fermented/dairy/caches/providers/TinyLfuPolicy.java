@@ -0,0 +1,273 @@
+package org.fermented.dairy.caches.providers;
+
+import java.util.function.Consumer;
+import org.fermented.dairy.caches.providers.CacheEntry.PolicyQueue;
+
+/**
+ * W-TinyLFU size based eviction policy, sizes are the total {@link CacheEntry#weight weight} of the entries.
+ * New entries are admitted to a small LRU window. Entries leaving the window compete with the least recently used entry of the
+ * main space's probation segment, the entry with the higher estimated frequency (see {@link FrequencySketch}) is retained.
+ * Entries read while in probation are promoted to the protected segment, which takes up most of the main space.
+ * The frequency sketch is sized by the number of entries: the maximum for caches bounded by entries, and for caches bounded by
+ * weight the number of entries tracked so far (at least 16), grown as more entries are added up to the maximum weight.
+ * Not thread safe, callers must hold the cache's eviction lock.
+ */
+final class TinyLfuPolicy {
+
+    private static final double WINDOW_PERCENTAGE = 0.01d;
+
+    private static final double PROTECTED_PERCENTAGE = 0.80d;
+
+    private static final long MINIMUM_WEIGHTED_ENTRIES = 16L;
+
+    private final AccessOrderDeque window = new AccessOrderDeque();
+
+    private final AccessOrderDeque probation = new AccessOrderDeque();
+
+    private final AccessOrderDeque protectedQueue = new AccessOrderDeque();
+
+    private final FrequencySketch sketch = new FrequencySketch();
+
+    private final Consumer<CacheEntry> evictionListener;
+
+    private long maximum = -1L;
+
+    private long windowMaximum;
+
+    private long protectedMaximum;
+
+    private long weightedSize;
+
+    private long windowWeightedSize;
+
+    private long protectedWeightedSize;
+
+    private boolean weighted;
+
+    private long entryCount;
+
+    /**
+     * Constructor.
+     *
+     * @param evictionListener called with each entry evicted by the policy, responsible for removing it from the cache.
+     */
+    TinyLfuPolicy(final Consumer<CacheEntry> evictionListener) {
+        this.evictionListener = evictionListener;
+    }
+
+    boolean isBounded() {
+        return maximum >= 0;
+    }
+
+    long weightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * The number of entries the frequency sketch is sized for.
+     *
+     * @return the sketch capacity
+     */
+    int sketchCapacity() {
+        return sketch.capacity();
+    }
+
+    /**
+     * Sets the maximum total weight, evicting entries if the cache is now over the maximum.
+     *
+     * @param maximumSize the maximum total weight, negative if the cache is unbounded.
+     * @param weightedEntries true if the maximum is a weight rather than a number of entries.
+     */
+    void setMaximum(final long maximumSize, final boolean weightedEntries) {
+        maximum = maximumSize;
+        weighted = weightedEntries;
+        if (maximumSize < 0) {
+            return;
+        }
+        windowMaximum = Math.max(1L, (long) (maximumSize * WINDOW_PERCENTAGE));
+        protectedMaximum = (long) ((maximumSize - windowMaximum) * PROTECTED_PERCENTAGE);
+        sketch.ensureCapacity(weighted ? expectedEntries() : maximumSize);
+        evict();
+    }
+
+    /**
+     * Records a newly written entry.
+     *
+     * @param entry the written entry
+     */
+    void onAdd(final CacheEntry entry) {
+        if (!isBounded() || entry.isRetired() || entry.queue != PolicyQueue.NONE) {
+            return;
+        }
+        entryCount++;
+        if (weighted) {
+            sketch.ensureCapacity(expectedEntries());
+        }
+        sketch.increment(entry.getKey());
+        entry.queue = PolicyQueue.WINDOW;
+        window.addLast(entry);
+        windowWeightedSize += entry.weight;
+        weightedSize += entry.weight;
+        evict();
+    }
+
+    /**
+     * Records a cache hit.
+     *
+     * @param entry the entry read
+     */
+    void onAccess(final CacheEntry entry) {
+        if (entry.isRetired()) {
+            return;
+        }
+        sketch.increment(entry.getKey());
+        switch (entry.queue) {
+            case WINDOW -> window.moveToLast(entry);
+            case PROBATION -> {
+                probation.remove(entry);
+                entry.queue = PolicyQueue.PROTECTED;
+                protectedQueue.addLast(entry);
+                protectedWeightedSize += entry.weight;
+                demoteFromProtected();
+            }
+            case PROTECTED -> protectedQueue.moveToLast(entry);
+            default -> {
+                //not tracked by the policy
+            }
+        }
+    }
+
+    /**
+     * Stops tracking an entry removed from the cache.
+     *
+     * @param entry the removed entry
+     */
+    void onRemove(final CacheEntry entry) {
+        unlink(entry);
+    }
+
+    /**
+     * Stops tracking all entries.
+     */
+    void clear() {
+        window.clear();
+        probation.clear();
+        protectedQueue.clear();
+        weightedSize = 0L;
+        windowWeightedSize = 0L;
+        protectedWeightedSize = 0L;
+        entryCount = 0L;
+    }
+
+    private long expectedEntries() {
+        //a weight bounded cache holds at most one entry per unit of weight, short of entries weighing nothing
+        return Math.min(maximum, Math.max(MINIMUM_WEIGHTED_ENTRIES, entryCount));
+    }
+
+    private void demoteFromProtected() {
+        while (protectedWeightedSize > protectedMaximum) {
+            final CacheEntry demoted = protectedQueue.peekFirst();
+            if (demoted == null) {
+                return;
+            }
+            protectedQueue.remove(demoted);
+            protectedWeightedSize -= demoted.weight;
+            demoted.queue = PolicyQueue.PROBATION;
+            probation.addLast(demoted);
+        }
+    }
+
+    private void evict() {
+        evictFromMain(evictFromWindow());
+    }
+
+    /**
+     * Moves entries overflowing the window to the tail of the probation segment.
+     *
+     * @return the first entry moved, the oldest candidate for admission to the main space.
+     */
+    private CacheEntry evictFromWindow() {
+        CacheEntry firstCandidate = null;
+        while (windowWeightedSize > windowMaximum) {
+            final CacheEntry candidate = window.peekFirst();
+            if (candidate == null) {
+                break;
+            }
+            window.remove(candidate);
+            windowWeightedSize -= candidate.weight;
+            candidate.queue = PolicyQueue.PROBATION;
+            probation.addLast(candidate);
+            if (firstCandidate == null) {
+                firstCandidate = candidate;
+            }
+        }
+        return firstCandidate;
+    }
+
+    /**
+     * Evicts entries until the cache is within its maximum total weight.
+     * Candidates that entered probation from the window compete with the probation victim, the loser is evicted.
+     */
+    private void evictFromMain(final CacheEntry firstCandidate) {
+        CacheEntry candidate = firstCandidate;
+        while (weightedSize > maximum) {
+            final CacheEntry victim = probation.peekFirst();
+            if (candidate == null || victim == null || victim == candidate) {
+                final CacheEntry coldest = coldestEntry();
+                if (coldest == null) {
+                    return;
+                }
+                if (coldest == candidate) {
+                    candidate = candidate.nextInAccessOrder;
+                }
+                evictEntry(coldest);
+            } else if (admit(candidate, victim)) {
+                evictEntry(victim);
+            } else {
+                final CacheEntry nextCandidate = candidate.nextInAccessOrder;
+                evictEntry(candidate);
+                candidate = nextCandidate;
+            }
+        }
+    }
+
+    private boolean admit(final CacheEntry candidate, final CacheEntry victim) {
+        return sketch.frequency(candidate.getKey()) > sketch.frequency(victim.getKey());
+    }
+
+    private CacheEntry coldestEntry() {
+        CacheEntry coldest = probation.peekFirst();
+        if (coldest == null) {
+            coldest = protectedQueue.peekFirst();
+        }
+        if (coldest == null) {
+            coldest = window.peekFirst();
+        }
+        return coldest;
+    }
+
+    private void evictEntry(final CacheEntry entry) {
+        unlink(entry);
+        evictionListener.accept(entry);
+    }
+
+    private void unlink(final CacheEntry entry) {
+        switch (entry.queue) {
+            case WINDOW -> {
+                window.remove(entry);
+                windowWeightedSize -= entry.weight;
+            }
+            case PROBATION -> probation.remove(entry);
+            case PROTECTED -> {
+                protectedQueue.remove(entry);
+                protectedWeightedSize -= entry.weight;
+            }
+            default -> {
+                return;
+            }
+        }
+        entry.queue = PolicyQueue.NONE;
+        weightedSize -= entry.weight;
+        entryCount--;
+    }
+}
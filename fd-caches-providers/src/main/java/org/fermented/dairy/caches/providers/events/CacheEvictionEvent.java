@@ -0,0 +1,63 @@
+package org.fermented.dairy.caches.providers.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.fermented.dairy.caches.api.records.EvictionCause;
+
+/**
+ * JDK Flight Recorder event for an entry removed by the cache provider rather than by the application.
+ * Instant event, emitted by the thread performing cache maintenance.
+ */
+@Name("org.fermented.dairy.caches.CacheEviction")
+@Label("Cache Eviction")
+@Category({"Fermented Dairy", "Caches"})
+@Description("An entry removed from a cache because of its size bound, expiry or garbage collection")
+@StackTrace(false)
+public class CacheEvictionEvent extends Event {
+
+    @Label("Provider")
+    private String providerName;
+
+    @Label("Cache")
+    private String cacheName;
+
+    @Label("Key Type")
+    private Class<?> keyType;
+
+    @Label("Cause")
+    @Description("SIZE, EXPIRED or COLLECTED")
+    private String cause;
+
+    @Label("Weight")
+    @Description("The weight of the evicted entry, 1 if the cache is not bounded by weight")
+    private long weight;
+
+    /**
+     * Commits the event, if it is enabled.
+     *
+     * @param providerName the name of the cache provider
+     * @param cacheName the name of the cache
+     * @param keyType the type of the cache key
+     * @param cause why the entry was evicted
+     * @param weight the weight of the evicted entry
+     */
+    public void record(final String providerName,
+                       final String cacheName,
+                       final Class<?> keyType,
+                       final EvictionCause cause,
+                       final long weight) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.providerName = providerName;
+        this.cacheName = cacheName;
+        this.keyType = keyType;
+        this.cause = cause.name();
+        this.weight = weight;
+        commit();
+    }
+}
@@ -0,0 +1,45 @@
+package org.fermented.dairy.caches.providers.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JDK Flight Recorder event for a caller that missed the cache while another caller was loading the same key,
+ * its duration is the time spent waiting for that load instead of invoking the loader again.
+ */
+@Name("org.fermented.dairy.caches.CacheStampede")
+@Label("Cache Stampede")
+@Category({"Fermented Dairy", "Caches"})
+@Description("A cache miss that waited for a load of the same key already in flight")
+public class CacheStampedeEvent extends Event {
+
+    @Label("Provider")
+    private String providerName;
+
+    @Label("Cache")
+    private String cacheName;
+
+    @Label("Key Type")
+    private Class<?> keyType;
+
+    /**
+     * Ends the event and commits it, if it is enabled and lasted longer than its threshold.
+     *
+     * @param providerName the name of the cache provider
+     * @param cacheName the name of the cache
+     * @param keyType the type of the cache key
+     */
+    public void record(final String providerName, final String cacheName, final Class<?> keyType) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.providerName = providerName;
+        this.cacheName = cacheName;
+        this.keyType = keyType;
+        commit();
+    }
+}
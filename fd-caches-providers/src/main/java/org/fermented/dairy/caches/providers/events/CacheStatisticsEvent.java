@@ -0,0 +1,92 @@
+package org.fermented.dairy.caches.providers.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Percentage;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+import org.fermented.dairy.caches.api.records.CacheStats;
+
+/**
+ * Periodic JDK Flight Recorder event with a {@link CacheStats} snapshot of a cache recording statistics.
+ * Providers register a periodic hook emitting one event per cache, the hook is only run while the event is enabled.
+ */
+@Name("org.fermented.dairy.caches.CacheStatistics")
+@Label("Cache Statistics")
+@Category({"Fermented Dairy", "Caches"})
+@Description("Statistics of a cache, for caches recording statistics")
+@Period("5 s")
+@StackTrace(false)
+public class CacheStatisticsEvent extends Event {
+
+    @Label("Provider")
+    private String providerName;
+
+    @Label("Cache")
+    private String cacheName;
+
+    @Label("Size")
+    @Description("The number of entries in the cache")
+    private long size;
+
+    @Label("Weight")
+    @Description("The total weight of the entries, -1 if the cache is not bounded by weight")
+    private long weight;
+
+    @Label("Hits")
+    private long hitCount;
+
+    @Label("Negative Hits")
+    @Description("The number of hits that returned a cached absent result")
+    private long negativeHitCount;
+
+    @Label("Misses")
+    private long missCount;
+
+    @Label("Hit Rate")
+    @Percentage
+    private double hitRate;
+
+    @Label("Successful Loads")
+    private long loadSuccessCount;
+
+    @Label("Failed Loads")
+    private long loadFailureCount;
+
+    @Label("Total Load Time")
+    @Timespan(Timespan.NANOSECONDS)
+    private long totalLoadTime;
+
+    @Label("Evictions")
+    private long evictionCount;
+
+    /**
+     * Commits the event, if it is enabled.
+     *
+     * @param providerName the name of the cache provider
+     * @param cacheName the name of the cache
+     * @param stats the cache's statistics
+     */
+    public void record(final String providerName, final String cacheName, final CacheStats stats) {
+        if (!shouldCommit()) {
+            return;
+        }
+        this.providerName = providerName;
+        this.cacheName = cacheName;
+        this.size = stats.size();
+        this.weight = stats.weight();
+        this.hitCount = stats.hitCount();
+        this.negativeHitCount = stats.negativeHitCount();
+        this.missCount = stats.missCount();
+        this.hitRate = stats.hitRate();
+        this.loadSuccessCount = stats.loadSuccessCount();
+        this.loadFailureCount = stats.loadFailureCount();
+        this.totalLoadTime = stats.totalLoadTimeNanos();
+        this.evictionCount = stats.evictionCount();
+        commit();
+    }
+}
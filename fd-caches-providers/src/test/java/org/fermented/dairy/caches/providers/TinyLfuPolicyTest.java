@@ -0,0 +1,69 @@
+package org.fermented.dairy.caches.providers;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.fermented.dairy.caches.api.records.ReferenceStrength;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TinyLfuPolicyTest {
+
+    private static final long MAX_WEIGHT = 256L * 1024L * 1024L;
+
+    private final TinyLfuPolicy policy = new TinyLfuPolicy(entry -> { });
+
+    private static CacheEntry entry(final long key, final int weight) {
+        final CacheEntry entry = new CacheEntry(key, "Value " + key, ReferenceStrength.STRONG, null, Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE);
+        entry.weight = weight;
+        return entry;
+    }
+
+    @DisplayName("""
+            with a policy bounded by a maximum of 1000 entries
+             then the frequency sketch should be sized for 1000 entries straight away
+            """)
+    @Test
+    void entryBoundedSketchIsSizedFromMaximum() {
+        policy.setMaximum(1000L, false);
+        assertEquals(1024, policy.sketchCapacity());
+    }
+
+    @DisplayName("""
+            with a policy bounded by a maximum weight of 256MiB
+             then the frequency sketch should not be sized from the weight
+             and when 100 entries of 1MiB are added
+             then it should grow to hold the 100 entries
+             and when the entries are cleared and the maximum set again
+             then it should keep its capacity
+            """)
+    @Test
+    void weightBoundedSketchGrowsWithEntries() {
+        policy.setMaximum(MAX_WEIGHT, true);
+        final int initialCapacity = policy.sketchCapacity();
+        for (long key = 0; key < 100; key++) {
+            policy.onAdd(entry(key, 1024 * 1024));
+        }
+        final int capacityAfterAdds = policy.sketchCapacity();
+        policy.clear();
+        policy.setMaximum(MAX_WEIGHT, true);
+        assertAll("assert the sketch is sized by entries",
+                () -> assertEquals(16, initialCapacity),
+                () -> assertEquals(128, capacityAfterAdds),
+                () -> assertEquals(128, policy.sketchCapacity()));
+    }
+
+    @DisplayName("""
+            with a policy bounded by a maximum weight of 20
+             when 100 entries weighing nothing are added
+             then the frequency sketch should not grow beyond 20 entries
+            """)
+    @Test
+    void weightBoundedSketchIsCappedByMaximumWeight() {
+        policy.setMaximum(20L, true);
+        for (long key = 0; key < 100; key++) {
+            policy.onAdd(entry(key, 0));
+        }
+        assertEquals(32, policy.sketchCapacity());
+    }
+}
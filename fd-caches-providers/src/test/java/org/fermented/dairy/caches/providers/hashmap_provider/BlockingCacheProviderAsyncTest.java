@@ -0,0 +1,207 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fermented.dairy.caches.api.functions.AsyncLoader;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.functions.OptionalLoader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the default async and bulk methods of {@link CacheProvider}, which adapt the blocking single key methods.
+ */
+class BlockingCacheProviderAsyncTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final AsyncLoader<Object, Object> loader = key -> {
+        loads.incrementAndGet();
+        return CompletableFuture.supplyAsync(() -> "Number Loaded Into Cache: " + key);
+    };
+
+    private final HashMapCacheProvider delegate = new HashMapCacheProvider();
+
+    private final CacheProvider provider = new BlockingCacheProvider(delegate);
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+    }
+
+    @DisplayName("""
+            with a provider only implementing the blocking methods
+             given a key is loaded asynchronously twice
+             then the loader should be invoked once
+             and both futures should complete with the loaded value
+            """)
+    @Test
+    void defaultLoadAsyncAdaptsBlockingLoad() throws Exception {
+        final Object first = provider.loadAsync(1L, loader, "BlockingCache", 30000, Long.class, String.class).get();
+        final Object second = provider.loadAsync(1L, loader, "BlockingCache", 30000, Long.class, String.class).get();
+        assertAll("assert async load results",
+                () -> assertEquals("Number Loaded Into Cache: 1", first),
+                () -> assertEquals("Number Loaded Into Cache: 1", second),
+                () -> assertEquals(1, loads.get()));
+    }
+
+    @DisplayName("""
+            with a provider only implementing the blocking methods
+             given the async loader fails
+             then the future should complete exceptionally with the loader's exception
+            """)
+    @Test
+    void defaultLoadAsyncUnwrapsFailure() {
+        final CompletableFuture<Object> failed = provider.loadAsync(1L,
+                key -> CompletableFuture.supplyAsync(() -> {
+                    throw new IllegalStateException("remote call failed");
+                }),
+                "BlockingCache", 30000, Long.class, String.class);
+        final CompletableFuture<Object> thrown = provider.loadAsync(2L, key -> {
+            throw new IOException("could not start remote call");
+        }, "BlockingCache", 30000, Long.class, String.class);
+        final ExecutionException failedException = assertThrows(ExecutionException.class, failed::get);
+        final ExecutionException thrownException = assertThrows(ExecutionException.class, thrown::get);
+        assertAll("assert failures",
+                () -> assertInstanceOf(IllegalStateException.class, failedException.getCause()),
+                () -> assertInstanceOf(IOException.class, thrownException.getCause()));
+    }
+
+    @DisplayName("""
+            with a provider only implementing the blocking methods
+             given an optional async load of a present and an empty value
+             then the present value should be returned in an Optional
+             and an empty Optional should be returned for the empty value
+            """)
+    @Test
+    void defaultLoadOptionalAsync() throws Exception {
+        final Optional<Object> present = provider.loadOptionalAsync(1L,
+                key -> CompletableFuture.completedFuture(Optional.of("Present")), "BlockingCache", 30000, Long.class, String.class).get();
+        final Optional<Object> empty = provider.loadOptionalAsync(2L,
+                key -> CompletableFuture.completedFuture(Optional.empty()), "BlockingCache", 30000, Long.class, String.class).get();
+        assertAll("assert optional results",
+                () -> assertEquals(Optional.of("Present"), present),
+                () -> assertTrue(empty.isEmpty()));
+    }
+
+    @DisplayName("""
+            with a provider only implementing the blocking methods
+             given keys 1, 2 and 3 are loaded in bulk while key 1 is cached
+             then the bulk loader should be invoked once, with the keys from the first miss onwards
+             and the values of every key should be returned in the order of the keys
+            """)
+    @Test
+    void defaultLoadAllAdaptsBlockingLoad() throws Exception {
+        provider.load(1L, "Cached: 1", "BlockingCache", 30000, Long.class, String.class);
+        provider.load(3L, "Cached: 3", "BlockingCache", 30000, Long.class, String.class);
+        final List<Set<Object>> bulkLoads = new ArrayList<>();
+        final Map<Object, Object> values = provider.loadAll(List.of(1L, 2L, 3L, 4L), keys -> {
+            bulkLoads.add(Set.copyOf(keys));
+            return Map.of(2L, "Bulk Loaded: 2", 3L, "Bulk Loaded: 3");
+        }, "BlockingCache", 30000, Long.class, String.class);
+        assertAll("assert bulk load results",
+                () -> assertEquals(List.of(Set.of(2L, 3L, 4L)), bulkLoads),
+                () -> assertEquals(List.of(1L, 2L, 3L), new ArrayList<>(values.keySet())),
+                () -> assertEquals(List.of("Cached: 1", "Bulk Loaded: 2", "Cached: 3"), new ArrayList<>(values.values())),
+                () -> assertEquals(Set.of(1L, 2L, 3L), Set.copyOf(provider.getKeys("BlockingCache"))));
+    }
+
+    @DisplayName("""
+            with a provider only implementing the blocking methods
+             given key 1 is cached
+             when a new value is put for it
+             then the put value should replace the cached value
+            """)
+    @Test
+    void defaultPutReplacesValue() throws Exception {
+        provider.load(1L, "Cached: 1", "BlockingCache", 30000, Long.class, String.class);
+        provider.put(1L, "Put: 1", "BlockingCache", 30000, Long.class, String.class);
+        assertEquals(Optional.of("Put: 1"), provider.peek("BlockingCache", 1L));
+    }
+
+    /**
+     * A provider only implementing the blocking methods, delegating to a {@link HashMapCacheProvider}.
+     *
+     * @noinspection rawtypes
+     */
+    private record BlockingCacheProvider(CacheProvider delegate) implements CacheProvider {
+
+        @Override
+        public Object load(final Object key,
+                           final Loader<Object, Object> loader,
+                           final String cacheName,
+                           final long ttlMilliSeconds,
+                           final Class keyClass,
+                           final Class valueClass) throws Exception {
+            return delegate.load(key, loader, cacheName, ttlMilliSeconds, keyClass, valueClass);
+        }
+
+        @Override
+        public Object load(final Object key,
+                           final Object value,
+                           final String cacheName,
+                           final long ttlMilliSeconds,
+                           final Class keyClass,
+                           final Class valueClass) throws Exception {
+            return delegate.load(key, value, cacheName, ttlMilliSeconds, keyClass, valueClass);
+        }
+
+        @Override
+        public Optional loadOptional(final Object key,
+                                     final OptionalLoader<Object, Object> loader,
+                                     final String cacheName,
+                                     final long ttlMilliSeconds,
+                                     final Class keyClass,
+                                     final Class valueClass) throws Exception {
+            return delegate.loadOptional(key, loader, cacheName, ttlMilliSeconds, keyClass, valueClass);
+        }
+
+        @Override
+        public void purge() {
+            delegate.purge();
+        }
+
+        @Override
+        public void removeValue(final String cacheName, final Object key) {
+            delegate.removeValue(cacheName, key);
+        }
+
+        @Override
+        public void clearCache(final String cacheName) {
+            delegate.clearCache(cacheName);
+        }
+
+        @Override
+        public Collection<String> getCacheNames() {
+            return delegate.getCacheNames();
+        }
+
+        @Override
+        public Collection<Object> getKeys(final String cacheName) {
+            return delegate.getKeys(cacheName);
+        }
+
+        @Override
+        public Optional<Object> peek(final String cacheName, final Object key) {
+            return delegate.peek(cacheName, key);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+import org.fermented.dairy.caches.api.functions.AsyncLoader;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderAsyncLoaderTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final AsyncLoader<Object, Object> loader = key -> {
+        loads.incrementAndGet();
+        return CompletableFuture.completedFuture("Number Loaded Into Cache: " + key);
+    };
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider();
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given a key is loaded asynchronously twice
+             then the loader should be invoked once
+             and both futures should complete with the loaded value
+            """)
+    @Test
+    void missThenHit() throws Exception {
+        final Object first = provider.loadAsync(1L, loader, "AsyncCache", 30000, Long.class, String.class).get();
+        final CompletableFuture<Object> second = provider.loadAsync(1L, loader, "AsyncCache", 30000, Long.class, String.class);
+        assertAll("assert async load results and cacheProvider state",
+                () -> assertEquals("Number Loaded Into Cache: 1", first),
+                () -> assertTrue(second.isDone()),
+                () -> assertEquals("Number Loaded Into Cache: 1", second.get()),
+                () -> assertEquals(1, loads.get()),
+                () -> assertEquals(Set.of(1L), provider.getKeys("AsyncCache")));
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given a key is loaded asynchronously while a load of the same key is still in flight
+             then the second caller should share the in flight load instead of invoking its loader
+             and both futures should complete when the load completes
+            """)
+    @Test
+    void concurrentCallersShareInFlightLoad() throws Exception {
+        final CompletableFuture<Object> remoteCall = new CompletableFuture<>();
+        final CompletableFuture<Object> first = provider.loadAsync(1L, key -> {
+            loads.incrementAndGet();
+            return remoteCall;
+        }, "AsyncCache", 30000, Long.class, String.class);
+        final CompletableFuture<Object> second = provider.loadAsync(1L, loader, "AsyncCache", 30000, Long.class, String.class);
+        assertAll("assert both callers are waiting",
+                () -> assertFalse(first.isDone()),
+                () -> assertFalse(second.isDone()),
+                () -> assertEquals(1, loads.get()));
+        remoteCall.complete("Remote Value");
+        assertAll("assert both callers got the loaded value",
+                () -> assertEquals("Remote Value", first.get()),
+                () -> assertEquals("Remote Value", second.get()),
+                () -> assertEquals(1, loads.get()),
+                () -> assertEquals("Remote Value", provider.peek("AsyncCache", 1L).orElseThrow()));
+    }
+
+    @DisplayName("""
+            with an async load in flight
+             given the caller completes its future
+             then the shared load should not be affected
+            """)
+    @Test
+    void completingReturnedFutureDoesNotAffectSharedLoad() throws Exception {
+        final CompletableFuture<Object> remoteCall = new CompletableFuture<>();
+        final CompletableFuture<Object> first = provider.loadAsync(1L, key -> remoteCall, "AsyncCache", 30000, Long.class, String.class);
+        final CompletableFuture<Object> second = provider.loadAsync(1L, loader, "AsyncCache", 30000, Long.class, String.class);
+        first.complete("Caller Value");
+        remoteCall.complete("Remote Value");
+        assertAll("assert the shared load completed with the loaded value",
+                () -> assertEquals("Remote Value", second.get()),
+                () -> assertEquals("Remote Value", provider.peek("AsyncCache", 1L).orElseThrow()));
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given an async load fails
+             then the future should complete exceptionally with the loader's exception
+             and nothing should be cached
+             and the next load should invoke the loader again
+            """)
+    @Test
+    void failedLoadIsRemoved() throws Exception {
+        final CompletableFuture<Object> failed = provider.loadAsync(1L,
+                key -> CompletableFuture.failedFuture(new IOException("remote call failed")),
+                "AsyncCache", 30000, Long.class, String.class);
+        final ExecutionException exception = assertThrows(ExecutionException.class, failed::get);
+        final Object retried = provider.loadAsync(1L, loader, "AsyncCache", 30000, Long.class, String.class).get();
+        assertAll("assert failure and retry",
+                () -> assertInstanceOf(IOException.class, exception.getCause()),
+                () -> assertEquals("Number Loaded Into Cache: 1", retried),
+                () -> assertEquals(1, loads.get()));
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given an async loader that throws before returning a future
+             or returns a value of the wrong class
+             then the futures should complete exceptionally
+             and nothing should be cached
+            """)
+    @Test
+    void loaderErrorsCompleteExceptionally() {
+        final CompletableFuture<Object> thrown = provider.loadAsync(1L, key -> {
+            throw new IOException("could not start remote call");
+        }, "AsyncCache", 30000, Long.class, String.class);
+        final CompletableFuture<Object> wrongClass = provider.loadAsync(2L,
+                key -> CompletableFuture.completedFuture(2.0d), "AsyncCache", 30000, Long.class, String.class);
+        final ExecutionException thrownException = assertThrows(ExecutionException.class, thrown::get);
+        final ExecutionException wrongClassException = assertThrows(ExecutionException.class, wrongClass::get);
+        assertAll("assert failures",
+                () -> assertInstanceOf(IOException.class, thrownException.getCause()),
+                () -> assertInstanceOf(CacheRuntimeException.class, wrongClassException.getCause()),
+                () -> assertEquals("java.lang.Double is not a valid result class for cache AsyncCache",
+                        wrongClassException.getCause().getMessage()),
+                () -> assertTrue(provider.getKeys("AsyncCache").isEmpty()));
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given an async loader completes with null
+             then the future should complete with null
+             and nothing should be cached
+            """)
+    @Test
+    void nullValueIsNotCached() throws Exception {
+        final Object value = provider.loadAsync(1L,
+                key -> CompletableFuture.completedFuture(null), "AsyncCache", 30000, Long.class, String.class).get();
+        assertAll("assert null is not cached",
+                () -> assertNull(value),
+                () -> assertTrue(provider.getKeys("AsyncCache").isEmpty()));
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given a blocking load of a key while an async load of the same key is in flight
+             then the blocking caller should wait for the async load instead of invoking its loader
+            """)
+    @Test
+    void blockingLoadWaitsForAsyncLoad() throws Exception {
+        final CompletableFuture<Object> remoteCall = new CompletableFuture<>();
+        provider.loadAsync(1L, key -> remoteCall, "AsyncCache", 30000, Long.class, String.class);
+        final Loader<Object, Object> blockingLoader = key -> "Blocking Value";
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Thread[] waiter = new Thread[1];
+            final Future<Object> blocking = executor.submit(() -> {
+                waiter[0] = Thread.currentThread();
+                return provider.load(1L, blockingLoader, "AsyncCache", 30000, Long.class, String.class);
+            });
+            while (waiter[0] == null || waiter[0].getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+            remoteCall.complete("Remote Value");
+            assertEquals("Remote Value", blocking.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given an optional async load of a present and an empty value
+             then the present value should be cached and returned in an Optional
+             and an empty Optional should be returned for the empty value
+            """)
+    @Test
+    void optionalAsyncLoad() throws Exception {
+        final Optional<Object> present = provider.loadOptionalAsync(1L,
+                key -> CompletableFuture.completedFuture(Optional.of("Present")), "AsyncCache", 30000, Long.class, String.class).get();
+        final Optional<Object> empty = provider.loadOptionalAsync(2L,
+                key -> CompletableFuture.completedFuture(Optional.empty()), "AsyncCache", 30000, Long.class, String.class).get();
+        assertAll("assert optional results",
+                () -> assertEquals(Optional.of("Present"), present),
+                () -> assertTrue(empty.isEmpty()),
+                () -> assertEquals(Set.of(1L), provider.getKeys("AsyncCache")));
+    }
+
+    @DisplayName("""
+            with a cache recording statistics
+             given a successful and a failed async load
+             then one successful and one failed load should be recorded
+            """)
+    @Test
+    void asyncLoadsAreRecorded() throws Exception {
+        provider.configureCache("AsyncStatsCache", CacheSettings.defaults().withRecordStats(true));
+        provider.loadAsync(1L, loader, "AsyncStatsCache", 30000, Long.class, String.class).get();
+        provider.loadAsync(1L, loader, "AsyncStatsCache", 30000, Long.class, String.class).get();
+        provider.loadAsync(2L, key -> CompletableFuture.failedFuture(new IOException("remote call failed")),
+                "AsyncStatsCache", 30000, Long.class, String.class).exceptionally(e -> null).get();
+        final CacheStats stats = provider.getStats("AsyncStatsCache").orElseThrow();
+        assertAll("assert statistics",
+                () -> assertEquals(1L, stats.hitCount()),
+                () -> assertEquals(2L, stats.missCount()),
+                () -> assertEquals(1L, stats.loadSuccessCount()),
+                () -> assertEquals(1L, stats.loadFailureCount()));
+    }
+
+    @DisplayName("""
+            with a key of the wrong class
+             when loading asynchronously
+             then the future should complete exceptionally
+            """)
+    @Test
+    void invalidKeyCompletesExceptionally() {
+        final CompletableFuture<Object> future = provider.loadAsync("1", loader, "AsyncCache", 30000, Long.class, String.class);
+        final ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertAll("assert key validation failure",
+                () -> assertInstanceOf(CacheRuntimeException.class, exception.getCause()),
+                () -> assertEquals(0, loads.get()));
+    }
+}
@@ -0,0 +1,212 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import org.fermented.dairy.caches.api.functions.AsyncLoader;
+import org.fermented.dairy.caches.api.functions.BulkLoader;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderBatchingTest {
+
+    private final List<Set<Object>> batches = new CopyOnWriteArrayList<>();
+
+    private final AtomicInteger singleLoads = new AtomicInteger();
+
+    private final BulkLoader<Object, Object> bulkLoader = keys -> {
+        batches.add(keys);
+        return keys.stream().collect(Collectors.toMap(key -> key, key -> "Batched load of " + key));
+    };
+
+    private final Loader<Object, Object> loader = key -> "Load " + singleLoads.incrementAndGet() + " of " + key;
+
+    private final AsyncLoader<Object, Object> asyncLoader = key -> CompletableFuture.completedFuture(loader.load(key));
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider(new ManualTicker(0L), Runnable::run);
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+        provider.configureCache("BatchCache", CacheSettings.defaults().withBatchWindow(60000L).withMaxBatchSize(3));
+        provider.registerBulkLoader("BatchCache", bulkLoader);
+    }
+
+    @DisplayName("""
+            with a cache batching up to 3 misses for 60s
+             given two misses are loaded asynchronously
+             then neither should complete
+             and when a third miss is loaded
+             then the bulk loader should be invoked once with all three keys
+             and every miss should complete with its value from the batch
+            """)
+    @Test
+    void fullBatchIsLoadedTogether() throws Exception {
+        final CompletableFuture<Object> first = provider.loadAsync(1L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        final CompletableFuture<Object> second = provider.loadAsync(2L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        final boolean doneBeforeFull = first.isDone() || second.isDone();
+        final CompletableFuture<Object> third = provider.loadAsync(3L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        assertAll("assert the batch",
+                () -> assertFalse(doneBeforeFull),
+                () -> assertEquals(List.of(Set.of(1L, 2L, 3L)), batches),
+                () -> assertEquals("Batched load of 1", first.get()),
+                () -> assertEquals("Batched load of 2", second.get()),
+                () -> assertEquals("Batched load of 3", third.get()),
+                () -> assertEquals(0, singleLoads.get()));
+    }
+
+    @DisplayName("""
+            with a cache batching misses for 10ms
+             given two misses are loaded asynchronously
+             then both should be loaded with a single call to the bulk loader at the end of the window
+             and the loaded values should be cached
+            """)
+    @Test
+    void batchIsLoadedAtEndOfWindow() throws Exception {
+        provider.configureCache("BatchCache", CacheSettings.defaults().withBatchWindow(10L));
+        final CompletableFuture<Object> first = provider.loadAsync(1L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        final CompletableFuture<Object> second = provider.loadAsync(2L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        assertAll("assert the batch",
+                () -> assertEquals("Batched load of 1", first.get(5, TimeUnit.SECONDS)),
+                () -> assertEquals("Batched load of 2", second.get(5, TimeUnit.SECONDS)),
+                () -> assertEquals(List.of(Set.of(1L, 2L)), batches),
+                () -> assertEquals("Batched load of 1", provider.load(1L, loader, "BatchCache", 1000, Long.class, String.class)),
+                () -> assertEquals(0, singleLoads.get()));
+    }
+
+    @DisplayName("""
+            with a cache batching single misses
+             given a key is loaded with a blocking load
+             then it should be loaded by the bulk loader
+             and a hit should not invoke either loader
+            """)
+    @Test
+    void blockingLoadIsBatched() throws Exception {
+        provider.configureCache("BatchCache", CacheSettings.defaults().withBatchWindow(60000L).withMaxBatchSize(1));
+        final Object loaded = provider.load(1L, loader, "BatchCache", 1000, Long.class, String.class);
+        final Object cached = provider.load(1L, loader, "BatchCache", 1000, Long.class, String.class);
+        assertAll("assert the blocking load",
+                () -> assertEquals("Batched load of 1", loaded),
+                () -> assertEquals("Batched load of 1", cached),
+                () -> assertEquals(List.of(Set.of(1L)), batches),
+                () -> assertEquals(0, singleLoads.get()));
+    }
+
+    @DisplayName("""
+            with a cache batching up to 2 misses
+             given the bulk loader fails
+             then every miss in the batch should fail with the bulk loader's exception
+             and given the bulk loader returns no value for a key
+             then the miss should complete with null
+            """)
+    @Test
+    void batchFailuresAndMissingValues() throws Exception {
+        provider.configureCache("BatchCache", CacheSettings.defaults().withBatchWindow(60000L).withMaxBatchSize(2));
+        provider.registerBulkLoader("BatchCache", keys -> {
+            throw new IOException("remote call failed");
+        });
+        final CompletableFuture<Object> firstFailed = provider.loadAsync(1L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        final CompletableFuture<Object> secondFailed = provider.loadAsync(2L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        provider.registerBulkLoader("BatchCache", keys -> Map.of(1L, "Batched load of 1"));
+        final CompletableFuture<Object> found = provider.loadAsync(1L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        final CompletableFuture<Object> notFound = provider.loadAsync(2L, asyncLoader, "BatchCache", 1000, Long.class, String.class);
+        assertAll("assert the batch results",
+                () -> assertInstanceOf(IOException.class, assertThrows(ExecutionException.class, firstFailed::get).getCause()),
+                () -> assertInstanceOf(IOException.class, assertThrows(ExecutionException.class, secondFailed::get).getCause()),
+                () -> assertEquals("Batched load of 1", found.get()),
+                () -> assertNull(notFound.get()),
+                () -> assertEquals(0, singleLoads.get()));
+    }
+
+    @DisplayName("""
+            given a cache that does not batch misses, or a batching cache without a bulk loader
+             then misses should be loaded with their own loader
+            """)
+    @Test
+    void missesAreLoadedOnTheirOwnWithoutBatching() throws Exception {
+        provider.configureCache("BatchCache", CacheSettings.defaults());
+        provider.configureCache("UnregisteredCache", CacheSettings.defaults().withBatchWindow(60000L));
+        final Object notBatching = provider.load(1L, loader, "BatchCache", 1000, Long.class, String.class);
+        final Object unregistered = provider.loadAsync(1L, asyncLoader, "UnregisteredCache", 1000, Long.class, String.class).get();
+        assertAll("assert the misses were loaded on their own",
+                () -> assertEquals("Load 1 of 1", notBatching),
+                () -> assertEquals("Load 2 of 1", unregistered),
+                () -> assertTrue(batches.isEmpty()));
+    }
+
+    @DisplayName("""
+            with a cache batching misses for 60s
+             when a miss is loaded with the value to cache
+             then the caller's value should be returned and cached straight away
+             and the bulk loader should not be invoked
+            """)
+    @Test
+    void missLoadedWithValueIsNotBatched() throws Exception {
+        final Object loaded = provider.load(1L, (Object) "Explicit value", "BatchCache", 1000, Long.class, String.class);
+        assertAll("assert the caller's value was cached",
+                () -> assertEquals("Explicit value", loaded),
+                () -> assertEquals("Explicit value", provider.peek("BatchCache", 1L).orElseThrow()),
+                () -> assertTrue(batches.isEmpty()));
+    }
+
+    @DisplayName("""
+            with a provider created without an executor and a cache batching misses for 1ms
+             given the bulk loader blocks
+             then the batch should be loaded on one of the provider's own threads
+             and the common pool should still run tasks while the bulk load is blocked
+            """)
+    @Test
+    void slowBulkLoadDoesNotBlockCommonPool() throws Exception {
+        final CountDownLatch bulkLoadStarted = new CountDownLatch(1);
+        final CountDownLatch releaseBulkLoad = new CountDownLatch(1);
+        final AtomicReference<Thread> bulkLoadThread = new AtomicReference<>();
+        try (HashMapCacheProvider defaultProvider = new HashMapCacheProvider(new ManualTicker(0L))) {
+            defaultProvider.configureCache("SlowBatchCache", CacheSettings.defaults().withBatchWindow(1L));
+            defaultProvider.registerBulkLoader("SlowBatchCache", keys -> {
+                bulkLoadThread.set(Thread.currentThread());
+                bulkLoadStarted.countDown();
+                releaseBulkLoad.await();
+                return bulkLoader.load(keys);
+            });
+            final CompletableFuture<Object> loading =
+                    defaultProvider.loadAsync(1L, asyncLoader, "SlowBatchCache", 1000, Long.class, String.class);
+            try {
+                assertTrue(bulkLoadStarted.await(5, TimeUnit.SECONDS));
+                final String commonPoolResult = ForkJoinPool.commonPool().submit(() -> "common pool ran").get(5, TimeUnit.SECONDS);
+                assertAll("assert the common pool was not blocked",
+                        () -> assertEquals("common pool ran", commonPoolResult),
+                        () -> assertFalse(bulkLoadThread.get() instanceof ForkJoinWorkerThread),
+                        () -> assertTrue(bulkLoadThread.get().isDaemon()),
+                        () -> assertTrue(bulkLoadThread.get().getName().startsWith("fd-caches-load-")));
+            } finally {
+                releaseBulkLoad.countDown();
+            }
+            assertEquals("Batched load of 1", loading.get(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderBoundedTest {
+
+    private static final Loader<Object, Object> LOADER = key -> "Number Loaded Into Cache: " + key;
+
+    CacheProvider provider = new HashMapCacheProvider();
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+    }
+
+    @DisplayName("""
+            with a cache limited to 100 entries
+             given 1000 distinct keys are loaded
+             then the cache should hold 100 entries
+            """)
+    @Test
+    void boundedCacheDoesNotExceedMaxEntries() throws Exception {
+        provider.configureCache("BoundedCache", CacheSettings.defaults().withMaxEntries(100));
+        for (long key = 0; key < 1000; key++) {
+            provider.load(key, LOADER, "BoundedCache", 30000, Long.class, String.class);
+        }
+        assertEquals(100, provider.getKeys("BoundedCache").size());
+    }
+
+    @DisplayName("""
+            with a cache limited to 100 entries
+             given 10 keys that are read frequently
+             when 1000 distinct keys are loaded once each
+             then the frequently read keys should still be cached
+            """)
+    @Test
+    void frequentlyReadKeysSurviveScan() throws Exception {
+        provider.configureCache("ScanResistantCache", CacheSettings.defaults().withMaxEntries(100));
+        for (int i = 0; i < 20; i++) {
+            for (long key = 0; key < 10; key++) {
+                provider.load(key, LOADER, "ScanResistantCache", 30000, Long.class, String.class);
+            }
+        }
+        for (long key = 1000; key < 2000; key++) {
+            provider.load(key, LOADER, "ScanResistantCache", 30000, Long.class, String.class);
+        }
+        assertAll("assert frequently read keys are retained",
+                () -> assertEquals(100, provider.getKeys("ScanResistantCache").size()),
+                () -> assertTrue(provider.getKeys("ScanResistantCache").containsAll(LongStream.range(0, 10).boxed().toList())));
+    }
+
+    @DisplayName("""
+            with an unbounded cache holding 50 entries
+             when the cache is limited to 10 entries
+             then entries should be evicted down to 10
+             and loads should keep it at 10
+            """)
+    @Test
+    void limitingExistingCacheEvictsEntries() throws Exception {
+        for (long key = 0; key < 50; key++) {
+            provider.load(key, LOADER, "ReconfiguredCache", 30000, Long.class, String.class);
+        }
+        assertEquals(50, provider.getKeys("ReconfiguredCache").size());
+
+        provider.configureCache("ReconfiguredCache", CacheSettings.defaults().withMaxEntries(10));
+        assertEquals(10, provider.getKeys("ReconfiguredCache").size());
+
+        for (long key = 50; key < 100; key++) {
+            provider.load(key, LOADER, "ReconfiguredCache", 30000, Long.class, String.class);
+        }
+        assertEquals(10, provider.getKeys("ReconfiguredCache").size());
+    }
+
+    @DisplayName("""
+            with no maximum configured
+             given 1000 distinct keys are loaded
+             then the cache should hold all 1000 entries
+            """)
+    @Test
+    void unboundedCacheKeepsAllEntries() throws Exception {
+        for (long key = 0; key < 1000; key++) {
+            provider.load(key, LOADER, "UnboundedCache", 30000, Long.class, String.class);
+        }
+        assertEquals(1000, provider.getKeys("UnboundedCache").size());
+    }
+
+    @DisplayName("""
+            with a cache limited to a total weight of 100, weighing values by their length
+             given 50 values weighing 10 each are loaded
+             then the cache should hold 10 entries with a total weight of 100
+            """)
+    @Test
+    void weightedCacheDoesNotExceedMaxWeight() throws Exception {
+        provider.configureCache("WeightedCache", CacheSettings.defaults()
+                .withMaxWeight(100)
+                .withWeigher((key, value) -> ((String) value).length()));
+        for (long key = 0; key < 50; key++) {
+            provider.load(key, "0123456789", "WeightedCache", 30000, Long.class, String.class);
+        }
+        assertAll("assert cache is bounded by weight",
+                () -> assertEquals(10, provider.getKeys("WeightedCache").size()),
+                () -> assertEquals(OptionalLong.of(100), provider.getWeight("WeightedCache")));
+    }
+
+    @DisplayName("""
+            with a cache limited to a total weight of 100, weighing values by their length
+             given a value weighing more than 100 is loaded
+             then the value should be returned but not retained
+            """)
+    @Test
+    void entryHeavierThanMaxWeightIsNotRetained() throws Exception {
+        provider.configureCache("HeavyCache", CacheSettings.defaults()
+                .withMaxWeight(100)
+                .withWeigher((key, value) -> ((String) value).length()));
+        provider.load(1L, "light", "HeavyCache", 30000, Long.class, String.class);
+        final String heavy = "x".repeat(101);
+        final Object result = provider.load(2L, heavy, "HeavyCache", 30000, Long.class, String.class);
+        assertAll("assert heavy entry is evicted",
+                () -> assertEquals(heavy, result),
+                () -> assertEquals(Set.of(1L), Set.copyOf(provider.getKeys("HeavyCache"))),
+                () -> assertEquals(OptionalLong.of(5), provider.getWeight("HeavyCache")));
+    }
+
+    @DisplayName("""
+            with a cache limited to a total weight of 100
+             given 10 entries have been weighed when they were loaded
+             when the cache is configured again with the same settings
+             then the entries should not be weighed again
+            """)
+    @Test
+    void reconfiguringWithSameSettingsDoesNotReweigh() throws Exception {
+        final AtomicInteger weighings = new AtomicInteger();
+        final CacheSettings settings = CacheSettings.defaults().withMaxWeight(100)
+                .withWeigher((key, value) -> {
+                    weighings.incrementAndGet();
+                    return 1;
+                });
+        provider.configureCache("WeightedCache", settings);
+        for (long key = 0; key < 10; key++) {
+            provider.load(key, LOADER, "WeightedCache", 30000, Long.class, String.class);
+        }
+        provider.configureCache("WeightedCache", settings);
+        final int weighingsWithSameSettings = weighings.get();
+        provider.configureCache("WeightedCache", settings.withMaxWeight(200));
+        assertAll("assert entries are only weighed again for new settings",
+                () -> assertEquals(10, weighingsWithSameSettings),
+                () -> assertEquals(20, weighings.get()));
+    }
+
+    @DisplayName("""
+            with a cache that is not bounded by weight
+             then no weight should be reported
+            """)
+    @Test
+    void unweightedCacheReportsNoWeight() throws Exception {
+        provider.configureCache("CountedCache", CacheSettings.defaults().withMaxEntries(10));
+        provider.load(1L, LOADER, "CountedCache", 30000, Long.class, String.class);
+        assertEquals(OptionalLong.empty(), provider.getWeight("CountedCache"));
+    }
+}
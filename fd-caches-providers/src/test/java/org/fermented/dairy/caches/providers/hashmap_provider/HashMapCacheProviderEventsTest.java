@@ -0,0 +1,157 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.fermented.dairy.caches.providers.events.CacheEvictionEvent;
+import org.fermented.dairy.caches.providers.events.CacheStampedeEvent;
+import org.fermented.dairy.caches.providers.events.CacheStatisticsEvent;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderEventsTest {
+
+    private static final Loader<Object, Object> LOADER = key -> "Number Loaded Into Cache: " + key;
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider();
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+    }
+
+    @DisplayName("""
+            with a cache bounded to 10 entries
+             given 20 keys are loaded while eviction events are recorded
+             then an eviction event with cause SIZE should be emitted for each of the 10 evicted entries
+            """)
+    @Test
+    void sizeEvictionsAreEmitted() throws Exception {
+        //cache names are kept under 16 characters, JFR on JDK 17 can lose pooled (longer) strings between consecutive recordings
+        provider.configureCache("EvictingCache", CacheSettings.defaults().withMaxEntries(10));
+        final List<RecordedEvent> events = record(CacheEvictionEvent.class, Duration.ZERO, () -> {
+            for (long key = 0; key < 20; key++) {
+                provider.load(key, LOADER, "EvictingCache", 30000, Long.class, String.class);
+            }
+        });
+        assertAll("assert eviction events",
+                () -> assertEquals(10, events.size()),
+                () -> assertTrue(events.stream().allMatch(event -> "SIZE".equals(event.getString("cause")))),
+                () -> assertTrue(events.stream().allMatch(event -> "EvictingCache".equals(event.getString("cacheName")))),
+                () -> assertTrue(events.stream().allMatch(event -> event.getLong("weight") == 1L)));
+    }
+
+    @DisplayName("""
+            with an empty cache
+             given a second caller loads a key while the first caller is still loading it
+             then a stampede event should be emitted for the second caller
+             and its duration should cover the wait for the first load
+            """)
+    @Test
+    void waitingOnInFlightLoadIsEmitted() throws Exception {
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Loader<Object, Object> blockingLoader = key -> {
+            loading.countDown();
+            release.await();
+            return "Number Loaded Into Cache: " + key;
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final List<RecordedEvent> events = record(CacheStampedeEvent.class, Duration.ZERO, () -> {
+                final Future<Object> first = executor.submit(
+                        () -> provider.load(1L, blockingLoader, "StampedeCache", 30000, Long.class, String.class));
+                loading.await();
+                final Thread[] waiter = new Thread[1];
+                final Future<Object> second = executor.submit(() -> {
+                    waiter[0] = Thread.currentThread();
+                    return provider.load(1L, LOADER, "StampedeCache", 30000, Long.class, String.class);
+                });
+                while (waiter[0] == null || waiter[0].getState() != Thread.State.WAITING) {
+                    Thread.onSpinWait();
+                }
+                release.countDown();
+                first.get();
+                second.get();
+            });
+            assertAll("assert stampede event",
+                    () -> assertEquals(1, events.size()),
+                    () -> assertEquals("StampedeCache", events.get(0).getString("cacheName")),
+                    () -> assertEquals(Long.class.getName(), events.get(0).getClass("keyType").getName()),
+                    () -> assertFalse(events.get(0).getDuration().isNegative()));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("""
+            with a cache recording statistics and a cache that does not
+             given 5 keys are loaded into each and read again
+             when statistics events are emitted every 100ms
+             then statistics events should only be emitted for the recording cache
+             and they should report 5 hits and 5 misses
+            """)
+    @Test
+    void statisticsAreEmittedPeriodically() throws Exception {
+        provider.configureCache("RecordedCache", CacheSettings.defaults().withRecordStats(true));
+        provider.configureCache("UnrecordedCache", CacheSettings.defaults());
+        for (int read = 0; read < 2; read++) {
+            for (long key = 0; key < 5; key++) {
+                provider.load(key, LOADER, "RecordedCache", 30000, Long.class, String.class);
+                provider.load(key, LOADER, "UnrecordedCache", 30000, Long.class, String.class);
+            }
+        }
+        final List<RecordedEvent> events = record(CacheStatisticsEvent.class, Duration.ofMillis(100), () ->
+                Thread.sleep(500L)); //NOSONAR: java:S2925 waiting for the periodic event
+        assertAll("assert statistics events",
+                () -> assertFalse(events.isEmpty()),
+                () -> assertTrue(events.stream().allMatch(event -> "RecordedCache".equals(event.getString("cacheName")))),
+                () -> assertEquals(5L, events.get(0).getLong("hitCount")),
+                () -> assertEquals(5L, events.get(0).getLong("missCount")),
+                () -> assertEquals(5L, events.get(0).getLong("size")));
+    }
+
+    private static List<RecordedEvent> record(final Class<? extends Event> eventClass,
+                                              final Duration period,
+                                              final RecordedAction action) throws Exception {
+        final Path dump = Files.createTempFile("fd-caches-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            if (period.isZero()) {
+                recording.enable(eventClass);
+            } else {
+                recording.enable(eventClass).withPeriod(period);
+            }
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump);
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RecordedAction {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,196 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+import org.fermented.dairy.caches.api.functions.BulkLoader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderLoadAllTest {
+
+    private final List<Set<Object>> bulkLoads = new CopyOnWriteArrayList<>();
+
+    private final BulkLoader<Object, Object> loader = keys -> {
+        bulkLoads.add(Set.copyOf(keys));
+        final Map<Object, Object> values = new LinkedHashMap<>();
+        keys.forEach(key -> values.put(key, "Bulk Loaded: " + key));
+        return values;
+    };
+
+    private final ManualTicker ticker = new ManualTicker(0L);
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider(ticker);
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+    }
+
+    @DisplayName("""
+            with a cacheProvider holding keys 1 and 3
+             given keys 1, 2, 3, 2 and 4 are loaded in bulk
+             then the bulk loader should be invoked once with only keys 2 and 4
+             and the values of every key should be returned in the order of the keys
+             and the loaded values should be cached
+            """)
+    @Test
+    void onlyMissingKeysAreLoaded() throws Exception {
+        provider.load(1L, "Cached: 1", "BulkCache", 30000, Long.class, String.class);
+        provider.load(3L, "Cached: 3", "BulkCache", 30000, Long.class, String.class);
+        final Map<Object, Object> values = provider.loadAll(List.of(1L, 2L, 3L, 2L, 4L), loader, "BulkCache", 30000, Long.class, String.class);
+        assertAll("assert bulk load results and cacheProvider state",
+                () -> assertEquals(List.of(Set.of(2L, 4L)), bulkLoads),
+                () -> assertEquals(List.of(1L, 2L, 3L, 4L), new ArrayList<>(values.keySet())),
+                () -> assertEquals(List.of("Cached: 1", "Bulk Loaded: 2", "Cached: 3", "Bulk Loaded: 4"), new ArrayList<>(values.values())),
+                () -> assertEquals(Set.of(1L, 2L, 3L, 4L), provider.getKeys("BulkCache")));
+    }
+
+    @DisplayName("""
+            with a cacheProvider holding every key
+             given the keys are loaded in bulk
+             then the bulk loader should not be invoked
+            """)
+    @Test
+    void allHitsDoNotInvokeLoader() throws Exception {
+        provider.load(1L, "Cached: 1", "BulkCache", 30000, Long.class, String.class);
+        final Map<Object, Object> values = provider.loadAll(Set.of(1L), loader, "BulkCache", 30000, Long.class, String.class);
+        assertAll("assert the values were served from the cache",
+                () -> assertEquals(Map.of(1L, "Cached: 1"), values),
+                () -> assertTrue(bulkLoads.isEmpty()));
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given the bulk loader does not return a value for a key
+             then the key should be left out of the result and not cached
+            """)
+    @Test
+    void keysWithoutValueAreLeftOut() throws Exception {
+        final Map<Object, Object> values = provider.loadAll(List.of(1L, 2L), keys -> Map.of(1L, "Bulk Loaded: 1"),
+                "BulkCache", 30000, Long.class, String.class);
+        assertAll("assert the key without a value",
+                () -> assertEquals(Map.of(1L, "Bulk Loaded: 1"), values),
+                () -> assertEquals(Set.of(1L), provider.getKeys("BulkCache")));
+    }
+
+    @DisplayName("""
+            with a single key async load of key 2 in flight
+             given keys 1, 2 and 3 are loaded in bulk
+             then the bulk loader should only be invoked with keys 1 and 3
+             and key 2 should be resolved by the load in flight
+            """)
+    @Test
+    void keysInFlightAreAwaited() throws Exception {
+        final CompletableFuture<Object> remoteCall = new CompletableFuture<>();
+        provider.loadAsync(2L, key -> remoteCall, "BulkCache", 30000, Long.class, String.class);
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            final Future<Map<Object, Object>> bulk = executor.submit(
+                    () -> provider.loadAll(List.of(1L, 2L, 3L), loader, "BulkCache", 30000, Long.class, String.class));
+            while (bulkLoads.isEmpty()) {
+                Thread.onSpinWait();
+            }
+            remoteCall.complete("Remote Value");
+            final Map<Object, Object> values = bulk.get();
+            assertAll("assert the in flight load was shared",
+                    () -> assertEquals(List.of(Set.of(1L, 3L)), bulkLoads),
+                    () -> assertEquals(Map.of(1L, "Bulk Loaded: 1", 2L, "Remote Value", 3L, "Bulk Loaded: 3"), values));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given the bulk loader fails
+             then the failure should be thrown
+             and nothing should be cached
+             and the next load of the keys should invoke a loader again
+            """)
+    @Test
+    void failedBulkLoadIsRetried() throws Exception {
+        final IOException exception = assertThrows(IOException.class, () -> provider.loadAll(List.of(1L, 2L), keys -> {
+            throw new IOException("remote call failed");
+        }, "BulkCache", 30000, Long.class, String.class));
+        final Object retried = provider.load(1L, key -> "Loaded: " + key, "BulkCache", 30000, Long.class, String.class);
+        assertAll("assert failure and retry",
+                () -> assertEquals("remote call failed", exception.getMessage()),
+                () -> assertEquals("Loaded: 1", retried),
+                () -> assertEquals(Set.of(1L), provider.getKeys("BulkCache")));
+    }
+
+    @DisplayName("""
+            with a cache serving stale values for 10s after they expire
+             given every missing key has expired
+             when the bulk loader fails
+             then the expired values should be returned in place of the failure
+            """)
+    @Test
+    void failedBulkLoadReturnsExpiredValues() throws Exception {
+        provider.configureCache("StaleBulkCache", CacheSettings.defaults().withStaleIfError(10000L));
+        provider.loadAll(List.of(1L, 2L), loader, "StaleBulkCache", 1000, Long.class, String.class);
+        ticker.advance(1000L);
+        final Map<Object, Object> values = provider.loadAll(List.of(1L, 2L), keys -> {
+            throw new IOException("remote call failed");
+        }, "StaleBulkCache", 1000, Long.class, String.class);
+        assertEquals(Map.of(1L, "Bulk Loaded: 1", 2L, "Bulk Loaded: 2"), values);
+    }
+
+    @DisplayName("""
+            with a cache recording statistics holding key 1
+             given keys 1, 2 and 3 are loaded in bulk
+             then one hit, two misses and a single load should be recorded
+            """)
+    @Test
+    void bulkLoadIsRecordedAsSingleLoad() throws Exception {
+        provider.configureCache("StatsBulkCache", CacheSettings.defaults().withRecordStats(true));
+        provider.load(1L, "Cached: 1", "StatsBulkCache", 30000, Long.class, String.class);
+        provider.loadAll(List.of(1L, 2L, 3L), loader, "StatsBulkCache", 30000, Long.class, String.class);
+        final CacheStats stats = provider.getStats("StatsBulkCache").orElseThrow();
+        assertAll("assert statistics",
+                () -> assertEquals(1L, stats.hitCount()),
+                () -> assertEquals(3L, stats.missCount()),
+                () -> assertEquals(2L, stats.loadSuccessCount()),
+                () -> assertEquals(0L, stats.loadFailureCount()));
+    }
+
+    @DisplayName("""
+            with keys of the wrong class or a bulk loader returning values of the wrong class
+             when loading in bulk
+             then a CacheRuntimeException should be thrown
+             and the bulk loader should not be invoked for the invalid keys
+            """)
+    @Test
+    void invalidKeysAndValuesAreRejected() {
+        final CacheRuntimeException keyException = assertThrows(CacheRuntimeException.class,
+                () -> provider.loadAll(List.of(1L, "2"), loader, "BulkCache", 30000, Long.class, String.class));
+        final CacheRuntimeException valueException = assertThrows(CacheRuntimeException.class,
+                () -> provider.loadAll(List.of(1L), keys -> Map.of(1L, 1.0d), "BulkCache", 30000, Long.class, String.class));
+        assertAll("assert validation failures",
+                () -> assertEquals("java.lang.String is not a valid key class for cache BulkCache", keyException.getMessage()),
+                () -> assertEquals("java.lang.Double is not a valid result class for cache BulkCache", valueException.getMessage()),
+                () -> assertTrue(bulkLoads.isEmpty()),
+                () -> assertTrue(provider.getKeys("BulkCache").isEmpty()));
+    }
+}
@@ -0,0 +1,142 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.fermented.dairy.caches.providers.MaintenanceScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderMaintenanceTest {
+
+    private static final Loader<Object, Object> LOADER = key -> "Number Loaded Into Cache: " + key;
+
+    private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+    private final Executor manualExecutor = tasks::add;
+
+    private HashMapCacheProvider provider;
+
+    @AfterEach
+    void afterEach() {
+        if (provider != null) {
+            provider.purge();
+            provider.close();
+        }
+    }
+
+    @DisplayName("""
+            with a provider maintained by an executor and a cache limited to 10 entries
+             given 50 keys are loaded
+             then no entries should be evicted on the loading thread
+             and the entries should be evicted once the executor runs the maintenance
+            """)
+    @Test
+    void maintenanceRunsOnExecutor() throws Exception {
+        provider = new HashMapCacheProvider(MaintenanceScheduler.executor(manualExecutor, 60000));
+        provider.configureCache("MaintainedCache", CacheSettings.defaults().withMaxEntries(10));
+        for (long key = 0; key < 50; key++) {
+            provider.load(key, LOADER, "MaintainedCache", 30000, Long.class, String.class);
+        }
+        assertAll("assert maintenance has not run on the loading thread",
+                () -> assertTrue(provider.peek("MaintainedCache", 0L).isPresent()),
+                () -> assertFalse(tasks.isEmpty()));
+
+        runQueuedTasks();
+        assertEquals(10, provider.getKeys("MaintainedCache").size());
+    }
+
+    @DisplayName("""
+            with a provider maintained by an executor and using a manual ticker
+             given an entry is loaded and then never read
+             when the ticker is advanced past its expiry
+             then the entry should be removed by the next periodic maintenance
+            """)
+    @Test
+    void periodicMaintenanceRemovesExpiredEntries() throws Exception {
+        final ManualTicker ticker = new ManualTicker(0L);
+        provider = new HashMapCacheProvider(MaintenanceScheduler.executor(manualExecutor, 1), ticker);
+        provider.load(1L, LOADER, "ExpiringCache", 30, Long.class, String.class);
+        runQueuedTasks();
+        final boolean presentBeforeExpiry = provider.peek("ExpiringCache", 1L).isPresent();
+
+        ticker.advance(2048L);
+        final Runnable periodicMaintenance = tasks.poll(10, TimeUnit.SECONDS);
+        assertNotNull(periodicMaintenance);
+        periodicMaintenance.run();
+        assertAll("assert the expired entry was removed without being read",
+                () -> assertTrue(presentBeforeExpiry),
+                () -> assertTrue(provider.peek("ExpiringCache", 1L).isEmpty()));
+    }
+
+    private void runQueuedTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @DisplayName("""
+            with a provider maintained by an executor
+             when a second provider is created with a scheduler
+             then creation should fail until the first provider is closed
+            """)
+    @Test
+    void onlyOneSchedulerRuns() {
+        provider = new HashMapCacheProvider(MaintenanceScheduler.executor(manualExecutor, 60000));
+        final MaintenanceScheduler secondScheduler = MaintenanceScheduler.executor(manualExecutor, 60000);
+        assertThrows(CacheRuntimeException.class, () -> new HashMapCacheProvider(secondScheduler));
+
+        provider.close();
+        provider = assertDoesNotThrow(() -> new HashMapCacheProvider(secondScheduler));
+    }
+
+    @DisplayName("""
+            with a provider maintained by an executor and a cache limited to 10 entries
+             when the provider is closed
+             then maintenance should revert to the loading threads
+            """)
+    @Test
+    void closeRevertsToCallerMaintenance() throws Exception {
+        provider = new HashMapCacheProvider(MaintenanceScheduler.executor(manualExecutor, 60000));
+        provider.configureCache("RevertedCache", CacheSettings.defaults().withMaxEntries(10));
+        provider.load(-1L, LOADER, "RevertedCache", 30000, Long.class, String.class);
+        provider.close();
+        tasks.clear();
+
+        for (long key = 0; key < 50; key++) {
+            provider.load(key, LOADER, "RevertedCache", 30000, Long.class, String.class);
+        }
+        final long cached = LongStream.range(-1, 50)
+                .filter(key -> provider.peek("RevertedCache", key).isPresent())
+                .count();
+        assertAll("assert maintenance ran on the loading thread",
+                () -> assertTrue(tasks.isEmpty()),
+                () -> assertEquals(10, cached));
+    }
+
+    @DisplayName("""
+            when a scheduler is created with a period that is not positive
+             then creation should fail
+            """)
+    @Test
+    void periodMustBePositive() {
+        assertThrows(CacheRuntimeException.class, () -> MaintenanceScheduler.executor(manualExecutor, 0));
+    }
+}
@@ -0,0 +1,160 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderNegativeCachingTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Loader<Object, Object> absentLoader = key -> {
+        loads.incrementAndGet();
+        return null;
+    };
+
+    private final Loader<Object, Object> loader = key -> "Load " + loads.incrementAndGet() + " of " + key;
+
+    private final ManualTicker ticker = new ManualTicker(0L);
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider(ticker);
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+        provider.configureCache("NegativeCache", CacheSettings.defaults().withNegativeTtl(5000L));
+    }
+
+    @DisplayName("""
+            with a cache caching absent results for 5s
+             given a load returns null
+             then null should be returned without invoking the loader until 5s have passed
+             and the key should not be reported as live or be peeked
+             and once the absent result has expired the loader should be invoked again
+            """)
+    @Test
+    void absentResultIsCachedForNegativeTtl() throws Exception {
+        final Object absent = provider.load(1L, absentLoader, "NegativeCache", 30000, Long.class, String.class);
+        ticker.advance(4999L);
+        final Object cachedAbsent = provider.load(1L, loader, "NegativeCache", 30000, Long.class, String.class);
+        final boolean live = provider.getKeys("NegativeCache").contains(1L);
+        final Optional<Object> peeked = provider.peek("NegativeCache", 1L);
+        ticker.advance(1L);
+        final Object reloaded = provider.load(1L, loader, "NegativeCache", 30000, Long.class, String.class);
+        assertAll("assert the absent result is cached",
+                () -> assertNull(absent),
+                () -> assertNull(cachedAbsent),
+                () -> assertFalse(live),
+                () -> assertTrue(peeked.isEmpty()),
+                () -> assertEquals("Load 2 of 1", reloaded),
+                () -> assertEquals(2, loads.get()));
+    }
+
+    @DisplayName("""
+            with a cache that does not cache absent results
+             given a load returns null
+             then the next lookup should invoke the loader again
+            """)
+    @Test
+    void absentResultIsNotCachedByDefault() throws Exception {
+        provider.load(1L, absentLoader, "PositiveCache", 30000, Long.class, String.class);
+        final Object loaded = provider.load(1L, loader, "PositiveCache", 30000, Long.class, String.class);
+        assertAll("assert the absent result was not cached",
+                () -> assertEquals("Load 2 of 1", loaded),
+                () -> assertEquals(2, loads.get()));
+    }
+
+    @DisplayName("""
+            with a cache caching absent results for 5s
+             given an optional load returns an empty Optional
+             then an empty Optional should be returned without invoking the loader again
+            """)
+    @Test
+    void emptyOptionalIsCached() throws Exception {
+        final Optional first = provider.loadOptional(1L, key -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }, "NegativeCache", 30000, Long.class, String.class);
+        final Optional second = provider.loadOptional(1L, key -> Optional.of(loader.load(key)), "NegativeCache", 30000, Long.class, String.class);
+        assertAll("assert the empty Optional is cached",
+                () -> assertTrue(first.isEmpty()),
+                () -> assertTrue(second.isEmpty()),
+                () -> assertEquals(1, loads.get()));
+    }
+
+    @DisplayName("""
+            with a cache caching absent results for 5s
+             given an async load completes with null
+             then the next async lookup should complete with null without invoking the loader
+            """)
+    @Test
+    void asyncAbsentResultIsCached() throws Exception {
+        final Object absent = provider.loadAsync(1L, key -> {
+            loads.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }, "NegativeCache", 30000, Long.class, String.class).get();
+        final CompletableFuture<Object> cachedAbsent = provider.loadAsync(1L,
+                key -> CompletableFuture.completedFuture(loader.load(key)), "NegativeCache", 30000, Long.class, String.class);
+        assertAll("assert the absent result is cached",
+                () -> assertNull(absent),
+                () -> assertTrue(cachedAbsent.isDone()),
+                () -> assertNull(cachedAbsent.get()),
+                () -> assertEquals(1, loads.get()));
+    }
+
+    @DisplayName("""
+            with a cache caching absent results and recording statistics
+             given an absent result is looked up twice and a value once
+             then the lookups of the absent result should be recorded as negative hits
+             and every hit should be counted in the hit count
+            """)
+    @Test
+    void negativeHitsAreRecorded() throws Exception {
+        provider.configureCache("NegativeCache", CacheSettings.defaults().withNegativeTtl(5000L).withRecordStats(true));
+        provider.load(1L, absentLoader, "NegativeCache", 30000, Long.class, String.class);
+        provider.load(1L, absentLoader, "NegativeCache", 30000, Long.class, String.class);
+        provider.load(1L, absentLoader, "NegativeCache", 30000, Long.class, String.class);
+        provider.load(2L, loader, "NegativeCache", 30000, Long.class, String.class);
+        provider.load(2L, loader, "NegativeCache", 30000, Long.class, String.class);
+        final CacheStats stats = provider.getStats("NegativeCache").orElseThrow();
+        assertAll("assert statistics",
+                () -> assertEquals(3L, stats.hitCount()),
+                () -> assertEquals(2L, stats.negativeHitCount()),
+                () -> assertEquals(2L, stats.missCount()),
+                () -> assertEquals(1L, stats.loadSuccessCount()),
+                () -> assertEquals(1L, stats.loadFailureCount()),
+                () -> assertEquals(2L, stats.size()));
+    }
+
+    @DisplayName("""
+            with a cache bounded by weight caching absent results
+             given a load returns null
+             then the absent entry should weigh 1 without invoking the weigher
+            """)
+    @Test
+    void absentEntryWeighsOne() throws Exception {
+        provider.configureCache("WeightedNegativeCache", CacheSettings.defaults()
+                .withNegativeTtl(5000L)
+                .withMaxWeight(100L)
+                .withWeigher((key, value) -> ((String) value).length()));
+        provider.load(1L, absentLoader, "WeightedNegativeCache", 30000, Long.class, String.class);
+        provider.load(2L, loader, "WeightedNegativeCache", 30000, Long.class, String.class);
+        assertEquals(OptionalLong.of(1L + "Load 2 of 2".length()), provider.getWeight("WeightedNegativeCache"));
+    }
+}
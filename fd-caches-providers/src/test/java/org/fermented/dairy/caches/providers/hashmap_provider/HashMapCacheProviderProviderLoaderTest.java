@@ -6,13 +6,20 @@ import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
 import org.fermented.dairy.caches.api.functions.Loader;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
 import org.fermented.dairy.caches.providers.HashMapCacheProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -129,6 +136,27 @@ class HashMapCacheProviderProviderLoaderTest {
                 () -> assertTrue(provider.getKeys("NumberCache").isEmpty()));
     }
 
+    @DisplayName("""
+            with an empty cacheProvider
+             given an initial load (non-optional), after the TTL has elapsed and the entry has not been read
+             when another key is loaded into the cache
+             then the expired entry should be removed from the cache
+             (expiry reclaims entries without reads or state interrogation)
+            """)
+    @Test
+    void expiredEntryIsRemovedWithoutBeingRead() throws Exception {
+        final ManualTicker ticker = new ManualTicker(0L);
+        final CacheProvider tickingProvider = new HashMapCacheProvider(ticker);
+        final Loader<Object, Object> loader = key -> "Number Loaded Into Cache: " + key;
+        tickingProvider.load(1L, loader, "NumberCache", 30, Long.class, String.class);
+        assertTrue(tickingProvider.peek("NumberCache", 1L).isPresent());
+        ticker.advance(2048L);
+        tickingProvider.load(2L, loader, "NumberCache", 30000, Long.class, String.class);
+        assertAll("assert expired entry has been removed",
+                () -> assertTrue(tickingProvider.peek("NumberCache", 1L).isEmpty()),
+                () -> assertTrue(tickingProvider.peek("NumberCache", 2L).isPresent()));
+    }
+
     @DisplayName("""
             with an empty cacheProvider
              given an initial load (non-optional) with incorrect key type
@@ -182,6 +210,71 @@ class HashMapCacheProviderProviderLoaderTest {
 
     }
 
+    @DisplayName("""
+            with an empty cacheProvider
+             given 64 threads loading the same cold key concurrently
+             then the loader should only be invoked once and all threads should get the loaded value
+             (single flight load coalescing)
+            """)
+    @Test
+    void concurrentLoadOfColdKeyInvokesLoaderOnce() throws Exception {
+        final int threadCount = 64;
+        final AtomicInteger loaderInvocations = new AtomicInteger();
+        final Loader<Object, Object> loader = key -> {
+            loaderInvocations.incrementAndGet();
+            Thread.sleep(100L); //NOSONAR: java:S2925 simulating latency in load function
+            return "Number Loaded Into Cache: " + key;
+        };
+        final ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            final CountDownLatch startGate = new CountDownLatch(1);
+            final List<Future<Object>> futureResults = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                futureResults.add(executor.submit(() -> {
+                    startGate.await();
+                    return provider.load(1L, loader, "NumberCache", 3000, Long.class, String.class);
+                }));
+            }
+            startGate.countDown();
+            for (final Future<Object> futureResult : futureResults) {
+                assertEquals("Number Loaded Into Cache: 1", futureResult.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertAll("assert loader invocations and cacheProvider state",
+                () -> assertEquals(1, loaderInvocations.get()),
+                () -> assertEquals(Set.of(1L), provider.getKeys("NumberCache")));
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given a load that throws concurrently with a second load
+             then both loads should throw the loader exception, nothing should be cached
+             and the next load should invoke the loader again
+             (failed single flight load is not cached)
+            """)
+    @Test
+    void concurrentFailedLoadIsSharedAndNotCached() throws Exception {
+        final Loader<Object, Object> failingLoader = key -> {
+            Thread.sleep(500L); //NOSONAR: java:S2925 simulating latency in load function
+            throw new IllegalStateException("Load failed for " + key);
+        };
+        final Loader<Object, Object> secondLoader = key -> "Number Should Come From Cache: " + key;
+
+        final Future<Object> futureResult = Executors.newSingleThreadExecutor().submit(
+                () -> provider.load(1L, failingLoader, "NumberCache", 3000, Long.class, String.class));
+        Thread.sleep(50L); //NOSONAR: TODO: Is there a better way?
+        final IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> provider.load(1L, secondLoader, "NumberCache", 3000, Long.class, String.class));
+        final ExecutionException executionException = assertThrows(ExecutionException.class, futureResult::get);
+        assertAll("assert failed load results and cacheProvider state",
+                () -> assertEquals("Load failed for 1", exception.getMessage()),
+                () -> assertEquals("Load failed for 1", executionException.getCause().getMessage()),
+                () -> assertTrue(provider.getKeys("NumberCache").isEmpty()),
+                () -> assertEquals(secondLoader.load(1L), provider.load(1L, secondLoader, "NumberCache", 3000, Long.class, String.class)));
+    }
+
     @DisplayName("""
             with an empty cacheProvider
              given an initial load (non-optional)
@@ -205,6 +298,46 @@ class HashMapCacheProviderProviderLoaderTest {
                 () -> assertEquals(Set.of(2L), provider.getKeys("NumberCache")));
     }
 
+    @DisplayName("""
+            with an empty cacheProvider
+             given several loads
+             when a batch of keys is removed, including a key that is not cached
+             then only the remaining key should be cached
+             (load cacheProvider misses followed by batch remove)
+            """)
+    @Test
+    void cacheMissesFollowedByBatchRemoval() throws Exception {
+        final Loader<Object, Object> loader = key -> "Number Loaded Into Cache: " + key;
+        provider.load(1L, loader, "NumberCache", 3000, Long.class, String.class);
+        provider.load(2L, loader, "NumberCache", 3000, Long.class, String.class);
+        provider.load(3L, loader, "NumberCache", 3000, Long.class, String.class);
+        provider.removeValues("NumberCache", List.of(1L, 3L, 4L));
+        provider.removeValues("UnknownCache", List.of(2L));
+        assertAll("assert cacheProvider state after batch remove",
+                () -> assertEquals(Set.of("NumberCache"), provider.getCacheNames()),
+                () -> assertEquals(Set.of(2L), provider.getKeys("NumberCache")));
+    }
+
+    @DisplayName("""
+            with an empty cacheProvider
+             given an initial load (non-optional)
+             when a new value is put for the key and a value is put for a key that is not cached
+             then later loads should return the put values without invoking the loader
+             (load cacheProvider miss followed by put and cacheProvider hits)
+            """)
+    @Test
+    void cacheMissFollowedByPut() throws Exception {
+        final Loader<Object, Object> loader = key -> "Number Loaded Into Cache: " + key;
+        final Loader<Object, Object> secondLoader = key -> "Number Should Come From Cache: " + key;
+        provider.load(1L, loader, "NumberCache", 3000, Long.class, String.class);
+        provider.put(1L, "Number Put Into Cache: 1", "NumberCache", 3000, Long.class, String.class);
+        provider.put(2L, "Number Put Into Cache: 2", "NumberCache", 3000, Long.class, String.class);
+        assertAll("assert load results and cacheProvider state after put",
+                () -> assertEquals("Number Put Into Cache: 1", provider.load(1L, secondLoader, "NumberCache", 3000, Long.class, String.class)),
+                () -> assertEquals("Number Put Into Cache: 2", provider.load(2L, secondLoader, "NumberCache", 3000, Long.class, String.class)),
+                () -> assertEquals(Set.of(1L, 2L), provider.getKeys("NumberCache")));
+    }
+
     @DisplayName("""
             with an empty cacheProvider
              given an initial load (non-optional)
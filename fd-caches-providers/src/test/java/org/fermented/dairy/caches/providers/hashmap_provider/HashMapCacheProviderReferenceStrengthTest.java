@@ -0,0 +1,105 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.ReferenceStrength;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderReferenceStrengthTest {
+
+    private static final Loader<Object, Object> LOADER = key -> "Number Loaded Into Cache: " + key;
+
+    private static final int GC_ATTEMPTS = 20;
+
+    CacheProvider provider = new HashMapCacheProvider();
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+    }
+
+    @DisplayName("""
+            with a cache using the default settings
+             given 100 keys are loaded and not referenced elsewhere
+             when the garbage collector runs
+             then all 100 entries should still be cached
+            """)
+    @Test
+    void strongValuesAreNotCollected() throws Exception {
+        provider.configureCache("StrongCache", CacheSettings.defaults());
+        for (long key = 0; key < 100; key++) {
+            provider.load(key, LOADER, "StrongCache", 30000, Long.class, String.class);
+        }
+        System.gc(); //NOSONAR: java:S1215, the test is about garbage collection
+        assertEquals(100, provider.getKeys("StrongCache").size());
+    }
+
+    @DisplayName("""
+            with a cache holding soft values
+             given 100 keys are loaded and not referenced elsewhere
+             when the garbage collector runs without memory pressure
+             then all 100 entries should still be cached
+            """)
+    @Test
+    void softValuesAreRetainedWithoutMemoryPressure() throws Exception {
+        provider.configureCache("SoftCache", CacheSettings.defaults().withValueStrength(ReferenceStrength.SOFT));
+        for (long key = 0; key < 100; key++) {
+            provider.load(key, LOADER, "SoftCache", 30000, Long.class, String.class);
+        }
+        System.gc(); //NOSONAR: java:S1215, the test is about garbage collection
+        assertAll("assert soft values are retained",
+                () -> assertEquals(100, provider.getKeys("SoftCache").size()),
+                () -> assertEquals("Number Loaded Into Cache: 42", provider.peek("SoftCache", 42L).orElseThrow()));
+    }
+
+    @DisplayName("""
+            with a cache holding weak values
+             given 100 keys are loaded and not referenced elsewhere
+             when the garbage collector runs
+             then the entries should be removed from the cache
+            """)
+    @Test
+    void collectedWeakValuesAreRemoved() throws Exception {
+        provider.configureCache("WeakCache", CacheSettings.defaults().withValueStrength(ReferenceStrength.WEAK));
+        for (long key = 0; key < 100; key++) {
+            provider.load(key, LOADER, "WeakCache", 30000, Long.class, String.class);
+        }
+        for (int attempt = 0; attempt < GC_ATTEMPTS && !provider.getKeys("WeakCache").isEmpty(); attempt++) {
+            System.gc(); //NOSONAR: java:S1215, the test is about garbage collection
+            Thread.sleep(50); //NOSONAR: java:S2925, references are enqueued asynchronously
+        }
+        assertTrue(provider.getKeys("WeakCache").isEmpty());
+    }
+
+    @DisplayName("""
+            with a cache holding weak values
+             given 100 keys are loaded and their values are still referenced
+             when the garbage collector runs
+             then all 100 entries should still be cached
+             and loading them should return the same values
+            """)
+    @Test
+    void referencedWeakValuesAreRetained() throws Exception {
+        provider.configureCache("ReferencedWeakCache", CacheSettings.defaults().withValueStrength(ReferenceStrength.WEAK));
+        final List<Object> values = new ArrayList<>();
+        for (long key = 0; key < 100; key++) {
+            values.add(provider.load(key, LOADER, "ReferencedWeakCache", 30000, Long.class, String.class));
+        }
+        System.gc(); //NOSONAR: java:S1215, the test is about garbage collection
+        assertAll("assert referenced values are retained",
+                () -> assertEquals(100, provider.getKeys("ReferencedWeakCache").size()),
+                () -> assertSame(values.get(42), provider.load(42L, LOADER, "ReferencedWeakCache", 30000, Long.class, String.class)));
+    }
+}
@@ -0,0 +1,217 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fermented.dairy.caches.api.functions.AsyncLoader;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderRefreshTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Loader<Object, Object> loader = key -> "Load " + loads.incrementAndGet() + " of " + key;
+
+    private final ManualTicker ticker = new ManualTicker(0L);
+
+    private final Queue<Runnable> refreshes = new ArrayDeque<>();
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider(ticker, refreshes::add);
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+        provider.configureCache("RefreshCache", CacheSettings.defaults().withRefreshAfter(500L));
+    }
+
+    @DisplayName("""
+            with a cache refreshing values after 500ms
+             given an entry is loaded with a TTL of 1000ms
+             when it is read before the refresh time
+             then no refresh should be started
+             and when it is read after the refresh time
+             then a single refresh should be started and the current value returned to every reader
+             and once the refresh has run the reloaded value should be returned
+            """)
+    @Test
+    void readAfterRefreshTimeReloadsInBackground() throws Exception {
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        ticker.advance(499L);
+        final Object beforeRefresh = provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        final int refreshesBeforeRefreshTime = refreshes.size();
+        ticker.advance(1L);
+        final Object firstStale = provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        final Object secondStale = provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        final int refreshesAfterRefreshTime = refreshes.size();
+        refreshes.remove().run();
+        final Object refreshed = provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        assertAll("assert stale values are served until the refresh completes",
+                () -> assertEquals(0, refreshesBeforeRefreshTime),
+                () -> assertEquals("Load 1 of 1", beforeRefresh),
+                () -> assertEquals("Load 1 of 1", firstStale),
+                () -> assertEquals("Load 1 of 1", secondStale),
+                () -> assertEquals(1, refreshesAfterRefreshTime),
+                () -> assertEquals("Load 2 of 1", refreshed),
+                () -> assertEquals(2, loads.get()),
+                () -> assertTrue(refreshes.isEmpty()));
+    }
+
+    @DisplayName("""
+            with a cache refreshing values after 500ms
+             given an entry is refreshed
+             then the refreshed entry should expire a full TTL after the refresh
+             and not refresh again until its own refresh time has passed
+            """)
+    @Test
+    void refreshedEntryRestartsTtlAndRefreshTime() throws Exception {
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        ticker.advance(600L);
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        refreshes.remove().run();
+        ticker.advance(900L);
+        final Object afterOriginalExpiry = provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        final int refreshesPending = refreshes.size();
+        assertAll("assert the refreshed entry is live",
+                () -> assertEquals("Load 2 of 1", afterOriginalExpiry),
+                () -> assertEquals(1, refreshesPending),
+                () -> assertEquals(2, loads.get()));
+    }
+
+    @DisplayName("""
+            with a cache refreshing values after 500ms
+             given a refresh has been started but not run
+             when the entry expires
+             then a load should wait for the refresh instead of invoking its loader
+            """)
+    @Test
+    void expiredReadUsesRefreshInFlight() throws Exception {
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        ticker.advance(500L);
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        ticker.advance(500L);
+        final CompletableFuture<Object> expiredRead = provider.loadAsync(1L,
+                key -> CompletableFuture.completedFuture("Not loaded"), "RefreshCache", 1000, Long.class, String.class);
+        refreshes.remove().run();
+        assertAll("assert the expired read got the refreshed value",
+                () -> assertEquals("Load 2 of 1", expiredRead.get()),
+                () -> assertEquals(2, loads.get()));
+    }
+
+    @DisplayName("""
+            with a cache refreshing values after 500ms
+             given the refresh fails
+             then the current value should still be returned until it expires
+             and the next read should start another refresh
+            """)
+    @Test
+    void failedRefreshKeepsCurrentValue() throws Exception {
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        ticker.advance(500L);
+        final Loader<Object, Object> failingLoader = key -> {
+            throw new IOException("remote call failed");
+        };
+        provider.load(1L, failingLoader, "RefreshCache", 1000, Long.class, String.class);
+        refreshes.remove().run();
+        final Object afterFailure = provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        final int retries = refreshes.size();
+        assertAll("assert the current value is kept",
+                () -> assertEquals("Load 1 of 1", afterFailure),
+                () -> assertEquals(1, retries));
+    }
+
+    @DisplayName("""
+            with a cache refreshing values after 500ms
+             given the entry is removed while it is being refreshed
+             then the reloaded value should be dropped
+            """)
+    @Test
+    void refreshOfRemovedEntryIsDropped() throws Exception {
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        ticker.advance(500L);
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        provider.removeValue("RefreshCache", 1L);
+        refreshes.remove().run();
+        assertAll("assert the removed entry was not written back",
+                () -> assertEquals(2, loads.get()),
+                () -> assertTrue(provider.getKeys("RefreshCache").isEmpty()));
+    }
+
+    @DisplayName("""
+            with a cache refreshing values after 500ms
+             given an entry is read asynchronously after the refresh time
+             then the current value should be returned
+             and the async loader should be used for the refresh
+            """)
+    @Test
+    void asyncReadRefreshesWithAsyncLoader() throws Exception {
+        final AsyncLoader<Object, Object> asyncLoader = key -> CompletableFuture.completedFuture("Async load of " + key);
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        ticker.advance(500L);
+        final Object stale = provider.loadAsync(1L, asyncLoader, "RefreshCache", 1000, Long.class, String.class).get();
+        refreshes.remove().run();
+        final Object refreshed = provider.loadAsync(1L, asyncLoader, "RefreshCache", 1000, Long.class, String.class).get();
+        assertAll("assert the async refresh",
+                () -> assertEquals("Load 1 of 1", stale),
+                () -> assertEquals("Async load of 1", refreshed));
+    }
+
+    @DisplayName("""
+            with a cache refreshing values and recording statistics
+             given an entry is refreshed
+             then the refresh should be recorded as a load but not as a miss
+            """)
+    @Test
+    void refreshIsRecordedAsLoad() throws Exception {
+        provider.configureCache("RefreshCache", CacheSettings.defaults().withRefreshAfter(500L).withRecordStats(true));
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        ticker.advance(500L);
+        provider.load(1L, loader, "RefreshCache", 1000, Long.class, String.class);
+        refreshes.remove().run();
+        final CacheStats stats = provider.getStats("RefreshCache").orElseThrow();
+        assertAll("assert statistics",
+                () -> assertEquals(1L, stats.hitCount()),
+                () -> assertEquals(1L, stats.missCount()),
+                () -> assertEquals(2L, stats.loadSuccessCount()));
+    }
+
+    @DisplayName("""
+            with a refresh executor that rejects tasks
+             given an entry is read after the refresh time
+             then the current value should be returned
+             and the next read should try to refresh again
+            """)
+    @Test
+    void rejectedRefreshIsRetried() throws Exception {
+        final AtomicInteger rejected = new AtomicInteger();
+        final Executor rejecting = task -> {
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException("shutting down");
+        };
+        final HashMapCacheProvider rejectingProvider = new HashMapCacheProvider(ticker, rejecting);
+        rejectingProvider.configureCache("RejectingCache", CacheSettings.defaults().withRefreshAfter(500L));
+        rejectingProvider.load(1L, loader, "RejectingCache", 1000, Long.class, String.class);
+        ticker.advance(500L);
+        final Object first = rejectingProvider.load(1L, loader, "RejectingCache", 1000, Long.class, String.class);
+        final Object second = rejectingProvider.load(1L, loader, "RejectingCache", 1000, Long.class, String.class);
+        assertAll("assert rejected refreshes",
+                () -> assertEquals("Load 1 of 1", first),
+                () -> assertEquals("Load 1 of 1", second),
+                () -> assertEquals(2, rejected.get()));
+    }
+}
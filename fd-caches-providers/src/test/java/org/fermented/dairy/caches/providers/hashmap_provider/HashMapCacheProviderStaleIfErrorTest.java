@@ -0,0 +1,180 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderStaleIfErrorTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final AtomicInteger failedLoads = new AtomicInteger();
+
+    private final Loader<Object, Object> loader = key -> "Load " + loads.incrementAndGet() + " of " + key;
+
+    private final Loader<Object, Object> failingLoader = key -> {
+        failedLoads.incrementAndGet();
+        throw new IOException("remote call failed");
+    };
+
+    private final ManualTicker ticker = new ManualTicker(0L);
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider(ticker);
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+        provider.configureCache("StaleCache", CacheSettings.defaults().withStaleIfError(10000L));
+    }
+
+    @DisplayName("""
+            with a cache serving stale values for 10s after they expire
+             given an entry has expired and its maintenance has run
+             when reloading it fails
+             then the expired value should be returned in place of the failure
+             and the key should not be reported as live
+            """)
+    @Test
+    void failedReloadReturnsExpiredValue() throws Exception {
+        provider.load(1L, loader, "StaleCache", 1000, Long.class, String.class);
+        ticker.advance(5000L);
+        final boolean liveAfterExpiry = provider.getKeys("StaleCache").contains(1L);
+        final Object stale = provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class);
+        assertAll("assert the stale value is served",
+                () -> assertEquals("Load 1 of 1", stale),
+                () -> assertEquals(1, failedLoads.get()),
+                () -> assertFalse(liveAfterExpiry));
+    }
+
+    @DisplayName("""
+            with a cache serving stale values for 10s after they expire
+             given reloading an expired entry failed
+             then the key should not be reloaded for 1s
+             and after a second failure not for a further 2s
+             and once a reload succeeds the new value should be cached
+            """)
+    @Test
+    void failedReloadsBackOff() throws Exception {
+        provider.load(1L, loader, "StaleCache", 1000, Long.class, String.class);
+        ticker.advance(1000L);
+        provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class);
+        ticker.advance(999L);
+        provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class);
+        final int failuresDuringFirstBackOff = failedLoads.get();
+        ticker.advance(1L);
+        provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class);
+        ticker.advance(1999L);
+        provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class);
+        final int failuresDuringSecondBackOff = failedLoads.get();
+        ticker.advance(1L);
+        final Object reloaded = provider.load(1L, loader, "StaleCache", 1000, Long.class, String.class);
+        final Object cached = provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class);
+        assertAll("assert reloads back off",
+                () -> assertEquals(1, failuresDuringFirstBackOff),
+                () -> assertEquals(2, failuresDuringSecondBackOff),
+                () -> assertEquals("Load 2 of 1", reloaded),
+                () -> assertEquals("Load 2 of 1", cached),
+                () -> assertEquals(2, failedLoads.get()));
+    }
+
+    @DisplayName("""
+            with a cache serving stale values for 10s after they expire
+             given an entry expired more than 10s ago
+             when reloading it fails
+             then the failure should be thrown
+            """)
+    @Test
+    void failureAfterStaleWindowIsThrown() throws Exception {
+        provider.load(1L, loader, "StaleCache", 1000, Long.class, String.class);
+        ticker.advance(11000L);
+        assertThrows(IOException.class, () -> provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class));
+    }
+
+    @DisplayName("""
+            with a cache that does not serve stale values
+             given an entry has expired
+             when reloading it fails
+             then the failure should be thrown
+            """)
+    @Test
+    void failureWithoutStaleWindowIsThrown() throws Exception {
+        provider.load(1L, loader, "FreshCache", 1000, Long.class, String.class);
+        ticker.advance(1000L);
+        assertThrows(IOException.class, () -> provider.load(1L, failingLoader, "FreshCache", 1000, Long.class, String.class));
+    }
+
+    @DisplayName("""
+            with a cache serving stale values for 10s after they expire
+             given an expired entry is reloaded asynchronously
+             when the reload completes exceptionally
+             then the future should complete with the expired value
+             and when the reload is retried before the back-off has passed
+             then the expired value should be returned without invoking the loader
+            """)
+    @Test
+    void failedAsyncReloadReturnsExpiredValue() throws Exception {
+        provider.load(1L, loader, "StaleCache", 1000, Long.class, String.class);
+        ticker.advance(1000L);
+        final Object stale = provider.loadAsync(1L, key -> {
+            failedLoads.incrementAndGet();
+            return CompletableFuture.failedFuture(new IOException("remote call failed"));
+        }, "StaleCache", 1000, Long.class, String.class).get();
+        final Object backingOff = provider.loadAsync(1L,
+                key -> CompletableFuture.completedFuture("Not loaded"), "StaleCache", 1000, Long.class, String.class).get();
+        assertAll("assert the stale value is served",
+                () -> assertEquals("Load 1 of 1", stale),
+                () -> assertEquals("Load 1 of 1", backingOff),
+                () -> assertEquals(1, failedLoads.get()));
+    }
+
+    @DisplayName("""
+            with a cache serving stale values for 10s after they expire
+             given a key that was never loaded
+             when loading it fails
+             then the failure should be propagated
+            """)
+    @Test
+    void failureWithoutCachedValueIsPropagated() {
+        final CompletableFuture<Object> failed = provider.loadAsync(1L,
+                key -> CompletableFuture.failedFuture(new IOException("remote call failed")), "StaleCache", 1000, Long.class, String.class);
+        final ExecutionException exception = assertThrows(ExecutionException.class, failed::get);
+        assertAll("assert the failure is propagated",
+                () -> assertInstanceOf(IOException.class, exception.getCause()),
+                () -> assertThrows(IOException.class, () -> provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class)));
+    }
+
+    @DisplayName("""
+            with a cache serving stale values and recording statistics
+             given reloading an expired entry fails
+             then the reload should be recorded as a miss and a failed load
+            """)
+    @Test
+    void failedReloadIsRecorded() throws Exception {
+        provider.configureCache("StaleCache", CacheSettings.defaults().withStaleIfError(10000L).withRecordStats(true));
+        provider.load(1L, loader, "StaleCache", 1000, Long.class, String.class);
+        ticker.advance(1000L);
+        provider.load(1L, failingLoader, "StaleCache", 1000, Long.class, String.class);
+        final CacheStats stats = provider.getStats("StaleCache").orElseThrow();
+        assertAll("assert statistics",
+                () -> assertEquals(2L, stats.missCount()),
+                () -> assertEquals(1L, stats.loadSuccessCount()),
+                () -> assertEquals(1L, stats.loadFailureCount()));
+    }
+}
@@ -0,0 +1,166 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.CacheStats;
+import org.fermented.dairy.caches.api.records.EvictionCause;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderStatsTest {
+
+    private static final Loader<Object, Object> LOADER = key -> "Number Loaded Into Cache: " + key;
+
+    private static final CacheSettings RECORDING = CacheSettings.defaults().withRecordStats(true);
+
+    private final ManualTicker ticker = new ManualTicker(0L);
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider(ticker);
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+    }
+
+    @DisplayName("""
+            with a cache that does not record statistics
+             when statistics are requested
+             then no statistics should be returned
+             and no statistics should be returned for a cache that does not exist
+            """)
+    @Test
+    void statsAreNotRecordedByDefault() throws Exception {
+        provider.configureCache("UnrecordedCache", CacheSettings.defaults());
+        provider.load(1L, LOADER, "UnrecordedCache", 30000, Long.class, String.class);
+        assertAll("assert no statistics",
+                () -> assertTrue(provider.getStats("UnrecordedCache").isEmpty()),
+                () -> assertTrue(provider.getStats("MissingCache").isEmpty()));
+    }
+
+    @DisplayName("""
+            with a cache recording statistics
+             given 10 keys are loaded, each of which is then read twice
+             and a load returns null and a load throws an exception
+             when statistics are requested
+             then 20 hits, 12 misses, 10 successful loads and 2 failed loads should be reported
+            """)
+    @Test
+    void hitsMissesAndLoadsAreRecorded() throws Exception {
+        provider.configureCache("RecordedCache", RECORDING);
+        for (int read = 0; read < 3; read++) {
+            for (long key = 0; key < 10; key++) {
+                provider.load(key, LOADER, "RecordedCache", 30000, Long.class, String.class);
+            }
+        }
+        provider.load(10L, key -> null, "RecordedCache", 30000, Long.class, String.class);
+        assertThrows(IllegalStateException.class, () -> provider.load(11L, key -> {
+            throw new IllegalStateException("load failed");
+        }, "RecordedCache", 30000, Long.class, String.class));
+
+        final CacheStats stats = provider.getStats("RecordedCache").orElseThrow();
+        assertAll("assert recorded statistics",
+                () -> assertEquals(20L, stats.hitCount(), "hitCount is incorrect"),
+                () -> assertEquals(12L, stats.missCount(), "missCount is incorrect"),
+                () -> assertEquals(32L, stats.requestCount(), "requestCount is incorrect"),
+                () -> assertEquals(20d / 32d, stats.hitRate(), "hitRate is incorrect"),
+                () -> assertEquals(10L, stats.loadSuccessCount(), "loadSuccessCount is incorrect"),
+                () -> assertEquals(2L, stats.loadFailureCount(), "loadFailureCount is incorrect"),
+                () -> assertTrue(stats.totalLoadTimeNanos() > 0L, "totalLoadTimeNanos is incorrect"),
+                () -> assertEquals(stats.totalLoadTimeNanos() / 12d, stats.averageLoadPenaltyNanos(), "averageLoadPenaltyNanos is incorrect"),
+                () -> assertEquals(10L, stats.size(), "size is incorrect"),
+                () -> assertEquals(CacheStats.NOT_WEIGHTED, stats.weight(), "weight is incorrect"),
+                () -> assertEquals(0L, stats.evictionCount(), "evictionCount is incorrect"));
+    }
+
+    @DisplayName("""
+            with a cache bounded to 10 entries recording statistics
+             given 15 keys are loaded
+             and one more entry expires
+             when statistics are requested
+             then 5 size evictions and 1 expiry should be reported
+            """)
+    @Test
+    void evictionsAreRecordedByCause() throws Exception {
+        provider.configureCache("EvictingCache", RECORDING.withMaxEntries(10L));
+        provider.load(-1L, LOADER, "EvictingCache", 30, Long.class, String.class);
+        ticker.advance(2048L);
+        for (long key = 0; key < 15; key++) {
+            provider.load(key, LOADER, "EvictingCache", 30000, Long.class, String.class);
+        }
+
+        final CacheStats stats = provider.getStats("EvictingCache").orElseThrow();
+        assertAll("assert recorded evictions",
+                () -> assertEquals(5L, stats.evictionCount(EvictionCause.SIZE), "size evictions are incorrect"),
+                () -> assertEquals(1L, stats.evictionCount(EvictionCause.EXPIRED), "expiries are incorrect"),
+                () -> assertEquals(0L, stats.evictionCount(EvictionCause.COLLECTED), "collections are incorrect"),
+                () -> assertEquals(6L, stats.evictionCount(), "evictionCount is incorrect"),
+                () -> assertEquals(10L, stats.size(), "size is incorrect"));
+    }
+
+    @DisplayName("""
+            with a cache bounded by weight recording statistics
+             given 3 values weighing 5 each are loaded
+             when statistics are requested
+             then a weight of 15 should be reported
+            """)
+    @Test
+    void weightIsReported() throws Exception {
+        provider.configureCache("WeightedStatsCache", RECORDING.withMaxWeight(100L).withWeigher((key, value) -> 5));
+        for (long key = 0; key < 3; key++) {
+            provider.load(key, LOADER, "WeightedStatsCache", 30000, Long.class, String.class);
+        }
+        assertEquals(15L, provider.getStats("WeightedStatsCache").orElseThrow().weight());
+    }
+
+    @DisplayName("""
+            with a cache recording statistics
+             given a key is loaded and read
+             when recording is switched off and on again
+             then the counters should start again from 0
+            """)
+    @Test
+    void switchingRecordingOffDiscardsStats() throws Exception {
+        provider.configureCache("SwitchedCache", RECORDING);
+        provider.load(1L, LOADER, "SwitchedCache", 30000, Long.class, String.class);
+        provider.load(1L, LOADER, "SwitchedCache", 30000, Long.class, String.class);
+        assertEquals(1L, provider.getStats("SwitchedCache").orElseThrow().hitCount());
+
+        provider.configureCache("SwitchedCache", CacheSettings.defaults());
+        provider.load(1L, LOADER, "SwitchedCache", 30000, Long.class, String.class);
+        assertTrue(provider.getStats("SwitchedCache").isEmpty());
+
+        provider.configureCache("SwitchedCache", RECORDING);
+        provider.configureCache("SwitchedCache", RECORDING);
+        provider.load(1L, LOADER, "SwitchedCache", 30000, Long.class, String.class);
+        final CacheStats stats = provider.getStats("SwitchedCache").orElseThrow();
+        assertAll("assert counters restarted",
+                () -> assertEquals(1L, stats.hitCount(), "hitCount is incorrect"),
+                () -> assertEquals(0L, stats.missCount(), "missCount is incorrect"),
+                () -> assertEquals(1L, stats.size(), "size is incorrect"));
+    }
+
+    @DisplayName("""
+            with empty statistics
+             then no requests, loads or evictions should be reported
+             and the hit rate should be 1
+            """)
+    @Test
+    void emptyStats() {
+        final CacheStats stats = CacheStats.empty();
+        assertAll("assert empty statistics",
+                () -> assertEquals(0L, stats.requestCount()),
+                () -> assertEquals(1.0d, stats.hitRate()),
+                () -> assertEquals(0.0d, stats.averageLoadPenaltyNanos()),
+                () -> assertEquals(0L, stats.evictionCount()),
+                () -> assertEquals(EvictionCause.values().length, stats.evictionCounts().size()));
+    }
+}
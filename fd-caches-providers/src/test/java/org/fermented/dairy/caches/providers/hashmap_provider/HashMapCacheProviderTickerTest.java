@@ -0,0 +1,110 @@
+package org.fermented.dairy.caches.providers.hashmap_provider;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.fermented.dairy.caches.api.functions.Loader;
+import org.fermented.dairy.caches.api.tickers.CoarseTicker;
+import org.fermented.dairy.caches.api.tickers.ManualTicker;
+import org.fermented.dairy.caches.providers.HashMapCacheProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HashMapCacheProviderTickerTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final Loader<Object, Object> loader = key -> "Load " + loads.incrementAndGet() + " of " + key;
+
+    private final ManualTicker ticker = new ManualTicker(0L);
+
+    private final HashMapCacheProvider provider = new HashMapCacheProvider(ticker);
+
+    @BeforeEach
+    void beforeEach() {
+        provider.purge();
+        assertTrue(provider.getCacheNames().isEmpty());
+    }
+
+    @DisplayName("""
+            with a cache using a manual ticker
+             given an entry is loaded with a TTL of 1000ms
+             when the ticker is advanced to just before the TTL
+             then the cached value should be returned
+             and when the ticker is advanced past the TTL
+             then the value should be loaded again
+            """)
+    @Test
+    void entryExpiresWhenTickerPassesTtl() throws Exception {
+        provider.load(1L, loader, "TickerCache", 1000, Long.class, String.class);
+        ticker.advance(999L);
+        final Object beforeExpiry = provider.load(1L, loader, "TickerCache", 1000, Long.class, String.class);
+        ticker.advance(1L);
+        final Object afterExpiry = provider.load(1L, loader, "TickerCache", 1000, Long.class, String.class);
+        assertAll("assert expiry follows the ticker",
+                () -> assertEquals("Load 1 of 1", beforeExpiry),
+                () -> assertEquals("Load 2 of 1", afterExpiry),
+                () -> assertEquals(2, loads.get()));
+    }
+
+    @DisplayName("""
+            with a cache using a manual ticker
+             given an entry is loaded with a TTL of 30ms and never read
+             when the ticker is advanced past the timer wheel's first level
+             then the expired entry should be removed from the cache
+            """)
+    @Test
+    void expiredEntryIsRemovedWhenTickerAdvances() throws Exception {
+        provider.load(1L, loader, "TickerCache", 30, Long.class, String.class);
+        provider.load(2L, loader, "TickerCache", 30000, Long.class, String.class);
+        assertEquals(2, provider.getKeys("TickerCache").size());
+        ticker.advance(2048L);
+        provider.load(3L, loader, "TickerCache", 30000, Long.class, String.class);
+        assertAll("assert expired entry has been removed",
+                () -> assertTrue(provider.peek("TickerCache", 1L).isEmpty()),
+                () -> assertTrue(provider.peek("TickerCache", 2L).isPresent()));
+    }
+
+    @DisplayName("""
+            with a cache using a manual ticker
+             given an entry is loaded with a TTL of 5000000ms, placing it in the timer wheel's 70 minute level, and never read
+             when the ticker is advanced into the entry's bucket but before the TTL
+             then the entry should be kept
+             and when the ticker is advanced past the TTL while still inside that bucket
+             then the expired entry should be removed from the cache
+            """)
+    @Test
+    void expiredEntryIsRemovedInsideCoarseBucket() throws Exception {
+        provider.load(1L, loader, "TickerCache", 5_000_000L, Long.class, String.class);
+        ticker.advance(4_500_000L);
+        provider.load(2L, loader, "TickerCache", 30000, Long.class, String.class);
+        final boolean presentBeforeExpiry = provider.peek("TickerCache", 1L).isPresent();
+        ticker.advance(500_001L);
+        provider.load(3L, loader, "TickerCache", 30000, Long.class, String.class);
+        assertAll("assert the entry is removed once expired, not when the wheel leaves its bucket",
+                () -> assertTrue(presentBeforeExpiry),
+                () -> assertTrue(provider.peek("TickerCache", 1L).isEmpty()),
+                () -> assertTrue(provider.peek("TickerCache", 3L).isPresent()));
+    }
+
+    @DisplayName("""
+            with a coarse ticker
+             when time passes
+             then the ticker should follow the system clock
+            """)
+    @Test
+    void coarseTickerFollowsSystemClock() {
+        try (CoarseTicker coarseTicker = CoarseTicker.start()) {
+            final long start = coarseTicker.read();
+            final long deadline = System.currentTimeMillis() + 5000L;
+            while (coarseTicker.read() == start && System.currentTimeMillis() < deadline) {
+                Thread.onSpinWait();
+            }
+            assertTrue(coarseTicker.read() > start);
+            assertTrue(coarseTicker.read() <= System.currentTimeMillis());
+        }
+    }
+}
@@ -1,8 +1,10 @@
 /**
  * Module containing shared implementations between CDI and AOP implementations
+ * The flight recorder events in org.fermented.dairy.caches.handlers.events are not exported, they are recorded by name.
  */
 module fd.caches.shared {
     exports org.fermented.dairy.caches.handlers;
+    requires jdk.jfr;
     requires org.apache.commons.lang3;
     requires fd.caches.api;
     requires fd.caches.annotations;
@@ -1,28 +1,56 @@
 package org.fermented.dairy.caches.handlers;
 
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
-import org.apache.commons.lang3.StringUtils;
 import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.CacheLoadAll;
 import org.fermented.dairy.caches.annotations.Cached;
 import org.fermented.dairy.caches.annotations.CachedType;
+import org.fermented.dairy.caches.handlers.events.CacheLoadEvent;
 import org.fermented.dairy.caches.api.exceptions.CacheException;
 import org.fermented.dairy.caches.api.exceptions.CacheRuntimeException;
+import org.fermented.dairy.caches.api.functions.ArgumentsProceeder;
+import org.fermented.dairy.caches.api.functions.AsyncLoader;
+import org.fermented.dairy.caches.api.functions.BulkLoader;
 import org.fermented.dairy.caches.api.functions.Loader;
 import org.fermented.dairy.caches.api.functions.Proceeder;
+import org.fermented.dairy.caches.api.functions.Weigher;
 import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+import org.fermented.dairy.caches.api.records.ReferenceStrength;
 
 
 /**
  * Abstract parent class for all interceptors.
+ * The caching configuration for an intercepted method is resolved the first time it is invoked and reused afterwards, by the
+ * handler and any other handler created with the same {@link CachePlans}.
+ * Cache misses are emitted as {@link CacheLoadEvent CacheLoadEvents} timing the intercepted method while the event is enabled.
+ * Methods returning a CompletionStage are loaded with {@link CacheProvider#loadAsync CacheProvider.loadAsync}, the value the
+ * stage completes with is cached and concurrent callers share the in flight stage.
+ * Methods annotated with {@link CacheLoadAll} are loaded with {@link CacheProvider#loadAll CacheProvider.loadAll}, the
+ * intercepted method is invoked once with only the keys missing from the cache.
+ * {@link org.fermented.dairy.caches.annotations.CacheDelete CacheDelete} methods whose key parameter is declared as an array or
+ * Collection of keys or cached beans remove them with a single {@link CacheProvider#removeValues CacheProvider.removeValues} call.
+ * {@link org.fermented.dairy.caches.annotations.CachePut CachePut} methods replace the cached value with the value they return
+ * using {@link CacheProvider#put CacheProvider.put}, with the same cache name, settings and ttl as loading the returned type.
  */
 public class AbstractCacheHandler {
 
@@ -38,6 +66,37 @@ public class AbstractCacheHandler {
 
     private final Map<String, CacheProvider> cacheNameMap;
 
+    private final CacheMetrics metrics;
+
+    /**
+     * The shared instance of each weigher class, held by the weigher class so that it is discarded with the application.
+     */
+    private static final ClassValue<Weigher<Object, Object>> WEIGHERS = new ClassValue<>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Weigher<Object, Object> computeValue(final Class<?> weigherClass) {
+            AbstractCacheHandler.class.getModule().addReads(weigherClass.getModule());
+            try {
+                return (Weigher<Object, Object>) weigherClass.getConstructor().newInstance();
+            } catch (final ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    };
+
+    /**
+     * The method being invoked on its target to load a value off the calling thread, the cache is bypassed for that invocation.
+     */
+    private static final ThreadLocal<Method> TARGET_INVOCATION = new ThreadLocal<>();
+
+    private final Map<Method, CachePlan> loadPlans;
+
+    private final Map<Method, CachePlan> loadAllPlans;
+
+    private final Map<Method, CachePlan> deletePlans;
+
+    private final Map<Method, CachePlan> putPlans;
+
     /**
      * Constructor with injection points.
      *
@@ -47,6 +106,37 @@ public class AbstractCacheHandler {
     public AbstractCacheHandler(
             final CacheConfig config,
             final Iterable<CacheProvider> caches) {
+        this(config, caches, null);
+    }
+
+    /**
+     * Constructor with injection points, the handler resolves methods on its own.
+     *
+     * @param config the Config
+     * @param caches all CacheProvider implementations to use for caching
+     * @param metrics registers meters for the caches and intercepted methods, null if metrics are not recorded
+     */
+    public AbstractCacheHandler(
+            final CacheConfig config,
+            final Iterable<CacheProvider> caches,
+            final CacheMetrics metrics) {
+        this(config, caches, metrics, new CachePlans());
+    }
+
+    /**
+     * Constructor with injection points.
+     *
+     * @param config the Config
+     * @param caches all CacheProvider implementations to use for caching
+     * @param metrics registers meters for the caches and intercepted methods, null if metrics are not recorded
+     * @param plans the methods resolved by this handler and the other handlers created with the same config, providers and metrics
+     */
+    public AbstractCacheHandler(
+            final CacheConfig config,
+            final Iterable<CacheProvider> caches,
+            final CacheMetrics metrics,
+            final CachePlans plans) {
+        this.metrics = metrics;
         this.defaultProviderName = config
                 .getOptionalValue("fd.config.cache.provider.default", String.class)
                 .orElse("internal.default.cache");
@@ -62,48 +152,641 @@ public class AbstractCacheHandler {
         if (!cacheNameMap.containsKey(defaultProviderName)) {
             throw new CacheRuntimeException("Could not load default cache instance");
         }
+
+        this.loadPlans = plans.loadPlans;
+        this.loadAllPlans = plans.loadAllPlans;
+        this.deletePlans = plans.deletePlans;
+        this.putPlans = plans.putPlans;
     }
 
+    /**
+     * Loads the value of the intercepted method through the cache.
+     * The loader proceeds with the interception, it is only used on the calling thread. Loads the cache provider runs on
+     * another thread, such as refreshes, invoke the method on the target instead, bypassing the cache for that invocation.
+     *
+     * @param returnedClass the class returned by the intercepted method
+     * @param method the intercepted method
+     * @param target the instance the method was invoked on, e.g. the CDI bean instance or the Spring proxy
+     * @param proceeder proceeds to the intercepted method
+     * @param params the parameters of the invocation
+     * @param loader proceeds to the intercepted method on a cache miss
+     *
+     * @return the cached or loaded value
+     *
+     * @throws Throwable if the intercepted method or the cache provider fails
+     */
     protected Object getFromCacheOrLoad(final Class<?> returnedClass,
                                         final Method method,
+                                        final Object target,
                                         final Proceeder<Object> proceeder,
                                         final Object[] params,
                                         final Loader<Object, Object> loader) throws Throwable {
-        if (returnedClass.isAssignableFrom(void.class) || returnedClass.isAssignableFrom(Void.class)) {
-            throw new CacheException("void types cannot be cached");
+        if (isTargetInvocation(method)) {
+            return proceeder.proceed();
         }
-        if (isCacheDisabled(method)) {
+        final CachePlan plan = getPlan(loadPlans, method, planMethod -> resolveLoadPlan(returnedClass, planMethod));
+        if (plan.disabled()) {
             return proceeder.proceed();
         }
-        final Object cacheKey = getCacheKey(method, params);
+        final Object cacheKey = getCacheKey(method, plan.keyIndex(), params);
+        final Loader<Object, Object> callerLoader = callerLoader(method, target, params, loader);
+        if (plan.async()) {
+            return loadAsync(plan, method, cacheKey, callerLoader);
+        }
+        final Loader<Object, Object> eventLoader = eventLoader(plan, method, cacheKey, callerLoader);
+
+        final InvocationTimer timer;
+        if ((timer = plan.timer()) == null) {
+            return load(plan, cacheKey, eventLoader);
+        }
+        return timedLoad(plan, timer, cacheKey, eventLoader);
+    }
+
+    /**
+     * Restricts the loader to the calling thread, where the invocation context it proceeds with is still valid. On any other
+     * thread the method is invoked on the target, which runs the interceptors of the target again, with the cache bypassed.
+     */
+    private static Loader<Object, Object> callerLoader(final Method method,
+                                                       final Object target,
+                                                       final Object[] params,
+                                                       final Loader<Object, Object> loader) {
+        final Thread caller = Thread.currentThread();
+        return param -> Thread.currentThread() == caller ? loader.load(param) : invokeTarget(method, target, params);
+    }
+
+    private static Object invokeTarget(final Method method, final Object target, final Object[] params) throws Throwable {
+        if (target == null) {
+            throw new CacheException("Cannot load %s off the calling thread without its target", method);
+        }
+        TARGET_INVOCATION.set(method);
+        try {
+            return method.invoke(target, params);
+        } catch (final InvocationTargetException e) {
+            throw e.getCause();
+        } finally {
+            TARGET_INVOCATION.remove();
+        }
+    }
+
+    /**
+     * Whether the method is being invoked on its target by {@link #invokeTarget}, the marker is cleared so that calls the method
+     * makes to cached methods go through the cache.
+     */
+    private static boolean isTargetInvocation(final Method method) {
+        final Method invoked;
+        if ((invoked = TARGET_INVOCATION.get()) == null || !invoked.equals(method)) {
+            return false;
+        }
+        TARGET_INVOCATION.remove();
+        return true;
+    }
+
+    /**
+     * Wraps the loader to emit a {@link CacheLoadEvent} when it is invoked, the loader is returned as is if the event is disabled.
+     */
+    private static Loader<Object, Object> eventLoader(final CachePlan plan,
+                                                      final Method method,
+                                                      final Object cacheKey,
+                                                      final Loader<Object, Object> loader) {
+        final CacheLoadEvent event = new CacheLoadEvent();
+        if (!event.isEnabled()) {
+            return loader;
+        }
+        return param -> {
+            boolean loaded = false;
+            event.begin();
+            try {
+                final Object value = loader.load(param);
+                loaded = value != null && !(value instanceof Optional<?> optional && optional.isEmpty());
+                return value;
+            } finally {
+                event.record(plan.provider().getProviderName(),
+                        plan.cacheName(),
+                        cacheKey.getClass(),
+                        method.getDeclaringClass(),
+                        method.getName(),
+                        loaded);
+            }
+        };
+    }
+
+    /**
+     * Loads through the cache without blocking, the intercepted method returns the stage the value is loaded by.
+     * The time spent in the cache and intercepted method, and the load event, are recorded when the stages complete.
+     */
+    @SuppressWarnings("unchecked")
+    private static CompletableFuture<Object> loadAsync(final CachePlan plan,
+                                                       final Method method,
+                                                       final Object cacheKey,
+                                                       final Loader<Object, Object> loader) {
+        final InvocationTimer timer = plan.timer();
+        final long start = timer == null ? 0L : System.nanoTime();
+        final long[] methodNanos = {-1L};
+        final CacheLoadEvent event = new CacheLoadEvent();
+        final boolean eventEnabled = event.isEnabled();
+        final AsyncLoader<Object, Object> asyncLoader = param -> {
+            final long methodStart = System.nanoTime();
+            if (eventEnabled) {
+                event.begin();
+            }
+            return ((CompletionStage<Object>) loader.load(param)).whenComplete((value, failure) -> {
+                methodNanos[0] = System.nanoTime() - methodStart;
+                if (eventEnabled) {
+                    event.record(plan.provider().getProviderName(),
+                            plan.cacheName(),
+                            cacheKey.getClass(),
+                            method.getDeclaringClass(),
+                            method.getName(),
+                            failure == null && value != null);
+                }
+            });
+        };
+        final CompletableFuture<Object> future = plan.provider().loadAsync(cacheKey,
+                asyncLoader,
+                plan.cacheName(),
+                plan.ttlMilliSeconds(),
+                cacheKey.getClass(),
+                plan.valueClass());
+        if (timer == null) {
+            return future;
+        }
+        return future.whenComplete((value, failure) -> recordTime(timer, System.nanoTime() - start, methodNanos[0]));
+    }
 
-        if (returnedClass.isAssignableFrom(Optional.class)) {
-            final Class<?> returnOptionalClass = getActualReturnedClass(method);
-            return getCacheForLoad(method).loadOptional(cacheKey,
+    private static Object load(final CachePlan plan, final Object cacheKey, final Loader<Object, Object> loader) throws Throwable {
+        if (plan.optional()) {
+            return plan.provider().loadOptional(cacheKey,
                     param -> (Optional) loader.load(param),
-                    getCacheName(method),
-                    getTtl(method),
+                    plan.cacheName(),
+                    plan.ttlMilliSeconds(),
                     cacheKey.getClass(),
-                    returnOptionalClass);
+                    plan.valueClass());
         } else {
-            return getCacheForLoad(method).load(cacheKey,
+            return plan.provider().load(cacheKey,
                     loader,
-                    getCacheName(method),
-                    getTtl(method),
+                    plan.cacheName(),
+                    plan.ttlMilliSeconds(),
                     cacheKey.getClass(),
-                    returnedClass);
+                    plan.valueClass());
         }
     }
 
+    /**
+     * Loads through the cache, recording the time spent in the cache and, if the loader is invoked, in the intercepted method.
+     */
+    private static Object timedLoad(final CachePlan plan,
+                                    final InvocationTimer timer,
+                                    final Object cacheKey,
+                                    final Loader<Object, Object> loader) throws Throwable {
+        final long[] methodNanos = {-1L};
+        final Loader<Object, Object> timedLoader = param -> {
+            final long methodStart = System.nanoTime();
+            try {
+                return loader.load(param);
+            } finally {
+                methodNanos[0] = System.nanoTime() - methodStart;
+            }
+        };
+        final long start = System.nanoTime();
+        try {
+            return load(plan, cacheKey, timedLoader);
+        } finally {
+            recordTime(timer, System.nanoTime() - start, methodNanos[0]);
+        }
+    }
+
+    /**
+     * Records the time spent in the cache and, if it was invoked, in the intercepted method.
+     *
+     * @param timer the method timer
+     * @param totalNanos the total time of the invocation
+     * @param methodNanos the time spent in the intercepted method, negative if it was not invoked
+     */
+    private static void recordTime(final InvocationTimer timer, final long totalNanos, final long methodNanos) {
+        if (methodNanos < 0L) {
+            timer.recordCached(totalNanos);
+        } else {
+            timer.recordInvoked(totalNanos - methodNanos, methodNanos);
+        }
+    }
+
+    /**
+     * Loads the values of a collection of keys through the cache, the intercepted method is invoked once with the keys
+     * missing from the cache, in place of the key parameter, and returns a Map of the values it loaded by key.
+     *
+     * Like a loader, the arguments proceeder is only used on the calling thread, loads off the calling thread invoke the
+     * method on the target with the cache bypassed.
+     *
+     * @param method the intercepted method
+     * @param target the instance the method was invoked on, e.g. the CDI bean instance or the Spring proxy
+     * @param proceeder proceeds to the intercepted method with the original arguments
+     * @param params the original arguments
+     * @param argumentsProceeder proceeds to the intercepted method with replaced arguments
+     *
+     * @return the cached and loaded values by key, in the order of the keys
+     *
+     * @throws Throwable Exception thrown by the caching implementation or the intercepted method
+     */
+    @SuppressWarnings("unchecked")
+    protected Object getAllFromCacheOrLoad(final Method method,
+                                           final Object target,
+                                           final Proceeder<Object> proceeder,
+                                           final Object[] params,
+                                           final ArgumentsProceeder<Object> argumentsProceeder) throws Throwable {
+        if (isTargetInvocation(method)) {
+            return proceeder.proceed();
+        }
+        final CachePlan plan = getPlan(loadAllPlans, method, this::resolveLoadAllPlan);
+        if (plan.disabled()) {
+            return proceeder.proceed();
+        }
+        final List<Object> cacheKeys = getCacheKeys(method, plan.keyIndex(), params);
+        if (cacheKeys.isEmpty()) {
+            return proceeder.proceed();
+        }
+        final Class<?> keyClass = getKeyClass(method, cacheKeys);
+        final Class<?> parameterType = method.getParameterTypes()[plan.keyIndex()];
+        final Thread caller = Thread.currentThread();
+        final BulkLoader<Object, Object> loader = eventBulkLoader(plan, method, keyClass, keys -> {
+            final Object[] args = params.clone();
+            args[plan.keyIndex()] = toKeysParameter(parameterType, keys);
+            return (Map<Object, Object>) (Thread.currentThread() == caller
+                    ? argumentsProceeder.proceed(args)
+                    : invokeTarget(method, target, args));
+        });
+
+        final InvocationTimer timer;
+        if ((timer = plan.timer()) == null) {
+            return plan.provider().loadAll(cacheKeys, loader, plan.cacheName(), plan.ttlMilliSeconds(), keyClass, plan.valueClass());
+        }
+        final long[] methodNanos = {-1L};
+        final BulkLoader<Object, Object> timedLoader = keys -> {
+            final long methodStart = System.nanoTime();
+            try {
+                return loader.load(keys);
+            } finally {
+                methodNanos[0] = System.nanoTime() - methodStart;
+            }
+        };
+        final long start = System.nanoTime();
+        try {
+            return plan.provider().loadAll(cacheKeys, timedLoader, plan.cacheName(), plan.ttlMilliSeconds(), keyClass, plan.valueClass());
+        } finally {
+            recordTime(timer, System.nanoTime() - start, methodNanos[0]);
+        }
+    }
+
+    /**
+     * Wraps the bulk loader to emit a {@link CacheLoadEvent} when it is invoked, the loader is returned as is if the event is
+     * disabled.
+     */
+    private static BulkLoader<Object, Object> eventBulkLoader(final CachePlan plan,
+                                                              final Method method,
+                                                              final Class<?> keyClass,
+                                                              final BulkLoader<Object, Object> loader) {
+        final CacheLoadEvent event = new CacheLoadEvent();
+        if (!event.isEnabled()) {
+            return loader;
+        }
+        return keys -> {
+            boolean loaded = false;
+            event.begin();
+            try {
+                final Map<Object, Object> values = loader.load(keys);
+                loaded = values != null && !values.isEmpty();
+                return values;
+            } finally {
+                event.record(plan.provider().getProviderName(),
+                        plan.cacheName(),
+                        keyClass,
+                        method.getDeclaringClass(),
+                        method.getName(),
+                        loaded);
+            }
+        };
+    }
+
+    /**
+     * Converts the missing keys to the type of the key parameter, an array, List, Set or Collection.
+     */
+    private static Object toKeysParameter(final Class<?> parameterType, final Set<Object> keys) {
+        if (parameterType.isArray()) {
+            final Object array = Array.newInstance(parameterType.getComponentType(), keys.size());
+            int index = 0;
+            for (final Object key : keys) {
+                Array.set(array, index++, key);
+            }
+            return array;
+        }
+        if (parameterType.isAssignableFrom(ArrayList.class)) {
+            return new ArrayList<>(keys);
+        }
+        return new LinkedHashSet<>(keys);
+    }
+
+    private static List<Object> getCacheKeys(final Method method, final int keyIndex, final Object[] params) throws CacheException {
+        final Object keys;
+        if ((keys = params[keyIndex]) == null) {
+            throw new CacheException("The keys passed to method %s in class %s are null, could not determine cache keys.",
+                    method.getName(),
+                    method.getDeclaringClass().getCanonicalName());
+        }
+        return toKeyList(keys);
+    }
+
+    /**
+     * Lists the elements of an array or Collection of keys, null elements are skipped.
+     */
+    private static List<Object> toKeyList(final Object keys) {
+        final List<Object> cacheKeys = new ArrayList<>();
+        if (keys instanceof Collection<?> collection) {
+            for (final Object key : collection) {
+                if (key != null) {
+                    cacheKeys.add(key);
+                }
+            }
+        } else {
+            final int length = Array.getLength(keys);
+            for (int index = 0; index < length; index++) {
+                final Object key;
+                if ((key = Array.get(keys, index)) != null) {
+                    cacheKeys.add(key);
+                }
+            }
+        }
+        return cacheKeys;
+    }
+
+    /**
+     * The class of the keys, which must all be of the same class as the cache provider validates each key against it.
+     */
+    private static Class<?> getKeyClass(final Method method, final List<Object> cacheKeys) throws CacheException {
+        final Class<?> keyClass = cacheKeys.get(0).getClass();
+        for (final Object cacheKey : cacheKeys) {
+            if (cacheKey.getClass() != keyClass) {
+                throw new CacheException("The keys passed to method %s in class %s are of different classes, %s and %s.",
+                        method.getName(),
+                        method.getDeclaringClass().getCanonicalName(),
+                        keyClass.getCanonicalName(),
+                        cacheKey.getClass().getCanonicalName());
+            }
+        }
+        return keyClass;
+    }
+
     protected void deleteFromCache(final Method method, final Object[] params) throws CacheException {
-        final CacheProvider cacheProvider = getCacheForDelete(method);
-        final String cacheName = getCacheNameForDelete(method);
-        Object key = getCacheKey(method, params);
-        if (key.getClass().isAnnotationPresent(Cached.class)) {
-            key = getKeyFromCachedClass(key);
+        final CachePlan plan = getPlan(deletePlans, method, this::resolveDeletePlan);
+        final Object cacheKey = getCacheKey(method, plan.keyIndex(), params);
+        if (!plan.keyBatch()) {
+            plan.provider().removeValue(plan.cacheName(), CacheKeyExtractors.extractKey(cacheKey));
+            return;
         }
 
-        cacheProvider.removeValue(cacheName, key);
+        final List<Object> keys = new ArrayList<>();
+        for (final Object element : toKeyList(cacheKey)) {
+            keys.add(CacheKeyExtractors.extractKey(element));
+        }
+        if (!keys.isEmpty()) {
+            plan.provider().removeValues(plan.cacheName(), keys);
+        }
+    }
+
+    /**
+     * Invokes the intercepted method and puts the value it returns in the cache, replacing the value cached for the key.
+     * A null value, or an empty Optional, removes the cached value instead. The value is not put if the method throws.
+     *
+     * @param method the intercepted method
+     * @param proceeder proceeds to the intercepted method
+     * @param params the arguments
+     *
+     * @return the result of the intercepted method
+     *
+     * @throws Throwable Exception thrown by the caching implementation or the intercepted method
+     */
+    protected Object putIntoCache(final Method method, final Proceeder<Object> proceeder, final Object[] params) throws Throwable {
+        final CachePlan plan = getPlan(putPlans, method, this::resolvePutPlan);
+        if (plan.disabled()) {
+            return proceeder.proceed();
+        }
+
+        final InvocationTimer timer;
+        if ((timer = plan.timer()) == null) {
+            final Object result = proceeder.proceed();
+            put(method, plan, params, result);
+            return result;
+        }
+        final long start = System.nanoTime();
+        final Object result = proceeder.proceed();
+        final long methodNanos = System.nanoTime() - start;
+        try {
+            put(method, plan, params, result);
+        } finally {
+            recordTime(timer, System.nanoTime() - start, methodNanos);
+        }
+        return result;
+    }
+
+    private static void put(final Method method, final CachePlan plan, final Object[] params, final Object result) throws Exception {
+        final Object value = plan.optional() && result != null ? ((Optional<?>) result).orElse(null) : result;
+        final Object cacheKey = CacheKeyExtractors.extractKey(getPutKey(method, plan.keyIndex(), params, value));
+        if (value == null) {
+            plan.provider().removeValue(plan.cacheName(), cacheKey);
+            return;
+        }
+        plan.provider().put(cacheKey, value, plan.cacheName(), plan.ttlMilliSeconds(), cacheKey.getClass(), plan.valueClass());
+    }
+
+    /**
+     * Gets the key to put the value under: the parameter annotated with {@link CacheKey} or the cached bean parameter, otherwise
+     * the returned value if it is a cached bean, e.g. a created entity with a generated key, otherwise the only parameter.
+     */
+    private static Object getPutKey(final Method method,
+                                    final int keyIndex,
+                                    final Object[] params,
+                                    final Object value) throws CacheException {
+        final Object cacheKey;
+        if (keyIndex >= 0 && (cacheKey = params[keyIndex]) != null) {
+            return cacheKey;
+        }
+        if (keyIndex < 0 && value != null && value.getClass().isAnnotationPresent(Cached.class)) {
+            return value;
+        }
+        if (keyIndex < 0 && params != null && params.length == 1 && params[0] != null) {
+            return params[0];
+        }
+        throw new CacheException(
+                "No parameter is annotated with the 'CacheKey' annotation or is a cached bean for method %s in class %s"
+                        + " and it does not return a cached bean, could not determine cache key.",
+                method.getName(),
+                method.getDeclaringClass().getCanonicalName());
+    }
+
+    private static CachePlan getPlan(final Map<Method, CachePlan> plans,
+                                     final Method method,
+                                     final PlanResolver resolver) throws CacheException {
+        final CachePlan plan;
+        if ((plan = plans.get(method)) != null) {
+            return plan;
+        }
+        final CachePlan resolvedPlan = resolver.resolve(method);
+        final CachePlan existingPlan = plans.putIfAbsent(method, resolvedPlan);
+        return existingPlan == null ? resolvedPlan : existingPlan;
+    }
+
+    private CachePlan resolveLoadPlan(final Class<?> returnedClass, final Method method) throws CacheException {
+        if (returnedClass.isAssignableFrom(void.class) || returnedClass.isAssignableFrom(Void.class)) {
+            throw new CacheException("void types cannot be cached");
+        }
+        final boolean async = isCompletionStage(returnedClass);
+        if (async && !returnedClass.isAssignableFrom(CompletableFuture.class)) {
+            throw new CacheException("%s returns a %s, only CompletionStage and CompletableFuture are supported",
+                    method.getName(), returnedClass.getCanonicalName());
+        }
+        if (isCacheDisabled(method)) {
+            return CachePlan.disabledPlan();
+        }
+        if (async && Void.class.equals(getActualReturnedClass(method))) {
+            throw new CacheException("void types cannot be cached");
+        }
+        return resolveEnabledPlan(method, getCacheKeyIndex(method), returnedClass.isAssignableFrom(Optional.class), async);
+    }
+
+    private CachePlan resolveLoadAllPlan(final Method method) throws CacheException {
+        if (!method.getReturnType().isAssignableFrom(Map.class)) {
+            throw new CacheException("%s returns a %s, only Map is supported when loading all",
+                    method.getName(), method.getReturnType().getCanonicalName());
+        }
+        if (method.getAnnotation(CachedType.class) == null) {
+            throw new CacheException("%s returns a Map and must be annotated with 'CachedType'", method.getName());
+        }
+        final int keyIndex;
+        if ((keyIndex = getCacheKeyIndex(method)) < 0) {
+            throw new CacheException(
+                    "No parameter is annotated with the 'CacheKey' annotation for method %s, could not determine cache keys.",
+                    method.getName());
+        }
+        final Class<?> parameterType = method.getParameterTypes()[keyIndex];
+        if (!parameterType.isArray()
+                && !parameterType.isAssignableFrom(ArrayList.class)
+                && !parameterType.isAssignableFrom(LinkedHashSet.class)) {
+            throw new CacheException("%s must take the keys as an array, Collection, List or Set, not a %s",
+                    method.getName(), parameterType.getCanonicalName());
+        }
+        if (isCacheDisabled(method)) {
+            return CachePlan.disabledPlan();
+        }
+        return resolveEnabledPlan(method, keyIndex, false, false);
+    }
+
+    /**
+     * Resolves the provider, cache name, settings and ttl of the cached type, configuring the cache and registering it for
+     * metrics.
+     */
+    private CachePlan resolveEnabledPlan(final Method method,
+                                         final int keyIndex,
+                                         final boolean optional,
+                                         final boolean async) throws CacheException {
+        final CacheProvider provider = getCacheForLoad(method);
+        final String cacheName = getCacheName(method);
+        final CacheSettings settings = getCacheSettings(method);
+        provider.configureCache(cacheName, settings);
+        InvocationTimer timer = null;
+        if (metrics != null) {
+            metrics.registerCache(provider, cacheName, settings);
+            timer = metrics.registerMethod(method, provider, cacheName);
+        }
+        return new CachePlan(false,
+                provider,
+                cacheName,
+                getTtl(method),
+                keyIndex,
+                false,
+                getActualReturnedClass(method),
+                optional,
+                async,
+                timer);
+    }
+
+    private CachePlan resolvePutPlan(final Method method) throws CacheException {
+        final Class<?> returnedClass = method.getReturnType();
+        if (returnedClass.isAssignableFrom(void.class) || returnedClass.isAssignableFrom(Void.class)) {
+            throw new CacheException("void types cannot be cached");
+        }
+        if (isCompletionStage(returnedClass)) {
+            throw new CacheException("%s returns a %s, only values and Optionals are supported when putting",
+                    method.getName(), returnedClass.getCanonicalName());
+        }
+        if (isCacheDisabled(method)) {
+            return CachePlan.disabledPlan();
+        }
+        return resolveEnabledPlan(method, getPutKeyIndex(method), returnedClass.isAssignableFrom(Optional.class), false);
+    }
+
+    /**
+     * Gets the index of the parameter annotated with {@link CacheKey} or of the first cached bean parameter, -1 if there is none.
+     */
+    private static int getPutKeyIndex(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        for (int paramIndex = 0; paramIndex < parameters.length; paramIndex++) {
+            if (parameters[paramIndex].isAnnotationPresent(CacheKey.class) || parameters[paramIndex].getType().isAnnotationPresent(Cached.class)) {
+                return paramIndex;
+            }
+        }
+        return -1;
+    }
+
+    private CachePlan resolveDeletePlan(final Method method) throws CacheException {
+        final int keyIndex = getCacheKeyIndex(method);
+        final Class<?> cachedClass = getCachedClassForDelete(method);
+        return new CachePlan(false,
+                getCacheForDelete(method),
+                getCacheNameForDelete(method),
+                0L,
+                keyIndex,
+                keyIndex >= 0 && isKeyBatch(method.getParameters()[keyIndex], cachedClass),
+                cachedClass,
+                false,
+                false,
+                null);
+    }
+
+    /**
+     * Whether the key parameter of a delete is declared as an array or Collection of cached beans or of the cache's key type,
+     * the type of the cached class's {@link CacheKey} member. A parameter that is itself of the key type, e.g. a List key, is
+     * a single key. Without a declared element type, or a key member, any array or Collection is taken to hold keys.
+     */
+    private static boolean isKeyBatch(final Parameter parameter, final Class<?> cachedClass) {
+        final Class<?> type = parameter.getType();
+        if (!type.isArray() && !Collection.class.isAssignableFrom(type)) {
+            return false;
+        }
+        final Class<?> elementType = getElementType(parameter);
+        if (elementType.isAnnotationPresent(Cached.class)) {
+            return true;
+        }
+        final Class<?> keyType;
+        if ((keyType = getKeyType(cachedClass)) == null) {
+            return true;
+        }
+        if (elementType == type) {
+            return !keyType.isAssignableFrom(type);
+        }
+        return wrap(keyType).isAssignableFrom(wrap(elementType));
+    }
+
+    /**
+     * The type of the member of the cached class annotated with {@link CacheKey}, null if it has none.
+     */
+    private static Class<?> getKeyType(final Class<?> cachedClass) {
+        return Arrays.stream(cachedClass.getDeclaredFields())
+                .filter(field -> field.isAnnotationPresent(CacheKey.class))
+                .findFirst()
+                .<Class<?>>map(Field::getType)
+                .orElse(null);
+    }
+
+    private static Class<?> wrap(final Class<?> type) {
+        return MethodType.methodType(type).wrap().returnType();
     }
 
     private static Class<?> getCachedClassForDelete(final Method method) throws CacheException {
@@ -119,7 +802,7 @@ public class AbstractCacheHandler {
     private static Class<?> cachedBeanFromArguments(final Method method) throws CacheException {
 
         return Arrays.stream(method.getParameters())
-                .map(Parameter::getType)
+                .map(AbstractCacheHandler::getElementType)
                 .filter(klass -> klass.isAnnotationPresent(Cached.class))
                 .findFirst().orElseThrow(() -> new CacheException("Could not determine cached class for method %s", method.getName()));
     }
@@ -162,11 +845,11 @@ public class AbstractCacheHandler {
     }
 
     private Class<?> getActualReturnedClass(final Method method) {
-        if (method.getReturnType().isAssignableFrom(Optional.class)) {
+        if (isWrapper(method.getReturnType(), method)) {
             final CachedType cachedTypeAnnotation;
             if ((cachedTypeAnnotation = method.getAnnotation(CachedType.class)) == null) {
                 throw new CacheRuntimeException(
-                        "%s returns an optional and must be annotated with 'CachedType'".formatted(method.getName()));
+                        "%s returns an optional or CompletionStage and must be annotated with 'CachedType'".formatted(method.getName()));
             }
             return cachedTypeAnnotation.value();
         } else {
@@ -174,19 +857,100 @@ public class AbstractCacheHandler {
         }
     }
 
+    private static boolean isCompletionStage(final Class<?> returnType) {
+        return CompletionStage.class.isAssignableFrom(returnType);
+    }
+
+    /**
+     * Optionals, CompletionStages and the Maps returned by {@link CacheLoadAll} methods wrap the cached type, which is given
+     * by the {@link CachedType} annotation.
+     */
+    private static boolean isWrapper(final Class<?> returnType, final Method method) {
+        return returnType.isAssignableFrom(Optional.class)
+                || isCompletionStage(returnType)
+                || returnType.isAssignableFrom(Map.class) && (method.isAnnotationPresent(CacheLoadAll.class)
+                        || method.getDeclaringClass().isAnnotationPresent(CacheLoadAll.class));
+    }
+
     private long getTtl(final Method method) {
+        return getSetting(method, "ttlms", Long.class,
+                cached -> cached.ttlMilliSeconds() == Cached.DEFAULT_TTL ? null : cached.ttlMilliSeconds(), defaultTtl);
+    }
 
-        final Class<?> returnType = getActualReturnedClass(method);
-        final Optional<Long> ttlConfig = config.getOptionalValue(
-                CONFIG_TEMPLATE.formatted(returnType.getCanonicalName(), "ttlms"), Long.class);
-        if (ttlConfig.isPresent()) {
-            return ttlConfig.get();
+    private CacheSettings getCacheSettings(final Method method) throws CacheException {
+        final CacheSettings settings = CacheSettings.defaults()
+                .withMaxEntries(getSetting(method, "maxentries", Long.class, Cached::maxEntries, CacheSettings.UNBOUNDED))
+                .withMaxWeight(getSetting(method, "maxweight", Long.class, Cached::maxWeight, CacheSettings.UNBOUNDED))
+                .withValueStrength(ReferenceStrength.parse(getSetting(method, "valuestrength", String.class,
+                        cached -> cached.valueStrength().isBlank() ? null : cached.valueStrength(),
+                        ReferenceStrength.STRONG.name())))
+                .withRecordStats(getSetting(method, "recordstats", Boolean.class, Cached::recordStats, Boolean.FALSE))
+                .withRefreshAfter(getSetting(method, "refreshms", Long.class,
+                        Cached::refreshAfterMilliSeconds, CacheSettings.NO_REFRESH))
+                .withStaleIfError(getSetting(method, "staleiferrorms", Long.class,
+                        Cached::staleIfErrorMilliSeconds, CacheSettings.NO_STALE_IF_ERROR))
+                .withNegativeTtl(getSetting(method, "negativettlms", Long.class,
+                        Cached::negativeTtlMilliSeconds, CacheSettings.NO_NEGATIVE_CACHING))
+                .withBatchWindow(getSetting(method, "batchwindowms", Long.class,
+                        Cached::batchWindowMilliSeconds, CacheSettings.NO_BATCHING))
+                .withMaxBatchSize(getSetting(method, "maxbatchsize", Integer.class,
+                        cached -> cached.maxBatchSize() == Cached.DEFAULT_MAX_BATCH_SIZE ? null : cached.maxBatchSize(),
+                        CacheSettings.DEFAULT_MAX_BATCH_SIZE));
+        return settings.isWeighted() ? settings.withWeigher(getWeigher(method)) : settings;
+    }
+
+    /**
+     * Gets a setting of the cached type from config, falling back to its {@link Cached} annotation and then to the default.
+     *
+     * @param method the intercepted method
+     * @param suffix the name of the setting in config, after the canonical name of the cached type
+     * @param type the type of the setting
+     * @param fromAnnotation reads the setting from the annotation, null if the annotation leaves it unset
+     * @param defaultValue the setting if neither config nor the annotation set it
+     *
+     * @return the setting
+     */
+    private <T> T getSetting(final Method method,
+                             final String suffix,
+                             final Class<T> type,
+                             final Function<Cached, T> fromAnnotation,
+                             final T defaultValue) {
+        final Optional<T> settingConfig = config.getOptionalValue(
+                CONFIG_TEMPLATE.formatted(getActualReturnedClass(method).getCanonicalName(), suffix), type);
+        if (settingConfig.isPresent()) {
+            return settingConfig.get();
         }
+        return getCachedAnnotation(method.getReturnType(), method)
+                .map(fromAnnotation)
+                .orElse(defaultValue);
+    }
 
-        final Optional<Cached> optionalCachedAnnotation = getCachedAnnotation(method.getReturnType(), method);
-        return optionalCachedAnnotation
-                .map(Cached::ttlMilliSeconds).filter(ttlMS -> !Long.valueOf(Cached.DEFAULT_TTL).equals(ttlMS))
-                .orElse(defaultTtl);
+    private Weigher<Object, Object> getWeigher(final Method method) throws CacheException {
+        final String weigherName = getSetting(method, "weigher", String.class,
+                cached -> cached.weigher().getName(), Void.class.getName());
+        if (Void.class.getName().equals(weigherName.trim())) {
+            return Weigher.singleton();
+        }
+        try {
+            return instantiateWeigher(Class.forName(weigherName.trim(), true, getActualReturnedClass(method).getClassLoader()));
+        } catch (final ClassNotFoundException e) {
+            throw new CacheException(e);
+        }
+    }
+
+    /**
+     * Gets the shared instance of the weigher class, so that a cache configured again with the same weigher class is configured
+     * with equal settings.
+     */
+    private static Weigher<Object, Object> instantiateWeigher(final Class<?> weigherClass) throws CacheException {
+        if (!Weigher.class.isAssignableFrom(weigherClass)) {
+            throw new CacheException("%s does not implement Weigher", weigherClass.getCanonicalName());
+        }
+        try {
+            return WEIGHERS.get(weigherClass);
+        } catch (final IllegalStateException e) {
+            throw new CacheException(e.getCause());
+        }
     }
 
     private String getCacheName(final Method method) {
@@ -210,7 +974,37 @@ public class AbstractCacheHandler {
                 .orElse(cachedClass.getCanonicalName());
     }
 
-    private Object getCacheKey(final Method method, final Object[] params) throws CacheException {
+    private static int getCacheKeyIndex(final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        if (parameters.length == 1) {
+            return 0;
+        }
+        for (int paramIndex = 0; paramIndex < parameters.length; paramIndex++) {
+            if (parameters[paramIndex].isAnnotationPresent(CacheKey.class) || getElementType(parameters[paramIndex]).isAnnotationPresent(Cached.class)) {
+                return paramIndex;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the type of the parameter, or of its elements if it is an array or a Collection of a declared type, so that
+     * batches of {@link Cached} beans are recognised.
+     */
+    private static Class<?> getElementType(final Parameter parameter) {
+        final Class<?> type = parameter.getType();
+        if (type.isArray()) {
+            return type.getComponentType();
+        }
+        if (Collection.class.isAssignableFrom(type)
+                && parameter.getParameterizedType() instanceof ParameterizedType parameterizedType
+                && parameterizedType.getActualTypeArguments()[0] instanceof Class<?> elementClass) {
+            return elementClass;
+        }
+        return type;
+    }
+
+    private static Object getCacheKey(final Method method, final int keyIndex, final Object[] params) throws CacheException {
 
         if (params == null || params.length == 0) {
             throw new CacheException(
@@ -223,11 +1017,8 @@ public class AbstractCacheHandler {
             return params[0];
         }
 
-        final Parameter[] parameters = method.getParameters();
-        for (int paramIndex = 0; paramIndex < parameters.length; paramIndex++) {
-            if (parameters[paramIndex].isAnnotationPresent(CacheKey.class) || parameters[paramIndex].getType().isAnnotationPresent(Cached.class)) {
-                return params[paramIndex];
-            }
+        if (keyIndex >= 0) {
+            return params[keyIndex];
         }
         throw new CacheException(
                 "No parameter is on annotated with the 'CacheKey' annotation or is a cached bean for method %s in class,"
@@ -248,10 +1039,10 @@ public class AbstractCacheHandler {
 
     private static Optional<Cached> getCachedAnnotation(final Class<?> returnType, final Method method) {
         final Optional<Cached> optionalCachedAnnotation;
-        if (returnType.isAssignableFrom(Optional.class)) {
+        if (isWrapper(returnType, method)) {
             final CachedType cachedTypeAnnotation = method.getAnnotation(CachedType.class);
             if (cachedTypeAnnotation == null) {
-                throw new CacheRuntimeException("CachedType annotation must be present when returning Optionals");
+                throw new CacheRuntimeException("CachedType annotation must be present when returning Optionals or CompletionStages");
             }
             optionalCachedAnnotation = Optional.ofNullable(
                     cachedTypeAnnotation.value().getAnnotation(Cached.class)
@@ -264,34 +1055,6 @@ public class AbstractCacheHandler {
         return optionalCachedAnnotation;
     }
 
-    private Object getKeyFromCachedClass(final Object key) throws CacheException {
-        final Class<?> keyClass = key.getClass();
-        final Field annotatedField = Arrays.stream(keyClass.getDeclaredFields())
-                .filter(field -> field.isAnnotationPresent(CacheKey.class))
-                .findFirst()
-                .orElseThrow(() -> new CacheException("No field is annotated as the CacheKey"));
-
-        final String getterMethodName = keyClass.isRecord()
-                ? annotatedField.getName()
-                : "get%s".formatted(StringUtils.capitalize(annotatedField.getName()));
-
-        final Optional<Method> getterOptional = Arrays.stream(keyClass.getMethods())
-                .filter(method -> method.getName().equals(getterMethodName))
-                .filter(method -> method.getParameters().length == 0)
-                .findFirst();
-
-
-        try {
-            if (getterOptional.isPresent()) {
-                return getterOptional.get().invoke(key);
-            }
-            annotatedField.setAccessible(true); //NOSONAR: java:S3011 - I committed to this at least once with the annotation route
-            return annotatedField.get(key);
-        } catch (final IllegalAccessException | InvocationTargetException e) {
-            throw new CacheException(e);
-        }
-    }
-
     /**
      * Constructs a map of cache names to {@link CacheProvider CacheProviders}.
      *
@@ -306,4 +1069,11 @@ public class AbstractCacheHandler {
         ));
     }
 
+    /**
+     * Resolves the {@link CachePlan} for a method, allowing for checked exceptions.
+     */
+    @FunctionalInterface
+    private interface PlanResolver {
+        CachePlan resolve(Method method) throws CacheException;
+    }
 }
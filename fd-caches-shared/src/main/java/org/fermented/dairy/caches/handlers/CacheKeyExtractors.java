@@ -0,0 +1,105 @@
+package org.fermented.dairy.caches.handlers;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+import org.fermented.dairy.caches.api.exceptions.CacheException;
+
+/**
+ * Extracts cache keys from {@link Cached} beans using the member annotated with {@link CacheKey}.
+ * The extractor for a class is built once, using a method handle to the record accessor, the bean getter or the field.
+ */
+final class CacheKeyExtractors {
+
+    private static final MethodType EXTRACTOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<KeyExtractor> EXTRACTORS = new ClassValue<>() {
+        @Override
+        protected KeyExtractor computeValue(final Class<?> type) {
+            return createExtractor(type);
+        }
+    };
+
+    private CacheKeyExtractors() {
+    }
+
+    /**
+     * Gets the cache key for the object passed in.
+     *
+     * @param key the key object, or the cached bean containing the key
+     *
+     * @return the value of the {@link CacheKey} member if the object is a {@link Cached} bean, otherwise the object itself.
+     *
+     * @throws CacheException if the cached bean has no {@link CacheKey} member or the member could not be read
+     */
+    static Object extractKey(final Object key) throws CacheException {
+        return EXTRACTORS.get(key.getClass()).extract(key);
+    }
+
+    private static KeyExtractor createExtractor(final Class<?> keyClass) {
+        if (!keyClass.isAnnotationPresent(Cached.class)) {
+            return key -> key;
+        }
+
+        final Optional<Field> annotatedFieldOptional = Arrays.stream(keyClass.getDeclaredFields())
+                .filter(field -> field.isAnnotationPresent(CacheKey.class))
+                .findFirst();
+        if (annotatedFieldOptional.isEmpty()) {
+            return key -> {
+                throw new CacheException("No field is annotated as the CacheKey");
+            };
+        }
+        final Field annotatedField = annotatedFieldOptional.get();
+
+        final String getterMethodName = keyClass.isRecord()
+                ? annotatedField.getName()
+                : "get%s".formatted(StringUtils.capitalize(annotatedField.getName()));
+
+        final Optional<Method> getterOptional = Arrays.stream(keyClass.getMethods())
+                .filter(method -> method.getName().equals(getterMethodName))
+                .filter(method -> method.getParameters().length == 0)
+                .findFirst();
+
+        //method handle lookups, unlike core reflection, require the cached bean's module to be read explicitly
+        CacheKeyExtractors.class.getModule().addReads(keyClass.getModule());
+        final MethodHandle handle;
+        try {
+            handle = getterOptional.isPresent()
+                    ? MethodHandles.lookup().unreflect(getterOptional.get())
+                    : fieldHandle(annotatedField);
+        } catch (final IllegalAccessException | RuntimeException e) {
+            return key -> {
+                throw new CacheException(e);
+            };
+        }
+        final MethodHandle extractorHandle = handle.asType(EXTRACTOR_TYPE);
+
+        return key -> {
+            try {
+                return (Object) extractorHandle.invokeExact(key);
+            } catch (final Throwable e) {
+                throw new CacheException(e);
+            }
+        };
+    }
+
+    private static MethodHandle fieldHandle(final Field annotatedField) throws IllegalAccessException {
+        annotatedField.setAccessible(true); //NOSONAR: java:S3011 - I committed to this at least once with the annotation route
+        return MethodHandles.lookup().unreflectGetter(annotatedField);
+    }
+
+    /**
+     * Extracts the cache key from a cached bean, allowing for checked exceptions.
+     */
+    @FunctionalInterface
+    private interface KeyExtractor {
+        Object extract(Object key) throws CacheException;
+    }
+}
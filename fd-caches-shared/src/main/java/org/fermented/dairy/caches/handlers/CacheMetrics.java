@@ -0,0 +1,34 @@
+package org.fermented.dairy.caches.handlers;
+
+import java.lang.reflect.Method;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheSettings;
+
+/**
+ * Registers meters for the caches and intercepted methods used by a cache handler.
+ * Meters are registered once, when the caching configuration for an intercepted method is resolved, the per cache meters
+ * should read the provider's {@link CacheProvider#getStats(String) statistics} when they are scraped so that nothing is
+ * added to the cache's hot path.
+ */
+public interface CacheMetrics {
+
+    /**
+     * Registers the meters for a cache. May be called more than once for the same cache, once per intercepted method using it.
+     *
+     * @param provider the provider holding the cache
+     * @param cacheName the name of the cache
+     * @param settings the settings the cache has been configured with
+     */
+    void registerCache(CacheProvider provider, String cacheName, CacheSettings settings);
+
+    /**
+     * Registers the timers for an intercepted method.
+     *
+     * @param method the intercepted method
+     * @param provider the provider holding the cache
+     * @param cacheName the name of the cache
+     *
+     * @return the timer invocations of the method are recorded with.
+     */
+    InvocationTimer registerMethod(Method method, CacheProvider provider, String cacheName);
+}
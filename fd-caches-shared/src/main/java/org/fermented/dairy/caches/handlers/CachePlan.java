@@ -0,0 +1,41 @@
+package org.fermented.dairy.caches.handlers;
+
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+
+/**
+ * Immutable caching metadata for an intercepted method, resolved from config and annotations once per method.
+ *
+ * @param disabled true if caching has been disabled in config for the cached type
+ * @param provider the {@link CacheProvider} used for the cached type
+ * @param cacheName the cache name used for the cached type
+ * @param ttlMilliSeconds the time to live in milliseconds
+ * @param keyIndex the index of the cache key parameter, -1 if it could not be determined
+ * @param keyBatch true if the cache key parameter is declared as an array or Collection of keys or cached beans, each removed
+ *                 by a delete, rather than as a single key
+ * @param valueClass the cached class, unwrapped from the Optional or CompletionStage if applicable
+ * @param optional true if the intercepted method returns an Optional
+ * @param async true if the intercepted method returns a CompletionStage
+ * @param timer records the time spent in the cache and the intercepted method, null if metrics are not recorded
+ */
+record CachePlan(boolean disabled,
+                 CacheProvider provider,
+                 String cacheName,
+                 long ttlMilliSeconds,
+                 int keyIndex,
+                 boolean keyBatch,
+                 Class<?> valueClass,
+                 boolean optional,
+                 boolean async,
+                 InvocationTimer timer) {
+
+    private static final CachePlan DISABLED = new CachePlan(true, null, null, 0L, -1, false, null, false, false, null);
+
+    /**
+     * Plan for methods with caching disabled, the intercepted method is always invoked.
+     *
+     * @return the disabled plan.
+     */
+    static CachePlan disabledPlan() {
+        return DISABLED;
+    }
+}
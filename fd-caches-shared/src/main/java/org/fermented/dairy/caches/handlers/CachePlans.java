@@ -0,0 +1,24 @@
+package org.fermented.dairy.caches.handlers;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The caching metadata resolved for intercepted methods by {@link AbstractCacheHandler AbstractCacheHandlers}.
+ * Handlers created with the same instance resolve each method once between them, e.g. the {@code @Dependent} CDI interceptors
+ * created for every intercepted bean instance share the instance produced for the application. The plans are held by the
+ * instance only, they are discarded with it when the application is stopped.
+ * A plan depends on the config, providers and metrics of the handler that resolved it, so handlers sharing an instance must be
+ * created with the same ones.
+ */
+public final class CachePlans {
+
+    final Map<Method, CachePlan> loadPlans = new ConcurrentHashMap<>();
+
+    final Map<Method, CachePlan> loadAllPlans = new ConcurrentHashMap<>();
+
+    final Map<Method, CachePlan> deletePlans = new ConcurrentHashMap<>();
+
+    final Map<Method, CachePlan> putPlans = new ConcurrentHashMap<>();
+}
@@ -0,0 +1,59 @@
+package org.fermented.dairy.caches.handlers;
+
+import java.util.Objects;
+import org.fermented.dairy.caches.api.interfaces.CacheProvider;
+import org.fermented.dairy.caches.api.records.CacheStats;
+
+/**
+ * Reads a cache's statistics for the meters registered by {@link CacheMetrics} implementations.
+ * A scrape reads every meter of a cache one after the other, the snapshot is reused for a second so that a scrape takes
+ * a single snapshot per cache rather than one per meter.
+ */
+public final class CacheStatsSampler {
+
+    private static final long MAX_AGE_NANOS = 1_000_000_000L;
+
+    private final CacheProvider provider;
+
+    private final String cacheName;
+
+    private volatile Sample sample;
+
+    /**
+     * Constructor.
+     *
+     * @param provider the provider holding the cache
+     * @param cacheName the name of the cache
+     */
+    public CacheStatsSampler(final CacheProvider provider, final String cacheName) {
+        this.provider = Objects.requireNonNull(provider);
+        this.cacheName = Objects.requireNonNull(cacheName);
+    }
+
+    /**
+     * The cache's statistics, taken at most a second ago.
+     *
+     * @return the statistics, {@link CacheStats#empty()} if the cache does not exist or is not recording statistics.
+     */
+    public CacheStats stats() {
+        final long now = System.nanoTime();
+        Sample current;
+        if ((current = sample) == null || now - current.sampledAt() > MAX_AGE_NANOS) {
+            current = new Sample(provider.getStats(cacheName).orElseGet(CacheStats::empty), now);
+            sample = current;
+        }
+        return current.stats();
+    }
+
+    /**
+     * The current total weight of the entries.
+     *
+     * @return the weight, NaN if the cache is not bounded by weight.
+     */
+    public double weight() {
+        final long weight = stats().weight();
+        return weight == CacheStats.NOT_WEIGHTED ? Double.NaN : weight;
+    }
+
+    private record Sample(CacheStats stats, long sampledAt) {}
+}
@@ -0,0 +1,23 @@
+package org.fermented.dairy.caches.handlers;
+
+/**
+ * Records the time taken by an intercepted method, split between the time spent in the cache and, on a cache miss,
+ * the time spent in the intercepted method itself.
+ */
+public interface InvocationTimer {
+
+    /**
+     * Records an invocation served from the cache, the intercepted method was not invoked.
+     *
+     * @param cacheNanos the time spent in the cache in nanoseconds
+     */
+    void recordCached(long cacheNanos);
+
+    /**
+     * Records an invocation that invoked the intercepted method.
+     *
+     * @param cacheNanos the time spent in the cache, excluding the intercepted method, in nanoseconds
+     * @param methodNanos the time spent in the intercepted method in nanoseconds
+     */
+    void recordInvoked(long cacheNanos, long methodNanos);
+}
@@ -0,0 +1,70 @@
+package org.fermented.dairy.caches.handlers.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event for a cache miss, its duration is the time spent in the loader.
+ * Emitted around the intercepted method by the CDI interceptor and Spring aspect, whichever provider backs the cache.
+ */
+@Name("org.fermented.dairy.caches.CacheLoad")
+@Label("Cache Load")
+@Category({"Fermented Dairy", "Caches"})
+@Description("A cache miss, the duration is the time spent loading the value")
+@StackTrace(false)
+public class CacheLoadEvent extends Event {
+
+    @Label("Provider")
+    private String providerName;
+
+    @Label("Cache")
+    private String cacheName;
+
+    @Label("Key Type")
+    private Class<?> keyType;
+
+    @Label("Declaring Class")
+    @Description("The class declaring the method invoked to load the value")
+    private Class<?> declaringClass;
+
+    @Label("Method")
+    @Description("The method invoked to load the value")
+    private String methodName;
+
+    @Label("Loaded")
+    @Description("True if a value was loaded, false if the loader returned no value or threw an exception")
+    private boolean loaded;
+
+    /**
+     * Ends the event and commits it, if it is enabled and lasted longer than its threshold.
+     *
+     * @param providerName the name of the cache provider
+     * @param cacheName the name of the cache
+     * @param keyType the type of the cache key
+     * @param declaringClass the class declaring the method invoked to load the value
+     * @param methodName the name of the method invoked to load the value
+     * @param loaded true if a value was loaded
+     */
+    public void record(final String providerName,
+                       final String cacheName,
+                       final Class<?> keyType,
+                       final Class<?> declaringClass,
+                       final String methodName,
+                       final boolean loaded) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.providerName = providerName;
+        this.cacheName = cacheName;
+        this.keyType = keyType;
+        this.declaringClass = declaringClass;
+        this.methodName = methodName;
+        this.loaded = loaded;
+        commit();
+    }
+}
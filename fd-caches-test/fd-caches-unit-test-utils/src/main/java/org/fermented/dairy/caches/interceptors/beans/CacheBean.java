@@ -1,13 +1,33 @@
 package org.fermented.dairy.caches.interceptors.beans;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.fermented.dairy.caches.annotations.CacheDelete;
 import org.fermented.dairy.caches.annotations.CacheKey;
 import org.fermented.dairy.caches.annotations.CacheLoad;
+import org.fermented.dairy.caches.annotations.CacheLoadAll;
+import org.fermented.dairy.caches.annotations.CachePut;
 import org.fermented.dairy.caches.annotations.CachedType;
+import org.fermented.dairy.caches.interceptors.entities.BatchCacheRecord;
 import org.fermented.dairy.caches.interceptors.entities.CacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.CompositeKeyRecord;
 import org.fermented.dairy.caches.interceptors.entities.DefaultCacheEntityClass;
+import org.fermented.dairy.caches.interceptors.entities.GetterCachedBean;
 import org.fermented.dairy.caches.interceptors.entities.NamedCachedBean;
+import org.fermented.dairy.caches.interceptors.entities.NegativeCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.RefreshCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.SoftCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.StaleCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.StatsCacheRecord;
+import org.fermented.dairy.caches.interceptors.entities.WeightedCacheRecord;
 
 @SuppressWarnings({"MissingJavadoc", "unused", "LocalCanBeFinal"})
 public class CacheBean {
@@ -56,6 +76,58 @@ public class CacheBean {
         return Optional.of(new DefaultCacheEntityClass(param));
     }
 
+    @CacheLoad
+    public WeightedCacheRecord weightedLoad(final Long param) {
+        return new WeightedCacheRecord(param, "value " + param);
+    }
+
+    @CacheLoad
+    public SoftCacheRecord softLoad(final Long param) {
+        return new SoftCacheRecord(param);
+    }
+
+    @CacheLoad
+    public StatsCacheRecord statsLoad(final Long param) {
+        return new StatsCacheRecord(param);
+    }
+
+    @CacheLoad
+    public RefreshCacheRecord refreshLoad(final Long param) {
+        return new RefreshCacheRecord(param);
+    }
+
+    @CacheLoad
+    public StaleCacheRecord staleLoad(final Long param) {
+        return new StaleCacheRecord(param);
+    }
+
+    @CacheLoad
+    public NegativeCacheRecord negativeLoad(final Long param) {
+        return new NegativeCacheRecord(param);
+    }
+
+    @CacheLoad
+    public BatchCacheRecord batchLoad(final Long param) {
+        return new BatchCacheRecord(param);
+    }
+
+    @CacheLoad
+    @CachedType(DefaultCacheEntityClass.class)
+    public CompletableFuture<DefaultCacheEntityClass> defaultAsyncLoad(final Long param) {
+        return CompletableFuture.completedFuture(new DefaultCacheEntityClass(param));
+    }
+
+    @CacheLoad
+    @CachedType(DefaultCacheEntityClass.class)
+    public CompletionStage<DefaultCacheEntityClass> defaultStageLoad(final Long param) {
+        return CompletableFuture.completedFuture(new DefaultCacheEntityClass(param));
+    }
+
+    @CacheLoad
+    public CompletableFuture<DefaultCacheEntityClass> asyncLoadWithoutCachedType(final Long param) {
+        return CompletableFuture.completedFuture(new DefaultCacheEntityClass(param));
+    }
+
     @CacheLoad
     public DefaultCacheEntityClass defaultLoad() {
         return new DefaultCacheEntityClass(1L);
@@ -67,6 +139,35 @@ public class CacheBean {
         //No Op
     }
 
+    @CacheLoadAll
+    @CachedType(DefaultCacheEntityClass.class)
+    public Map<Long, DefaultCacheEntityClass> defaultLoadAll(final Collection<Long> params) {
+        return params.stream().collect(Collectors.toMap(Function.identity(), DefaultCacheEntityClass::new));
+    }
+
+    @CacheLoadAll
+    @CachedType(NamedCachedBean.class)
+    public Map<Long, NamedCachedBean> namedLoadAll(final Long[] params) {
+        return Arrays.stream(params).collect(Collectors.toMap(Function.identity(), NamedCachedBean::new));
+    }
+
+    @CacheLoadAll
+    @CachedType(DefaultCacheEntityClass.class)
+    public Map<Long, DefaultCacheEntityClass> defaultLoadAll(final Object ignoredDummy, @CacheKey final Set<Long> params) {
+        return params.stream().collect(Collectors.toMap(Function.identity(), DefaultCacheEntityClass::new));
+    }
+
+    @CacheLoadAll
+    public Map<Long, DefaultCacheEntityClass> loadAllWithoutCachedType(final Collection<Long> params) {
+        return Map.of();
+    }
+
+    @CacheLoadAll
+    @CachedType(DefaultCacheEntityClass.class)
+    public List<DefaultCacheEntityClass> listLoadAll(final Collection<Long> params) {
+        return List.of();
+    }
+
     @CacheDelete
     @CachedType(DefaultCacheEntityClass.class)
     public DefaultCacheEntityClass deleteDefault(Long key) {
@@ -132,4 +233,69 @@ public class CacheBean {
     public DefaultCacheEntityClass deleteRecord(Long ignoredDummy, CacheRecord toDelete) {
         return null;
     }
+
+    @CacheDelete
+    public GetterCachedBean deleteGetter(GetterCachedBean toDelete) {
+        return null;
+    }
+
+    @CacheDelete
+    @CachedType(DefaultCacheEntityClass.class)
+    public DefaultCacheEntityClass deleteAllDefault(Collection<Long> keys) {
+        return null;
+    }
+
+    @CacheDelete
+    @CachedType(NamedCachedBean.class)
+    public NamedCachedBean deleteAllNamed(Object ignoredDummy, @CacheKey Long[] keys) {
+        return null;
+    }
+
+    @CacheDelete
+    @CachedType(CompositeKeyRecord.class)
+    public CompositeKeyRecord deleteComposite(final List<String> key) {
+        return null;
+    }
+
+    @CacheDelete
+    public DefaultCacheEntityClass deleteAllRecords(List<CacheRecord> toDelete) {
+        return null;
+    }
+
+    @CacheDelete
+    public DefaultCacheEntityClass deleteAllRecords(Long ignoredDummy, CacheRecord[] toDelete) {
+        return null;
+    }
+
+    @CachePut
+    public DefaultCacheEntityClass putDefault(Long key) {
+        return new DefaultCacheEntityClass(key);
+    }
+
+    @CachePut
+    public NamedCachedBean putNamed(Object ignoredDummy, @CacheKey Long key) {
+        return new NamedCachedBean(key);
+    }
+
+    @CachePut
+    public CacheRecord putRecord(CacheRecord toSave) {
+        return toSave;
+    }
+
+    @CachePut
+    public DefaultCacheEntityClass createDefault(String ignoredPayload, Long ignoredOwner) {
+        return new DefaultCacheEntityClass(1L);
+    }
+
+    @CachePut
+    @CachedType(DefaultCacheEntityClass.class)
+    public Optional<DefaultCacheEntityClass> putOptional(Long key) {
+        return Optional.of(new DefaultCacheEntityClass(key));
+    }
+
+    @CachePut
+    @CachedType(DefaultCacheEntityClass.class)
+    public CompletableFuture<DefaultCacheEntityClass> putAsync(Long key) {
+        return CompletableFuture.completedFuture(new DefaultCacheEntityClass(key));
+    }
 }
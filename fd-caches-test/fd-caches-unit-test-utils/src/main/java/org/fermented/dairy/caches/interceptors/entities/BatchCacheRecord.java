@@ -0,0 +1,8 @@
+package org.fermented.dairy.caches.interceptors.entities;
+
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+
+@SuppressWarnings("MissingJavadoc")
+@Cached(batchWindowMilliSeconds = 2, maxBatchSize = 50)
+public record BatchCacheRecord(@CacheKey Long id) {}
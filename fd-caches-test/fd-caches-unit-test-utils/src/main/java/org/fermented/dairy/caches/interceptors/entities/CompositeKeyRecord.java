@@ -0,0 +1,9 @@
+package org.fermented.dairy.caches.interceptors.entities;
+
+import java.util.List;
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+
+@SuppressWarnings("MissingJavadoc")
+@Cached
+public record CompositeKeyRecord(@CacheKey List<String> key) {}
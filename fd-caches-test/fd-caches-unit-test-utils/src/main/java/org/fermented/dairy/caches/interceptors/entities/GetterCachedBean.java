@@ -0,0 +1,20 @@
+package org.fermented.dairy.caches.interceptors.entities;
+
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+
+@SuppressWarnings("MissingJavadoc")
+@Cached
+public class GetterCachedBean {
+
+    @CacheKey
+    private final Long id;
+
+    public GetterCachedBean(final Long id) {
+        this.id = id;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,8 @@
+package org.fermented.dairy.caches.interceptors.entities;
+
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+
+@SuppressWarnings("MissingJavadoc")
+@Cached(ttlMilliSeconds = 60000, refreshAfterMilliSeconds = 30000)
+public record RefreshCacheRecord(@CacheKey Long id) {}
@@ -0,0 +1,8 @@
+package org.fermented.dairy.caches.interceptors.entities;
+
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+
+@SuppressWarnings("MissingJavadoc")
+@Cached(maxEntries = 100L, valueStrength = "soft")
+public record SoftCacheRecord(@CacheKey Long id) {}
@@ -0,0 +1,8 @@
+package org.fermented.dairy.caches.interceptors.entities;
+
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+
+@SuppressWarnings("MissingJavadoc")
+@Cached(staleIfErrorMilliSeconds = 300000)
+public record StaleCacheRecord(@CacheKey Long id) {}
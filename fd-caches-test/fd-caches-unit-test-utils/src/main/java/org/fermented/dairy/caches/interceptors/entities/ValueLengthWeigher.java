@@ -0,0 +1,12 @@
+package org.fermented.dairy.caches.interceptors.entities;
+
+import org.fermented.dairy.caches.api.functions.Weigher;
+
+@SuppressWarnings("MissingJavadoc")
+public class ValueLengthWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(final Object key, final Object value) {
+        return ((WeightedCacheRecord) value).value().length();
+    }
+}
@@ -0,0 +1,8 @@
+package org.fermented.dairy.caches.interceptors.entities;
+
+import org.fermented.dairy.caches.annotations.CacheKey;
+import org.fermented.dairy.caches.annotations.Cached;
+
+@SuppressWarnings("MissingJavadoc")
+@Cached(maxWeight = 1000L, weigher = ValueLengthWeigher.class)
+public record WeightedCacheRecord(@CacheKey Long id, String value) {}